@@ -0,0 +1,53 @@
+package JOBKOREA.AI_Challenge.benchmark;
+
+import JOBKOREA.AI_Challenge.service.GenerationResponseParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학습 경로 응답의 검증/파싱/DTO 매핑 비용 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LearningPathParsingBenchmark {
+    
+    @Param({"learning-path.json", "learning-path-truncated.json"})
+    public String response;
+    
+    private LegacyResponseParser legacyParser;
+    private GenerationResponseParser streamingParser;
+    private String content;
+    
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        legacyParser = new LegacyResponseParser(objectMapper);
+        streamingParser = new GenerationResponseParser(objectMapper);
+        content = RecordedResponses.load(response);
+    }
+    
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        try {
+            blackhole.consume(legacyParser.parseLearningPath(content));
+        } catch (Exception e) {
+            blackhole.consume(e);
+        }
+    }
+    
+    @Benchmark
+    public Object streaming() {
+        return streamingParser.parseLearningPath(content);
+    }
+}
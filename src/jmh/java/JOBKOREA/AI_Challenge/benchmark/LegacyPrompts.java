@@ -0,0 +1,89 @@
+package JOBKOREA.AI_Challenge.benchmark;
+
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+
+/**
+ * 비교 기준용 기존 프롬프트 생성 방식 (요청마다 텍스트 블록 형식 문자열을 String.format으로 해석)
+ */
+final class LegacyPrompts {
+    
+    private LegacyPrompts() {
+    }
+    
+    static String createInterviewQuestionsPrompt(ResumeRequestDto resumeRequest) {
+        return String.format("""
+            이력서 기반 면접 질문 5개 생성 (응답은 3000자 이하):
+            경력: %s
+            직무: %s
+            기술: %s
+            추가: %s
+            
+            요구사항:
+            - 기술적 역량, 프로젝트 경험, 문제 해결, 팀워크, 성장 동기 카테고리
+            - 난이도: 초급/중급/고급
+            - 각 질문에 예상 답변과 팁 포함
+            - 응답은 3000자 이하로 간결하게 작성
+            - 핵심 내용을 우선으로 하고, 불필요한 설명은 생략
+            
+            완전한 JSON 응답 필수:
+            {
+              "questions": [
+                {
+                  "question": "질문",
+                  "category": "카테고리",
+                  "difficulty": "난이도",
+                  "expectedAnswer": "예상 답변",
+                  "tips": "팁"
+                }
+              ],
+              "analysis": "분석"
+            }
+            
+            중요: JSON 형식이 완전해야 하며, 응답이 중간에 끊기지 않도록 주의해주세요.
+            """, 
+            resumeRequest.getCareerSummary(),
+            resumeRequest.getJobDescription(),
+            resumeRequest.getTechnicalSkills(),
+            resumeRequest.getAdditionalInfo() != null ? resumeRequest.getAdditionalInfo() : "없음"
+        );
+    }
+    
+    static String createLearningPathPrompt(ResumeRequestDto resumeRequest) {
+        return String.format("""
+            이력서 기반 맞춤형 학습 경로 제안 (응답은 3000자 이하):
+            경력: %s
+            직무: %s
+            기술: %s
+            추가: %s
+            
+            요구사항:
+            - 현재 역량 분석 및 개선점 파악
+            - 기술 스택 심화, 프로젝트 경험, 커뮤니케이션 스킬 강화 방안
+            - 우선순위와 예상 소요 시간 포함
+            - 실현 가능한 현실적 가이드
+            - 응답은 3000자 이하로 간결하게 작성
+            - 구체적이고 실용적인 내용 위주로 작성
+            
+            완전한 JSON 응답 필수:
+            {
+              "summary": "전체 요약",
+              "learningSteps": [
+                {
+                  "step": "단계명",
+                  "description": "상세 설명",
+                  "priority": "우선순위",
+                  "resources": "학습 자료 및 방법"
+                }
+              ],
+              "estimatedDuration": "전체 예상 소요 시간"
+            }
+            
+            중요: JSON 형식이 완전해야 하며, 응답이 중간에 끊기지 않도록 주의해주세요.
+            """,
+            resumeRequest.getCareerSummary(),
+            resumeRequest.getJobDescription(),
+            resumeRequest.getTechnicalSkills(),
+            resumeRequest.getAdditionalInfo() != null ? resumeRequest.getAdditionalInfo() : "없음"
+        );
+    }
+}
@@ -0,0 +1,112 @@
+package JOBKOREA.AI_Challenge.benchmark;
+
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.LearningPathResponseDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 비교 기준용 기존 파싱 경로
+ * trim 후 문자 배열을 만들어 중괄호 균형과 길이를 검사하고, JsonNode 트리를 만든 뒤 DTO로 옮기던 방식입니다.
+ */
+final class LegacyResponseParser {
+    
+    private final ObjectMapper objectMapper;
+    
+    LegacyResponseParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+    
+    InterviewQuestionsResponseDto parseInterviewQuestions(String response) throws Exception {
+        JsonNode jsonNode = validateAndRead(response);
+        List<InterviewQuestionsResponseDto.QuestionDto> questions = new ArrayList<>();
+        
+        JsonNode questionsNode = jsonNode.get("questions");
+        if (questionsNode != null && questionsNode.isArray()) {
+            for (JsonNode questionNode : questionsNode) {
+                questions.add(InterviewQuestionsResponseDto.QuestionDto.builder()
+                        .question(getSafeText(questionNode, "question"))
+                        .category(getSafeText(questionNode, "category"))
+                        .difficulty(getSafeText(questionNode, "difficulty"))
+                        .expectedAnswer(getSafeText(questionNode, "expectedAnswer"))
+                        .tips(getSafeText(questionNode, "tips"))
+                        .build());
+            }
+        }
+        if (questions.isEmpty()) {
+            throw new RuntimeException("AI 서비스에서 질문을 생성하지 못했습니다.");
+        }
+        
+        String analysis = jsonNode.has("analysis") ? jsonNode.get("analysis").asText() : "";
+        return InterviewQuestionsResponseDto.builder()
+                .questions(questions)
+                .analysis(analysis)
+                .build();
+    }
+    
+    LearningPathResponseDto parseLearningPath(String response) throws Exception {
+        JsonNode jsonNode = validateAndRead(response);
+        
+        String summary = jsonNode.has("summary") ? jsonNode.get("summary").asText() : "";
+        String estimatedDuration = jsonNode.has("estimatedDuration") ? jsonNode.get("estimatedDuration").asText() : "";
+        
+        List<LearningPathResponseDto.LearningStepDto> learningSteps = new ArrayList<>();
+        JsonNode stepsNode = jsonNode.get("learningSteps");
+        if (stepsNode != null && stepsNode.isArray()) {
+            for (JsonNode stepNode : stepsNode) {
+                learningSteps.add(LearningPathResponseDto.LearningStepDto.builder()
+                        .step(getSafeText(stepNode, "step"))
+                        .description(getSafeText(stepNode, "description"))
+                        .priority(getSafeText(stepNode, "priority"))
+                        .resources(getSafeText(stepNode, "resources"))
+                        .build());
+            }
+        }
+        if (learningSteps.isEmpty()) {
+            throw new RuntimeException("AI 서비스에서 학습 단계를 생성하지 못했습니다.");
+        }
+        
+        return LearningPathResponseDto.builder()
+                .learningSteps(learningSteps)
+                .summary(summary)
+                .estimatedDuration(estimatedDuration)
+                .build();
+    }
+    
+    private JsonNode validateAndRead(String response) throws Exception {
+        if (response == null || response.trim().isEmpty()) {
+            throw new RuntimeException("AI 서비스 응답이 비어있습니다.");
+        }
+        
+        String trimmedResponse = response.trim();
+        if (!trimmedResponse.startsWith("{") || !trimmedResponse.endsWith("}")) {
+            throw new RuntimeException("AI 서비스 응답 형식에 문제가 있습니다.");
+        }
+        
+        int openBraces = 0, closeBraces = 0;
+        for (char c : trimmedResponse.toCharArray()) {
+            if (c == '{') openBraces++;
+            if (c == '}') closeBraces++;
+        }
+        if (openBraces != closeBraces) {
+            throw new RuntimeException("AI 서비스 응답이 완전하지 않습니다.");
+        }
+        
+        if (trimmedResponse.length() > 3000) {
+            throw new RuntimeException("AI 서비스 응답이 너무 깁니다.");
+        }
+        
+        return objectMapper.readTree(response);
+    }
+    
+    private String getSafeText(JsonNode node, String fieldName) {
+        JsonNode fieldNode = node.get(fieldName);
+        if (fieldNode != null && !fieldNode.isNull()) {
+            return fieldNode.asText();
+        }
+        return "정보 없음";
+    }
+}
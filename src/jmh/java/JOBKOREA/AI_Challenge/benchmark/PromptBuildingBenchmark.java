@@ -0,0 +1,86 @@
+package JOBKOREA.AI_Challenge.benchmark;
+
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.service.PromptTemplate;
+import JOBKOREA.AI_Challenge.service.PromptTemplateRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프롬프트 생성 비용 측정 - 기존 String.format 방식과 미리 컴파일된 템플릿 비교
+ * typical은 일반적인 입력, max는 ResumeRequestDto 검증 한도(총 4500자)를 채운 입력입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PromptBuildingBenchmark {
+    
+    @Param({"typical", "max"})
+    public String input;
+    
+    private PromptTemplate interviewQuestionsTemplate;
+    private PromptTemplate learningPathTemplate;
+    private ResumeRequestDto resumeRequest;
+    
+    @Setup
+    public void setUp() {
+        PromptTemplateRegistry registry = new PromptTemplateRegistry("v1", "v1", "v1");
+        interviewQuestionsTemplate = registry.interviewQuestions();
+        learningPathTemplate = registry.learningPath();
+        resumeRequest = "max".equals(input) ? maxResume() : typicalResume();
+    }
+    
+    @Benchmark
+    public String legacyInterviewQuestionsPrompt() {
+        return LegacyPrompts.createInterviewQuestionsPrompt(resumeRequest);
+    }
+    
+    @Benchmark
+    public String templateInterviewQuestionsPrompt() {
+        return interviewQuestionsTemplate.render(resumeRequest);
+    }
+    
+    @Benchmark
+    public String legacyLearningPathPrompt() {
+        return LegacyPrompts.createLearningPathPrompt(resumeRequest);
+    }
+    
+    @Benchmark
+    public String templateLearningPathPrompt() {
+        return learningPathTemplate.render(resumeRequest);
+    }
+    
+    private static ResumeRequestDto typicalResume() {
+        return ResumeRequestDto.builder()
+                .careerSummary("3년차 백엔드 개발자")
+                .jobDescription("Spring Boot/MSA/Python 기반 커머스 서비스 개발")
+                .technicalSkills("Java, Spring Boot, MSA, Python, AWS EC2")
+                .additionalInfo("AWS EC2 운영 경험 보유")
+                .build();
+    }
+    
+    private static ResumeRequestDto maxResume() {
+        return ResumeRequestDto.builder()
+                .careerSummary(repeat("5년차 백엔드 개발자, 대규모 커머스 트래픽 처리 경험. ", 1000))
+                .jobDescription(repeat("주문/결제 도메인 MSA 설계 및 운영, 장애 대응 자동화. ", 1000))
+                .technicalSkills(repeat("Java, Spring Boot, JPA, Kafka, Redis, MySQL, AWS, ", 2000))
+                .additionalInfo(repeat("사내 기술 세미나 발표 및 오픈소스 기여. ", 500))
+                .build();
+    }
+    
+    private static String repeat(String unit, int maxLength) {
+        StringBuilder builder = new StringBuilder(maxLength);
+        while (builder.length() + unit.length() <= maxLength) {
+            builder.append(unit);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,26 @@
+package JOBKOREA.AI_Challenge.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 벤치마크용으로 기록해 둔 OpenAI 응답 (src/jmh/resources/responses)
+ */
+final class RecordedResponses {
+    
+    private RecordedResponses() {
+    }
+    
+    static String load(String name) {
+        try (InputStream in = RecordedResponses.class.getResourceAsStream("/responses/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("기록된 응답이 없습니다: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package JOBKOREA.AI_Challenge.benchmark;
+
+import JOBKOREA.AI_Challenge.service.GenerationResponseParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 면접 질문 응답의 검증/파싱/DTO 매핑 비용 측정
+ * 기존 경로(검증 + JsonNode 트리)와 단일 패스 토큰 스트림 파서를 기록된 응답별로 비교합니다.
+ * 잘린/3000자 초과/코드 블록 응답은 기존 경로에서 예외로 끝나므로 예외 생성 비용까지 포함됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResponseParsingBenchmark {
+    
+    @Param({
+            "interview-questions.json",
+            "interview-questions-truncated.json",
+            "interview-questions-oversized.json",
+            "interview-questions-fenced.json"
+    })
+    public String response;
+    
+    private LegacyResponseParser legacyParser;
+    private GenerationResponseParser streamingParser;
+    private String content;
+    
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        legacyParser = new LegacyResponseParser(objectMapper);
+        streamingParser = new GenerationResponseParser(objectMapper);
+        content = RecordedResponses.load(response);
+    }
+    
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        try {
+            blackhole.consume(legacyParser.parseInterviewQuestions(content));
+        } catch (Exception e) {
+            blackhole.consume(e);
+        }
+    }
+    
+    @Benchmark
+    public Object streaming() {
+        return streamingParser.parseInterviewQuestions(content);
+    }
+}
@@ -0,0 +1,121 @@
+package JOBKOREA.AI_Challenge.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OpenAI 호출용 작업 실행기 생성
+ * spring.threads.virtual.enabled 설정에 따라 플랫폼 스레드 풀 또는 가상 스레드 실행기를 만들며,
+ * 어느 모드든 동시 작업 수에 상한을 두어 초과 시 RejectedExecutionException으로 즉시 거절합니다.
+ */
+@Component
+@Slf4j
+public class BoundedExecutorFactory {
+    
+    private final boolean virtualThreads;
+    
+    public BoundedExecutorFactory(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+    
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+    
+    /**
+     * @param name          스레드 이름 접두사
+     * @param poolSize      플랫폼 스레드 모드의 스레드 수
+     * @param queueCapacity 플랫폼 스레드 모드의 대기열 크기
+     *                      (가상 스레드 모드에서는 poolSize + queueCapacity 개까지 동시에 실행)
+     */
+    public ExecutorService create(String name, int poolSize, int queueCapacity) {
+        if (virtualThreads) {
+            log.info("{} 실행기: 가상 스레드 모드 (최대 동시 작업 {}개)", name, poolSize + queueCapacity);
+            return new BoundedVirtualThreadExecutor(name, poolSize + queueCapacity);
+        }
+        
+        log.info("{} 실행기: 플랫폼 스레드 모드 (스레드 {}개, 대기열 {}개)", name, poolSize, queueCapacity);
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+    
+    /**
+     * 작업마다 가상 스레드를 생성하되 세마포어로 동시 실행 수를 제한하는 실행기
+     */
+    static class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+        
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+        
+        BoundedVirtualThreadExecutor(String name, int maxConcurrency) {
+            this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-vt-", 1).factory());
+            this.permits = new Semaphore(maxConcurrency);
+        }
+        
+        @Override
+        public void execute(Runnable command) {
+            if (!permits.tryAcquire()) {
+                throw new RejectedExecutionException("동시 실행 가능한 작업 수를 초과했습니다");
+            }
+            try {
+                delegate.execute(() -> {
+                    try {
+                        command.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                throw e;
+            }
+        }
+        
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+        
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+        
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+        
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+        
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
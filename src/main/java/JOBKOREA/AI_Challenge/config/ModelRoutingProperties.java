@@ -0,0 +1,47 @@
+package JOBKOREA.AI_Challenge.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모델 라우팅 설정 (openai.routing)
+ * routes는 우선순위 순서이며, 요청마다 조건에 맞는 경로를 이 순서대로 시도합니다.
+ * 비활성화하거나 경로가 없으면 openai.api.model/max-tokens/temperature 하나만 사용합니다.
+ */
+@Data
+@ConfigurationProperties(prefix = "openai.routing")
+public class ModelRoutingProperties {
+    
+    private boolean enabled = false;
+    
+    // 최근 응답 지연(EWMA)이 이 값을 넘는 모델은 뒤로 미룸
+    private long latencyThresholdMillis = 30_000L;
+    
+    // EWMA 가중치 (클수록 최근 응답 지연을 더 크게 반영)
+    private double ewmaAlpha = 0.3;
+    
+    // 타임아웃/5xx/429로 실패한 모델을 우선순위에서 제외하는 시간
+    private long cooldownSeconds = 30L;
+    
+    private List<Route> routes = new ArrayList<>();
+    
+    @Data
+    public static class Route {
+        
+        private String name;
+        private String model;
+        
+        // 비어 있으면 요청별 토큰 예산을 그대로 사용
+        private Integer maxTokens;
+        private Double temperature;
+        
+        // 예상 프롬프트 토큰이 이 값 이하인 요청에만 사용 (0이면 제한 없음)
+        private int maxPromptTokens;
+        
+        // 사용할 생성 유형 (PromptTemplateRegistry 템플릿 이름, 비어 있으면 전체)
+        private List<String> endpoints = new ArrayList<>();
+    }
+}
@@ -3,24 +3,181 @@ package JOBKOREA.AI_Challenge.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.theokanning.openai.client.OpenAiApi;
 import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.netty.channel.ChannelOption;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import retrofit2.Retrofit;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@EnableConfigurationProperties(ModelRoutingProperties.class)
 public class OpenAIConfig {
     
     @Value("${openai.api.key}")
     private String apiKey;
     
+    @Value("${openai.api.base-url:https://api.openai.com/}")
+    private String baseUrl;
+    
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+    
+    @Value("${openai.http.connect-timeout-seconds:5}")
+    private long connectTimeoutSeconds;
+    
+    @Value("${openai.http.read-timeout-seconds:120}")
+    private long readTimeoutSeconds;
+    
+    @Value("${openai.http.write-timeout-seconds:10}")
+    private long writeTimeoutSeconds;
+    
+    @Value("${openai.http.call-timeout-seconds:150}")
+    private long callTimeoutSeconds;
+    
+    @Value("${openai.http.max-idle-connections:20}")
+    private int maxIdleConnections;
+    
+    @Value("${openai.http.keep-alive-minutes:5}")
+    private long keepAliveMinutes;
+    
+    @Value("${openai.http.max-requests:128}")
+    private int maxRequests;
+    
+    @Value("${openai.http.max-requests-per-host:64}")
+    private int maxRequestsPerHost;
+    
+    @Value("${openai.http.http2-enabled:true}")
+    private boolean http2Enabled;
+    
+    @Value("${openai.http.reactive-max-connections:500}")
+    private int reactiveMaxConnections;
+    
+    @Value("${openai.http.reactive-pending-acquire-max:1000}")
+    private int reactivePendingAcquireMax;
+    
+    /**
+     * OpenAI 전용 HTTP 클라이언트
+     * - 커넥션 풀과 keep-alive로 TLS 핸드셰이크 재사용
+     * - 연결/읽기/쓰기/전체 호출 타임아웃을 분리
+     * - HTTP/2 멀티플렉싱 (ALPN 협상 실패 시 HTTP/1.1)
+     * - Dispatcher 동시 요청 한도 상향 (기본값: 호스트당 5개)
+     */
+    @Bean
+    public OkHttpClient openAiHttpClient() {
+        Dispatcher dispatcher = virtualThreads
+                // 동기 호출은 요청 스레드(가상 스레드)에서 실행되고, 스트리밍 등 비동기 호출도 가상 스레드에서 처리
+                ? new Dispatcher(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("openai-http-", 1).factory()))
+                : new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        
+        return new OkHttpClient.Builder()
+                .addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                        .header("Authorization", "Bearer " + apiKey)
+                        .build()))
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveMinutes, TimeUnit.MINUTES))
+                .dispatcher(dispatcher)
+                .protocols(http2Enabled ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1))
+                .connectTimeout(Duration.ofSeconds(connectTimeoutSeconds))
+                .readTimeout(Duration.ofSeconds(readTimeoutSeconds))
+                .writeTimeout(Duration.ofSeconds(writeTimeoutSeconds))
+                .callTimeout(Duration.ofSeconds(callTimeoutSeconds))
+                .build();
+    }
+    
+    /**
+     * 커넥션 풀 및 Dispatcher 상태 게이지
+     */
+    @Bean
+    public MeterBinder openAiHttpClientMetrics(OkHttpClient openAiHttpClient) {
+        return registry -> {
+            ConnectionPool pool = openAiHttpClient.connectionPool();
+            Dispatcher dispatcher = openAiHttpClient.dispatcher();
+            Gauge.builder("openai.http.connections", pool, ConnectionPool::connectionCount)
+                    .description("커넥션 풀의 전체 연결 수")
+                    .tag("state", "total")
+                    .register(registry);
+            Gauge.builder("openai.http.connections", pool, ConnectionPool::idleConnectionCount)
+                    .description("커넥션 풀의 유휴 연결 수")
+                    .tag("state", "idle")
+                    .register(registry);
+            Gauge.builder("openai.http.calls", dispatcher, Dispatcher::runningCallsCount)
+                    .description("Dispatcher에서 실행 중인 비동기 호출 수")
+                    .tag("state", "running")
+                    .register(registry);
+            Gauge.builder("openai.http.calls", dispatcher, Dispatcher::queuedCallsCount)
+                    .description("Dispatcher 한도로 대기 중인 비동기 호출 수")
+                    .tag("state", "queued")
+                    .register(registry);
+        };
+    }
+    
+    /**
+     * Retrofit 기반 OpenAI API
+     * 호출 결과가 Single로 반환되므로 타임아웃/구독 해제 시 진행 중인 HTTP 호출까지 취소할 수 있음
+     */
+    @Bean
+    public OpenAiApi openAiApi(OkHttpClient openAiHttpClient) {
+        Retrofit retrofit = OpenAiService.defaultRetrofit(openAiHttpClient, OpenAiService.defaultObjectMapper())
+                .newBuilder()
+                .baseUrl(baseUrl)
+                .build();
+        return retrofit.create(OpenAiApi.class);
+    }
+    
+    /**
+     * 논블로킹 OpenAI 호출용 WebClient (Reactor Netty)
+     * - 호출 중에 스레드를 점유하지 않으므로 동시 호출 수는 커넥션 풀 크기로만 제한
+     * - 풀이 가득 차면 pending-acquire-max 까지 대기열에서 연결을 기다림
+     * - 요청/응답 직렬화는 openai-java와 같은 ObjectMapper(snake_case) 사용
+     */
+    @Bean
+    public WebClient openAiWebClient(WebClient.Builder webClientBuilder) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("openai")
+                .maxConnections(reactiveMaxConnections)
+                .pendingAcquireMaxCount(reactivePendingAcquireMax)
+                .maxIdleTime(Duration.ofMinutes(keepAliveMinutes))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) TimeUnit.SECONDS.toMillis(connectTimeoutSeconds))
+                .responseTimeout(Duration.ofSeconds(readTimeoutSeconds));
+        
+        ObjectMapper openAiMapper = OpenAiService.defaultObjectMapper();
+        return webClientBuilder
+                .baseUrl(baseUrl)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(openAiMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(openAiMapper));
+                })
+                .build();
+    }
+    
     @Bean
-    public OpenAiService openAiService() {
-        // OpenAI API 클라이언트에 명시적인 타임아웃 설정
-        // Duration을 사용하여 타임아웃 설정 (기본값보다 길게 설정)
-        return new OpenAiService(apiKey, Duration.ofSeconds(120));
+    public OpenAiService openAiService(OpenAiApi openAiApi, OkHttpClient openAiHttpClient) {
+        return new OpenAiService(openAiApi, openAiHttpClient.dispatcher().executorService());
     }
     
     @Bean
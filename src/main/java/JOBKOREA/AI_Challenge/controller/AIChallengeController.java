@@ -1,23 +1,43 @@
 package JOBKOREA.AI_Challenge.controller;
 
+import JOBKOREA.AI_Challenge.dto.ComprehensiveResponseDto;
 import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
 import JOBKOREA.AI_Challenge.dto.LearningPathResponseDto;
 import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import JOBKOREA.AI_Challenge.service.ComprehensiveService;
 import JOBKOREA.AI_Challenge.service.OpenAIService;
+import JOBKOREA.AI_Challenge.service.StreamingGenerationService;
+import io.reactivex.disposables.Disposable;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
+// SseEmitter 등 서블릿 전용 API를 사용하므로 리액티브 프로필에서는 등록하지 않음 (/api/v2 리액티브 API만 제공)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/ai-challenge")
 @RequiredArgsConstructor
 @Slf4j
 @CrossOrigin(origins = "*")
 public class AIChallengeController {
     
+    // true로 지정하면 캐시를 조회하지 않고 새로 생성 (생성 결과로 캐시는 갱신됨)
+    public static final String CACHE_BYPASS_HEADER = "X-Cache-Bypass";
+    
+    // OpenAI 클라이언트 타임아웃(120초)보다 길게 설정
+    private static final long STREAM_TIMEOUT_MILLIS = 150_000L;
+    
     private final OpenAIService openAIService;
+    private final ComprehensiveService comprehensiveService;
+    private final StreamingGenerationService streamingGenerationService;
     
     /**
      * 맞춤형 면접 질문 생성 API
@@ -25,20 +45,37 @@ public class AIChallengeController {
      */
     @PostMapping("/interview-questions")
     public ResponseEntity<InterviewQuestionsResponseDto> generateInterviewQuestions(
-            @Valid @RequestBody ResumeRequestDto resumeRequest) {
+            @Valid @RequestBody ResumeRequestDto resumeRequest,
+            @RequestHeader(value = CACHE_BYPASS_HEADER, defaultValue = "false") boolean bypassCache) throws Exception {
         
         log.info("면접 질문 생성 요청: {}", resumeRequest);
         
+        // 실패 시 예외를 그대로 전달하여 GlobalExceptionHandler가 원인별 상태 코드와 안내 메시지로 응답
+        InterviewQuestionsResponseDto response = openAIService.generateInterviewQuestions(resumeRequest, bypassCache);
+        log.info("면접 질문 생성 완료: {}개 질문 생성", response.getQuestions().size());
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 맞춤형 면접 질문 스트리밍 API (Server-Sent Events)
+     * 질문이 하나 완성될 때마다 question 이벤트로 전송하고, analysis 이벤트 후 done 이벤트로 종료합니다.
+     */
+    @PostMapping(value = "/interview-questions/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamInterviewQuestions(@Valid @RequestBody ResumeRequestDto resumeRequest) {
+        
+        log.info("면접 질문 스트리밍 요청: {}", resumeRequest);
+        
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        Disposable subscription;
         try {
-            InterviewQuestionsResponseDto response = openAIService.generateInterviewQuestions(resumeRequest);
-            log.info("면접 질문 생성 완료: {}개 질문 생성", response.getQuestions().size());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            log.error("면접 질문 생성 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
+            subscription = streamingGenerationService.streamInterviewQuestions(
+                    resumeRequest, new SseGenerationStreamListener<>(emitter, "question"));
+        } catch (ServiceOverloadedException e) {
+            return overloaded(e);
         }
+        cancelOnDisconnect(emitter, subscription);
+        return ResponseEntity.ok(emitter);
     }
     
     /**
@@ -47,47 +84,56 @@ public class AIChallengeController {
      */
     @PostMapping("/learning-path")
     public ResponseEntity<LearningPathResponseDto> generateLearningPath(
-            @Valid @RequestBody ResumeRequestDto resumeRequest) {
+            @Valid @RequestBody ResumeRequestDto resumeRequest,
+            @RequestHeader(value = CACHE_BYPASS_HEADER, defaultValue = "false") boolean bypassCache) throws Exception {
         
         log.info("학습 경로 추천 요청: {}", resumeRequest);
         
+        LearningPathResponseDto response = openAIService.generateLearningPath(resumeRequest, bypassCache);
+        log.info("학습 경로 추천 완료: {}개 단계 제안", response.getLearningSteps().size());
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 맞춤형 학습 경로 스트리밍 API (Server-Sent Events)
+     * 학습 단계가 하나 완성될 때마다 step 이벤트로 전송하고, summary/estimatedDuration 이벤트 후 done 이벤트로 종료합니다.
+     */
+    @PostMapping(value = "/learning-path/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamLearningPath(@Valid @RequestBody ResumeRequestDto resumeRequest) {
+        
+        log.info("학습 경로 스트리밍 요청: {}", resumeRequest);
+        
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        Disposable subscription;
         try {
-            LearningPathResponseDto response = openAIService.generateLearningPath(resumeRequest);
-            log.info("학습 경로 추천 완료: {}개 단계 제안", response.getLearningSteps().size());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            log.error("학습 경로 추천 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
+            subscription = streamingGenerationService.streamLearningPath(
+                    resumeRequest, new SseGenerationStreamListener<>(emitter, "step"));
+        } catch (ServiceOverloadedException e) {
+            return overloaded(e);
         }
+        cancelOnDisconnect(emitter, subscription);
+        return ResponseEntity.ok(emitter);
     }
     
     /**
      * 통합 API - 면접 질문과 학습 경로를 한 번에 생성
+     * 기본(parallel) 모드에서는 두 생성 작업을 동시에 실행합니다.
+     * mode: sequential, parallel, single (생략 시 openai.comprehensive.mode 설정값)
      */
     @PostMapping("/comprehensive")
-    public ResponseEntity<ComprehensiveResponse> generateComprehensive(
-            @Valid @RequestBody ResumeRequestDto resumeRequest) {
+    public ResponseEntity<ComprehensiveResponseDto> generateComprehensive(
+            @Valid @RequestBody ResumeRequestDto resumeRequest,
+            @RequestParam(value = "mode", required = false) String mode,
+            @RequestHeader(value = CACHE_BYPASS_HEADER, defaultValue = "false") boolean bypassCache) throws Exception {
         
-        log.info("통합 분석 요청: {}", resumeRequest);
+        log.info("통합 분석 요청 ({}): {}", mode, resumeRequest);
         
-        try {
-            InterviewQuestionsResponseDto interviewQuestions = openAIService.generateInterviewQuestions(resumeRequest);
-            LearningPathResponseDto learningPath = openAIService.generateLearningPath(resumeRequest);
-            
-            ComprehensiveResponse response = ComprehensiveResponse.builder()
-                    .interviewQuestions(interviewQuestions)
-                    .learningPath(learningPath)
-                    .build();
-            
-            log.info("통합 분석 완료");
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            log.error("통합 분석 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
-        }
+        ComprehensiveResponseDto response = comprehensiveService.generate(resumeRequest,
+                mode != null ? ComprehensiveService.ComprehensiveMode.from(mode) : null, bypassCache);
+        
+        log.info("통합 분석 완료{}", response.isPartial() ? " (부분 결과: " + response.getFailures().keySet() + " 실패)" : "");
+        return ResponseEntity.ok(response);
     }
     
     /**
@@ -99,14 +145,23 @@ public class AIChallengeController {
     }
     
     /**
-     * 통합 응답을 위한 내부 클래스
+     * 스트림 시작 전 동시 처리/호출량 한도로 거절된 요청은 503 + Retry-After로 응답
+     * text/event-stream 요청에는 GlobalExceptionHandler의 JSON 본문을 쓸 수 없으므로 본문 없이 상태와 헤더만 전송
+     */
+    private static ResponseEntity<SseEmitter> overloaded(ServiceOverloadedException e) {
+        log.warn("AI 서비스 과부하로 스트리밍 요청 거절 - bulkhead: {}", e.getBulkhead());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .build();
+    }
+    
+    /**
+     * 클라이언트 연결 종료, 타임아웃, 전송 오류 시 OpenAI 스트림 구독 해제
      */
-    @lombok.Data
-    @lombok.Builder
-    @lombok.NoArgsConstructor
-    @lombok.AllArgsConstructor
-    public static class ComprehensiveResponse {
-        private InterviewQuestionsResponseDto interviewQuestions;
-        private LearningPathResponseDto learningPath;
+    private static void cancelOnDisconnect(SseEmitter emitter, Disposable subscription) {
+        emitter.onCompletion(subscription::dispose);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(error -> subscription.dispose());
     }
+
 }
@@ -0,0 +1,93 @@
+package JOBKOREA.AI_Challenge.controller;
+
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.service.BatchGenerationService;
+import io.reactivex.disposables.Disposable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/ai-challenge/batch")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class BatchGenerationController {
+    
+    // 배치 전체가 끝날 때까지 연결을 유지하므로 단건 생성 타임아웃보다 충분히 길게 설정
+    private static final long BATCH_TIMEOUT_MILLIS = 30 * 60_000L;
+    
+    private final BatchGenerationService batchGenerationService;
+    
+    /**
+     * 면접 질문 일괄 생성 API (NDJSON)
+     * 이력서 목록을 받아 항목별 결과를 완료되는 순서대로 한 줄씩 전송합니다.
+     * 각 줄의 index는 요청 목록에서의 위치이며, 실패한 항목은 success=false와 사유를 담습니다.
+     */
+    @PostMapping(value = "/interview-questions", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseBodyEmitter generateInterviewQuestions(
+            @RequestBody List<ResumeRequestDto> resumeRequests,
+            @RequestHeader(value = AIChallengeController.CACHE_BYPASS_HEADER, defaultValue = "false") boolean bypassCache) {
+        
+        log.info("면접 질문 일괄 생성 요청: {}건", resumeRequests.size());
+        
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(BATCH_TIMEOUT_MILLIS);
+        Disposable batch = batchGenerationService.generateInterviewQuestions(
+                resumeRequests, bypassCache, new NdjsonBatchResultListener(emitter));
+        emitter.onCompletion(batch::dispose);
+        emitter.onTimeout(batch::dispose);
+        emitter.onError(error -> batch.dispose());
+        return emitter;
+    }
+    
+    /**
+     * OpenAI Batch API 입력 파일 생성 API
+     * 응답 본문(JSONL)을 그대로 Files API에 업로드(purpose=batch)한 뒤 배치 작업을 생성하면 됩니다.
+     */
+    @PostMapping(value = "/interview-questions/offline/input", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<byte[]> createBatchInput(@RequestBody List<ResumeRequestDto> resumeRequests) throws IOException {
+        
+        log.info("OpenAI 배치 입력 파일 생성 요청: {}건", resumeRequests.size());
+        
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        int written = batchGenerationService.writeInterviewQuestionsBatchInput(resumeRequests, writer);
+        log.info("OpenAI 배치 입력 파일 생성 완료: {}건", written);
+        
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("interview-questions-batch.jsonl").build().toString())
+                .body(output.toByteArray());
+    }
+    
+    /**
+     * OpenAI Batch API 출력 파일 변환 API
+     * 완료된 배치 작업의 출력 파일(JSONL)을 본문으로 받아 온라인 일괄 생성과 같은 NDJSON 형식으로 반환합니다.
+     */
+    @PostMapping(value = "/interview-questions/offline/results", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseBodyEmitter readBatchOutput(InputStream body) throws IOException {
+        
+        // 요청 본문은 요청 스레드에서만 읽을 수 있으므로 변환까지 마친 뒤 반환 (전송 내용은 반환 시점까지 버퍼링됨)
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(BATCH_TIMEOUT_MILLIS);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        batchGenerationService.readInterviewQuestionsBatchOutput(reader, new NdjsonBatchResultListener(emitter));
+        return emitter;
+    }
+}
@@ -0,0 +1,61 @@
+package JOBKOREA.AI_Challenge.controller;
+
+import JOBKOREA.AI_Challenge.dto.GenerationJobResponseDto;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.service.GenerationJobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+@RestController
+// Location 헤더 생성에 ServletUriComponentsBuilder를 사용 (서블릿 스택 전용)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/ai-challenge/jobs")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class GenerationJobController {
+    
+    private final GenerationJobService generationJobService;
+    
+    /**
+     * 비동기 생성 작업 등록 API
+     * 작업 ID를 즉시 반환(202 Accepted)하며, 결과는 Location 헤더의 조회 API로 확인합니다.
+     * type: interview-questions, learning-path, comprehensive (기본값)
+     */
+    @PostMapping
+    public ResponseEntity<GenerationJobResponseDto> submit(
+            @Valid @RequestBody ResumeRequestDto resumeRequest,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestHeader(value = AIChallengeController.CACHE_BYPASS_HEADER, defaultValue = "false") boolean bypassCache) {
+        
+        log.info("비동기 생성 작업 요청 ({}): {}", type, resumeRequest);
+        
+        GenerationJobResponseDto job = generationJobService.submit(
+                GenerationJobService.JobType.from(type), resumeRequest, bypassCache);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQuery(null)
+                .path("/{jobId}")
+                .buildAndExpand(job.getJobId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+    
+    /**
+     * 비동기 생성 작업 조회 API
+     * 상태(QUEUED, RUNNING, SUCCEEDED, FAILED)와 완료된 경우 결과를 반환합니다.
+     * 존재하지 않거나 보관 기간이 지난 작업은 404를 반환합니다.
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<GenerationJobResponseDto> find(@PathVariable String jobId) {
+        return generationJobService.find(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,40 @@
+package JOBKOREA.AI_Challenge.controller;
+
+import JOBKOREA.AI_Challenge.dto.BatchItemResultDto;
+import JOBKOREA.AI_Challenge.service.BatchResultListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+
+/**
+ * 일괄 생성 결과를 NDJSON(한 줄에 JSON 하나)으로 전송하는 리스너
+ * 여러 작업 스레드에서 동시에 호출되므로 한 항목의 JSON과 줄바꿈이 섞이지 않도록 전송을 직렬화합니다.
+ */
+@Slf4j
+class NdjsonBatchResultListener implements BatchResultListener {
+    
+    private final ResponseBodyEmitter emitter;
+    
+    NdjsonBatchResultListener(ResponseBodyEmitter emitter) {
+        this.emitter = emitter;
+    }
+    
+    @Override
+    public synchronized void onItem(BatchItemResultDto item) {
+        try {
+            emitter.send(item, MediaType.APPLICATION_JSON);
+            emitter.send("\n", MediaType.TEXT_PLAIN);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊긴 경우 - emitter 종료 콜백에서 남은 항목 생성이 취소됨
+            log.debug("NDJSON 항목 전송 실패: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+    
+    @Override
+    public synchronized void onComplete(int succeeded, int failed) {
+        emitter.complete();
+    }
+}
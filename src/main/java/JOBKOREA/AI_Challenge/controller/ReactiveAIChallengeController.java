@@ -0,0 +1,126 @@
+package JOBKOREA.AI_Challenge.controller;
+
+import JOBKOREA.AI_Challenge.dto.ComprehensiveResponseDto;
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.LearningPathResponseDto;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.service.ComprehensiveService;
+import JOBKOREA.AI_Challenge.service.ReactiveOpenAIService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 논블로킹 API (/api/v2) - 요청/응답 형식은 /api/v1과 같고 Mono/Flux를 반환합니다.
+ * 서블릿 스택에서는 비동기 요청으로, 리액티브 프로필(Netty)에서는 이벤트 루프에서 처리되며
+ * 클라이언트 연결이 끊기면 구독이 해제되어 진행 중인 OpenAI 호출도 취소됩니다.
+ */
+@RestController
+@RequestMapping("/api/v2/ai-challenge")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ReactiveAIChallengeController {
+    
+    // OpenAI 클라이언트 타임아웃(120초)보다 길게 설정
+    private static final Duration STREAM_TIMEOUT = Duration.ofSeconds(150);
+    
+    private final ReactiveOpenAIService reactiveOpenAIService;
+    
+    /**
+     * 맞춤형 면접 질문 생성 API
+     */
+    @PostMapping("/interview-questions")
+    public Mono<ResponseEntity<InterviewQuestionsResponseDto>> generateInterviewQuestions(
+            @Valid @RequestBody ResumeRequestDto resumeRequest,
+            @RequestHeader(value = AIChallengeController.CACHE_BYPASS_HEADER, defaultValue = "false") boolean bypassCache) {
+        
+        log.info("면접 질문 생성 요청 (v2): {}", resumeRequest);
+        
+        return reactiveOpenAIService.generateInterviewQuestions(resumeRequest, bypassCache)
+                .doOnNext(response -> log.info("면접 질문 생성 완료 (v2): {}개 질문 생성", response.getQuestions().size()))
+                .map(ResponseEntity::ok);
+    }
+    
+    /**
+     * 맞춤형 면접 질문 스트리밍 API (Server-Sent Events)
+     * 질문이 하나 완성될 때마다 question 이벤트로 전송하고, analysis 이벤트 후 done 이벤트로 종료합니다.
+     */
+    @PostMapping(value = "/interview-questions/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamInterviewQuestions(@Valid @RequestBody ResumeRequestDto resumeRequest) {
+        
+        log.info("면접 질문 스트리밍 요청 (v2): {}", resumeRequest);
+        
+        return toServerSentEvents(reactiveOpenAIService.streamInterviewQuestions(resumeRequest));
+    }
+    
+    /**
+     * 맞춤형 학습 경로 추천 API
+     */
+    @PostMapping("/learning-path")
+    public Mono<ResponseEntity<LearningPathResponseDto>> generateLearningPath(
+            @Valid @RequestBody ResumeRequestDto resumeRequest,
+            @RequestHeader(value = AIChallengeController.CACHE_BYPASS_HEADER, defaultValue = "false") boolean bypassCache) {
+        
+        log.info("학습 경로 추천 요청 (v2): {}", resumeRequest);
+        
+        return reactiveOpenAIService.generateLearningPath(resumeRequest, bypassCache)
+                .doOnNext(response -> log.info("학습 경로 추천 완료 (v2): {}개 단계 제안", response.getLearningSteps().size()))
+                .map(ResponseEntity::ok);
+    }
+    
+    /**
+     * 맞춤형 학습 경로 스트리밍 API (Server-Sent Events)
+     * 학습 단계가 하나 완성될 때마다 step 이벤트로 전송하고, summary/estimatedDuration 이벤트 후 done 이벤트로 종료합니다.
+     */
+    @PostMapping(value = "/learning-path/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamLearningPath(@Valid @RequestBody ResumeRequestDto resumeRequest) {
+        
+        log.info("학습 경로 스트리밍 요청 (v2): {}", resumeRequest);
+        
+        return toServerSentEvents(reactiveOpenAIService.streamLearningPath(resumeRequest));
+    }
+    
+    /**
+     * 통합 API - 면접 질문과 학습 경로를 한 번에 생성
+     * 기본(parallel) 모드에서는 두 생성 작업을 동시에 구독합니다.
+     * mode: sequential, parallel, single (생략 시 openai.comprehensive.mode 설정값)
+     */
+    @PostMapping("/comprehensive")
+    public Mono<ResponseEntity<ComprehensiveResponseDto>> generateComprehensive(
+            @Valid @RequestBody ResumeRequestDto resumeRequest,
+            @RequestParam(value = "mode", required = false) String mode,
+            @RequestHeader(value = AIChallengeController.CACHE_BYPASS_HEADER, defaultValue = "false") boolean bypassCache) {
+        
+        log.info("통합 분석 요청 (v2, {}): {}", mode, resumeRequest);
+        
+        return reactiveOpenAIService.generateComprehensive(resumeRequest,
+                        mode != null ? ComprehensiveService.ComprehensiveMode.from(mode) : null, bypassCache)
+                .doOnNext(response -> log.info("통합 분석 완료 (v2){}",
+                        response.isPartial() ? " (부분 결과: " + response.getFailures().keySet() + " 실패)" : ""))
+                .map(ResponseEntity::ok);
+    }
+    
+    /**
+     * 헬스 체크 API
+     */
+    @GetMapping("/health")
+    public Mono<ResponseEntity<String>> health() {
+        return Mono.just(ResponseEntity.ok("AI Challenge API is running!"));
+    }
+    
+    private static Flux<ServerSentEvent<Object>> toServerSentEvents(Flux<ReactiveOpenAIService.StreamEvent> events) {
+        return events
+                .map(event -> ServerSentEvent.builder(event.data()).event(event.name()).build())
+                // 제한 시간이 지나면 구독을 해제하여 OpenAI 스트림을 취소하고 응답을 종료
+                .take(STREAM_TIMEOUT);
+    }
+}
@@ -0,0 +1,60 @@
+package JOBKOREA.AI_Challenge.controller;
+
+import JOBKOREA.AI_Challenge.service.GenerationStreamListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 스트리밍 생성 결과를 Server-Sent Events로 전송하는 리스너
+ * 항목은 itemEventName 이벤트로, 최상위 필드는 필드 이름의 이벤트로, 종료 시 done 이벤트를 전송합니다.
+ */
+@Slf4j
+class SseGenerationStreamListener<T> implements GenerationStreamListener<T> {
+    
+    private final SseEmitter emitter;
+    private final String itemEventName;
+    
+    SseGenerationStreamListener(SseEmitter emitter, String itemEventName) {
+        this.emitter = emitter;
+        this.itemEventName = itemEventName;
+    }
+    
+    @Override
+    public void onItem(T item) {
+        send(SseEmitter.event().name(itemEventName).data(item, MediaType.APPLICATION_JSON));
+    }
+    
+    @Override
+    public void onField(String name, String value) {
+        send(SseEmitter.event().name(name).data(value));
+    }
+    
+    @Override
+    public void onComplete(boolean complete) {
+        send(SseEmitter.event().name("done").data(Map.of("complete", complete), MediaType.APPLICATION_JSON));
+        emitter.complete();
+    }
+    
+    @Override
+    public void onError(Throwable error) {
+        send(SseEmitter.event().name("error").data(Map.of(
+                "message", "AI 서비스 처리 중 오류가 발생했습니다",
+                "retryable", true,
+                "suggestion", "잠시 후 다시 시도해주세요"), MediaType.APPLICATION_JSON));
+        emitter.complete();
+    }
+    
+    private void send(SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊긴 경우 - emitter 종료 콜백에서 OpenAI 스트림이 취소됨
+            log.debug("SSE 이벤트 전송 실패: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package JOBKOREA.AI_Challenge.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 배치 생성 결과의 한 줄 (NDJSON)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResultDto {
+    
+    // 요청 목록에서의 위치 (0부터 시작, 결과는 완료 순서로 전송되므로 이 값으로 요청과 대응)
+    private int index;
+    
+    private boolean success;
+    
+    private InterviewQuestionsResponseDto result;
+    
+    // 실패한 경우 실패 사유
+    private String error;
+    
+    // 입력값 검증 실패 시 필드 이름 -> 오류 메시지
+    private Map<String, String> errors;
+}
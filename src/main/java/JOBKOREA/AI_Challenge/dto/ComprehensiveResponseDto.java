@@ -0,0 +1,26 @@
+package JOBKOREA.AI_Challenge.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComprehensiveResponseDto {
+    
+    private InterviewQuestionsResponseDto interviewQuestions;
+    private LearningPathResponseDto learningPath;
+    
+    // 한쪽 생성이 실패해 일부 결과만 담긴 경우 true
+    private boolean partial;
+    
+    // 실패한 항목 이름 -> 실패 사유 (부분 결과일 때만 포함)
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<String, String> failures;
+}
@@ -0,0 +1,41 @@
+package JOBKOREA.AI_Challenge.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GenerationJobResponseDto {
+    
+    private String jobId;
+    
+    // interview-questions, learning-path, comprehensive
+    private String type;
+    
+    private JobStatus status;
+    
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant completedAt;
+    
+    // 완료된 경우 생성 결과 (type에 따라 InterviewQuestionsResponseDto, LearningPathResponseDto, ComprehensiveResponseDto)
+    private Object result;
+    
+    // 실패한 경우 실패 사유
+    private String error;
+    
+    public enum JobStatus {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+}
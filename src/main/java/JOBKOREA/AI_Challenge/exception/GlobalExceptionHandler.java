@@ -1,12 +1,15 @@
 package JOBKOREA.AI_Challenge.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -24,9 +27,21 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
+        return validationFailure(ex.getBindingResult());
+    }
+    
+    /**
+     * 유효성 검사 실패 시 예외 처리 (리액티브 프로필)
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, Object>> handleWebExchangeBindException(WebExchangeBindException ex) {
+        return validationFailure(ex.getBindingResult());
+    }
+    
+    private ResponseEntity<Map<String, Object>> validationFailure(BindingResult bindingResult) {
         
         Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach((error) -> {
+        bindingResult.getAllErrors().forEach((error) -> {
             String fieldName = ((FieldError) error).getField();
             String errorMessage = error.getDefaultMessage();
             errors.put(fieldName, errorMessage);
@@ -42,6 +57,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
     
+    /**
+     * 잘못된 요청 파라미터 예외 처리 (지원하지 않는 작업 유형, 실행 모드 등)
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidRequestException(InvalidRequestException ex) {
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "요청 값이 올바르지 않습니다");
+        response.put("error", ex.getMessage());
+        response.put("status", "BAD_REQUEST");
+        
+        log.error("잘못된 요청 파라미터: {}", ex.getMessage());
+        
+        return ResponseEntity.badRequest().body(response);
+    }
+    
     /**
      * 일반적인 예외 처리
      */
@@ -97,6 +128,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
     }
     
+    /**
+     * 동시 처리 한도 초과 예외 처리 (즉시 거절)
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceOverloadedException(ServiceOverloadedException ex) {
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "AI 서비스 요청이 몰려 처리할 수 없습니다");
+        response.put("error", ex.getMessage());
+        response.put("status", "SERVICE_UNAVAILABLE");
+        response.put("retryable", true);
+        response.put("retryAfterSeconds", ex.getRetryAfterSeconds());
+        response.put("suggestion", ex.getRetryAfterSeconds() + "초 후 다시 시도해주세요");
+        response.put("errorCode", "SERVICE_OVERLOADED");
+        
+        log.warn("AI 서비스 과부하로 요청 거절 - bulkhead: {}", ex.getBulkhead());
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+    
     /**
      * OpenAI API 타임아웃 예외 처리
      */
@@ -0,0 +1,16 @@
+package JOBKOREA.AI_Challenge.exception;
+
+/**
+ * 클라이언트가 보낸 요청 값이 올바르지 않을 때 발생하는 예외 (지원하지 않는 작업 유형, 실행 모드, 배치 크기 등)
+ * GlobalExceptionHandler에서 400 Bad Request로 변환됩니다.
+ */
+public class InvalidRequestException extends RuntimeException {
+    
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+    
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,20 @@
+package JOBKOREA.AI_Challenge.exception;
+
+import lombok.Getter;
+
+/**
+ * 동시 처리 한도 초과로 요청을 즉시 거절할 때 발생하는 예외
+ * GlobalExceptionHandler에서 503 Service Unavailable + Retry-After 헤더로 변환됩니다.
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+    
+    private final String bulkhead;
+    private final long retryAfterSeconds;
+    
+    public ServiceOverloadedException(String bulkhead, long retryAfterSeconds) {
+        super("AI 서비스 요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        this.bulkhead = bulkhead;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
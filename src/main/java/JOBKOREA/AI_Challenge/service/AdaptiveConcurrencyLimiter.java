@@ -0,0 +1,123 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * AIMD 방식의 적응형 동시 실행 제한기
+ * - 한도까지 사용 중이면 대기하지 않고 즉시 {@link ServiceOverloadedException}으로 거절
+ * - 정상 응답이 지연 임계값 안에 오면 한도를 1씩 늘리고 (한도의 절반 이상 사용 중일 때만)
+ * - 타임아웃, 429, 5xx 또는 임계값을 넘는 지연이 발생하면 한도를 backoffRatio 배로 줄임
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+    
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final long retryAfterSeconds;
+    private final Counter rejectedCounter;
+    
+    private double limit;
+    private int inFlight;
+    
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                      long latencyThresholdSeconds, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = TimeUnit.SECONDS.toNanos(latencyThresholdSeconds);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        
+        Gauge.builder("openai.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("현재 동시 실행 한도")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("openai.concurrency.inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("실행 중인 OpenAI 호출 수")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("openai.concurrency.rejected")
+                .description("동시 실행 한도 초과로 거절된 요청 수")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 실행 권한 획득
+     * @throws ServiceOverloadedException 한도까지 사용 중인 경우
+     */
+    public Permit acquire() {
+        synchronized (this) {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return new Permit(System.nanoTime());
+            }
+        }
+        rejectedCounter.increment();
+        log.warn("동시 실행 한도 초과로 요청 거절 - bulkhead: {}, 한도: {}", name, getLimit());
+        throw new ServiceOverloadedException(name, retryAfterSeconds);
+    }
+    
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+    
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+    
+    private synchronized void release(long elapsedNanos, String outcome) {
+        inFlight--;
+        if (outcome == null) {
+            return;
+        }
+        
+        boolean dropped = OpenAIMetrics.TIMEOUT.equals(outcome)
+                || OpenAIMetrics.RATE_LIMITED.equals(outcome)
+                || OpenAIMetrics.UPSTREAM_ERROR.equals(outcome)
+                || (OpenAIMetrics.SUCCESS.equals(outcome) && elapsedNanos > latencyThresholdNanos);
+        if (dropped) {
+            double previous = limit;
+            limit = Math.max(minLimit, limit * backoffRatio);
+            if ((int) previous != (int) limit) {
+                log.info("동시 실행 한도 감소 - bulkhead: {}, {} -> {} ({})", name, (int) previous, (int) limit, outcome);
+            }
+        } else if (OpenAIMetrics.SUCCESS.equals(outcome) && (inFlight + 1) * 2 >= limit) {
+            // 한도의 절반도 쓰지 않는 상태에서는 성공이 늘어날 여유를 증명하지 않으므로 증가시키지 않음
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+    
+    /**
+     * 획득한 실행 권한. 여러 번 release 해도 한 번만 반영됨
+     */
+    public final class Permit {
+        
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+        
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+        
+        /**
+         * @param outcome {@link OpenAIMetrics}의 호출 결과. null이면 한도를 조정하지 않음
+         */
+        public void release(String outcome) {
+            if (released.compareAndSet(false, true)) {
+                AdaptiveConcurrencyLimiter.this.release(System.nanoTime() - startNanos, outcome);
+            }
+        }
+    }
+}
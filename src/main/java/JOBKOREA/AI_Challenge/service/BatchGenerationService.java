@@ -0,0 +1,297 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.config.BoundedExecutorFactory;
+import JOBKOREA.AI_Challenge.dto.BatchItemResultDto;
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.exception.InvalidRequestException;
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 이력서의 면접 질문 일괄 생성
+ * - 온라인 모드: 배치 하나당 parallelism 개까지 동시에 생성하고, 완료되는 순서대로 리스너에 전달
+ *   항목별 실패(입력값 오류, 생성 실패)는 해당 항목의 결과로 전달하며 배치 전체를 중단하지 않음
+ *   로컬 동시 처리/호출량 한도로 거절된 항목은 배치 제한 시간 안에서 Retry-After만큼 기다린 뒤 다시 생성
+ * - 오프라인 모드: OpenAI Batch API 입력 파일(JSONL)을 만들고, 출력 파일을 읽어 같은 결과 형식으로 변환
+ */
+@Service
+@Slf4j
+public class BatchGenerationService {
+    
+    static final String CUSTOM_ID_PREFIX = PromptTemplateRegistry.INTERVIEW_QUESTIONS + "-";
+    
+    private final OpenAIService openAIService;
+    private final OpenAICompletionClient completionClient;
+    private final OpenAIBatchFile batchFile;
+    private final GenerationResponseParser responseParser;
+    private final PromptTemplateRegistry promptTemplates;
+    private final TokenBudgeter tokenBudgeter;
+    private final Validator validator;
+    private final BoundedExecutorFactory executorFactory;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final int maxItems;
+    private final long timeoutNanos;
+    
+    @Value("${openai.api.model}")
+    private String model;
+    
+    @Value("${openai.api.max-tokens}")
+    private Integer maxTokens;
+    
+    public BatchGenerationService(
+            OpenAIService openAIService,
+            OpenAICompletionClient completionClient,
+            OpenAIBatchFile batchFile,
+            GenerationResponseParser responseParser,
+            PromptTemplateRegistry promptTemplates,
+            TokenBudgeter tokenBudgeter,
+            Validator validator,
+            BoundedExecutorFactory executorFactory,
+            @Value("${openai.batch.parallelism:8}") int parallelism,
+            @Value("${openai.batch.max-items:1000}") int maxItems,
+            @Value("${openai.batch.pool-size:16}") int poolSize,
+            @Value("${openai.batch.queue-capacity:64}") int queueCapacity,
+            @Value("${openai.batch.timeout-seconds:600}") long timeoutSeconds) {
+        this.openAIService = openAIService;
+        this.completionClient = completionClient;
+        this.batchFile = batchFile;
+        this.responseParser = responseParser;
+        this.promptTemplates = promptTemplates;
+        this.tokenBudgeter = tokenBudgeter;
+        this.validator = validator;
+        this.executorFactory = executorFactory;
+        this.parallelism = parallelism;
+        this.maxItems = maxItems;
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        this.executor = executorFactory.create("batch", poolSize, queueCapacity);
+    }
+    
+    /**
+     * 면접 질문 일괄 생성 (온라인 모드)
+     * @return 구독 해제 시 아직 시작하지 않은 항목은 생성하지 않음
+     */
+    public Disposable generateInterviewQuestions(List<ResumeRequestDto> requests, boolean bypassCache,
+                                                 BatchResultListener listener) {
+        checkSize(requests);
+        Thread coordinator = newThread("batch-coordinator", () -> run(requests, bypassCache, listener));
+        coordinator.start();
+        return Disposables.fromAction(coordinator::interrupt);
+    }
+    
+    private void run(List<ResumeRequestDto> requests, boolean bypassCache, BatchResultListener listener) {
+        Semaphore permits = new Semaphore(parallelism);
+        CountDownLatch remaining = new CountDownLatch(requests.size());
+        AtomicInteger failed = new AtomicInteger();
+        long start = System.nanoTime();
+        long deadline = start + timeoutNanos;
+        
+        try {
+            for (int i = 0; i < requests.size(); i++) {
+                int index = i;
+                ResumeRequestDto request = requests.get(i);
+                Map<String, String> violations = validate(request);
+                if (!violations.isEmpty()) {
+                    failed.incrementAndGet();
+                    listener.onItem(failure(index, "입력 데이터 유효성 검사 실패", violations));
+                    remaining.countDown();
+                    continue;
+                }
+                
+                // 배치 하나가 공유 실행기를 독점하지 않도록 동시에 진행 중인 항목 수를 제한
+                permits.acquire();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            listener.onItem(generate(index, request, bypassCache, deadline, failed));
+                        } finally {
+                            permits.release();
+                            remaining.countDown();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    failed.incrementAndGet();
+                    listener.onItem(failure(index, "처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", null));
+                    remaining.countDown();
+                }
+            }
+            remaining.await();
+        } catch (InterruptedException e) {
+            // 클라이언트 연결 종료 등으로 취소됨 - 진행 중인 항목은 완료되더라도 전달되지 않음
+            Thread.currentThread().interrupt();
+            log.info("면접 질문 일괄 생성 취소 - 전체 {}건", requests.size());
+            return;
+        }
+        
+        log.info("면접 질문 일괄 생성 완료 - 전체 {}건, 실패 {}건, {}ms", requests.size(), failed.get(),
+                (System.nanoTime() - start) / 1_000_000);
+        listener.onComplete(requests.size() - failed.get(), failed.get());
+    }
+    
+    private BatchItemResultDto generate(int index, ResumeRequestDto request, boolean bypassCache, long deadline,
+                                       AtomicInteger failed) {
+        try {
+            InterviewQuestionsResponseDto result = generateWithinDeadline(index, request, bypassCache, deadline);
+            return BatchItemResultDto.builder()
+                    .index(index)
+                    .success(true)
+                    .result(result)
+                    .build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.incrementAndGet();
+            return failure(index, "일괄 생성이 취소되었습니다", null);
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.warn("일괄 생성 {}번 항목 실패: {}", index, e.getMessage());
+            return failure(index, e.getMessage() != null ? e.getMessage() : "생성 실패", null);
+        }
+    }
+    
+    /**
+     * 로컬 격벽/호출량 한도의 거절은 일시적이므로 항목 실패로 확정하지 않고 Retry-After만큼 기다린 뒤 다시 생성
+     * 기다린 후의 시각이 배치 제한 시간을 넘으면 마지막 거절을 항목 실패로 전달
+     */
+    private InterviewQuestionsResponseDto generateWithinDeadline(int index, ResumeRequestDto request, boolean bypassCache,
+                                                                 long deadline) throws Exception {
+        while (true) {
+            try {
+                return openAIService.generateInterviewQuestions(request, bypassCache);
+            } catch (ServiceOverloadedException e) {
+                long waitNanos = TimeUnit.SECONDS.toNanos(e.getRetryAfterSeconds());
+                if (System.nanoTime() + waitNanos > deadline) {
+                    throw e;
+                }
+                log.debug("일괄 생성 {}번 항목이 한도로 거절됨 - {}초 후 다시 시도 (bulkhead: {})",
+                        index, e.getRetryAfterSeconds(), e.getBulkhead());
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+    }
+    
+    /**
+     * OpenAI Batch API 입력 파일 작성 (오프라인 모드)
+     * custom_id는 "interview-questions-{요청 목록에서의 위치}"이며, 입력값 검증에 실패한 항목은 제외
+     * @return 작성한 요청 수
+     */
+    public int writeInterviewQuestionsBatchInput(List<ResumeRequestDto> requests, Writer writer) throws IOException {
+        checkSize(requests);
+        int written = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            ResumeRequestDto request = requests.get(i);
+            Map<String, String> violations = validate(request);
+            if (!violations.isEmpty()) {
+                log.warn("배치 입력 {}번 항목 제외 - 유효성 검사 실패: {}", i, violations);
+                continue;
+            }
+            TokenBudgeter.TokenBudget budget = tokenBudgeter.plan(promptTemplates.interviewQuestions(), request, model, maxTokens);
+            batchFile.writeRequest(writer, CUSTOM_ID_PREFIX + i, completionClient.newRequest(budget));
+            written++;
+        }
+        writer.flush();
+        return written;
+    }
+    
+    /**
+     * OpenAI Batch API 출력 파일을 읽어 항목별 결과로 변환 (오프라인 모드)
+     */
+    public void readInterviewQuestionsBatchOutput(BufferedReader reader, BatchResultListener listener) throws IOException {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        batchFile.readResults(reader, result -> {
+            BatchItemResultDto item = toItem(result);
+            (item.isSuccess() ? succeeded : failed).incrementAndGet();
+            listener.onItem(item);
+        });
+        listener.onComplete(succeeded.get(), failed.get());
+    }
+    
+    private BatchItemResultDto toItem(OpenAIBatchFile.BatchResult result) {
+        int index = index(result.getCustomId());
+        if (result.getContent() == null) {
+            return failure(index, result.getError(), null);
+        }
+        try {
+            return BatchItemResultDto.builder()
+                    .index(index)
+                    .success(true)
+                    .result(responseParser.parseInterviewQuestions(result.getContent()).getValue())
+                    .build();
+        } catch (RuntimeException e) {
+            return failure(index, e.getMessage(), null);
+        }
+    }
+    
+    private static int index(String customId) {
+        if (customId != null && customId.startsWith(CUSTOM_ID_PREFIX)) {
+            try {
+                return Integer.parseInt(customId.substring(CUSTOM_ID_PREFIX.length()));
+            } catch (NumberFormatException e) {
+                // 아래에서 -1 반환
+            }
+        }
+        return -1;
+    }
+    
+    private Map<String, String> validate(ResumeRequestDto request) {
+        if (request == null) {
+            return Map.of("request", "요청 항목이 비어 있습니다");
+        }
+        Set<ConstraintViolation<ResumeRequestDto>> violations = validator.validate(request);
+        Map<String, String> errors = new LinkedHashMap<>();
+        violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return errors;
+    }
+    
+    private void checkSize(List<ResumeRequestDto> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidRequestException("일괄 생성할 이력서가 없습니다");
+        }
+        if (requests.size() > maxItems) {
+            throw new InvalidRequestException("한 번에 최대 " + maxItems + "건까지 요청할 수 있습니다 (요청: " + requests.size() + "건)");
+        }
+    }
+    
+    private static BatchItemResultDto failure(int index, String error, Map<String, String> errors) {
+        return BatchItemResultDto.builder()
+                .index(index)
+                .success(false)
+                .error(error)
+                .errors(errors)
+                .build();
+    }
+    
+    private Thread newThread(String name, Runnable task) {
+        return executorFactory.isVirtualThreads()
+                ? Thread.ofVirtual().name(name).unstarted(task)
+                : Thread.ofPlatform().name(name).daemon(true).unstarted(task);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
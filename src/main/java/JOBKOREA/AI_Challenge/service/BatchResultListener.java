@@ -0,0 +1,17 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.BatchItemResultDto;
+
+/**
+ * 일괄 생성 결과를 전달받는 리스너
+ * 항목 결과는 완료되는 순서대로 전달되며, onItem은 여러 작업 스레드에서 동시에 호출될 수 있습니다.
+ */
+public interface BatchResultListener {
+    
+    void onItem(BatchItemResultDto item);
+    
+    /**
+     * 모든 항목의 결과를 전달한 뒤 호출 (취소된 배치는 호출되지 않음)
+     */
+    void onComplete(int succeeded, int failed);
+}
@@ -0,0 +1,222 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.config.BoundedExecutorFactory;
+import JOBKOREA.AI_Challenge.dto.ComprehensiveResponseDto;
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.LearningPathResponseDto;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.exception.InvalidRequestException;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 통합 분석(면접 질문 + 학습 경로) 생성 오케스트레이션
+ * parallel 모드에서는 두 OpenAI 호출을 제한된 스레드 풀에서 동시에 실행하여
+ * 전체 지연 시간을 두 호출 중 느린 쪽 수준으로 줄입니다.
+ * single 모드에서는 이력서를 한 번만 보내는 통합 프롬프트로 두 결과를 함께 생성합니다.
+ * 모드별 지연 시간과 사용 토큰은 openai.comprehensive, openai.comprehensive.tokens 메트릭으로 비교할 수 있습니다.
+ */
+@Service
+@Slf4j
+public class ComprehensiveService {
+    
+    static final String INTERVIEW_QUESTIONS = "interviewQuestions";
+    static final String LEARNING_PATH = "learningPath";
+    
+    private final OpenAIService openAIService;
+    private final OpenAIMetrics openAIMetrics;
+    private final ComprehensiveMode defaultMode;
+    private final long branchTimeoutMillis;
+    private final boolean allowPartial;
+    private final ExecutorService executor;
+    
+    public ComprehensiveService(
+            OpenAIService openAIService,
+            OpenAIMetrics openAIMetrics,
+            BoundedExecutorFactory executorFactory,
+            @Value("${openai.comprehensive.mode:parallel}") String mode,
+            @Value("${openai.comprehensive.branch-timeout-seconds:90}") long branchTimeoutSeconds,
+            @Value("${openai.comprehensive.allow-partial:false}") boolean allowPartial,
+            @Value("${openai.comprehensive.pool-size:16}") int poolSize,
+            @Value("${openai.comprehensive.queue-capacity:64}") int queueCapacity) {
+        this.openAIService = openAIService;
+        this.openAIMetrics = openAIMetrics;
+        this.defaultMode = ComprehensiveMode.from(mode);
+        this.branchTimeoutMillis = TimeUnit.SECONDS.toMillis(branchTimeoutSeconds);
+        this.allowPartial = allowPartial;
+        
+        // 큐와 동시 실행 수를 모두 제한하여 과부하 시 즉시 거절(RejectedExecutionException)되도록 함
+        this.executor = executorFactory.create("comprehensive", poolSize, queueCapacity);
+    }
+    
+    public ComprehensiveResponseDto generate(ResumeRequestDto resumeRequest) throws Exception {
+        return generate(resumeRequest, defaultMode, false);
+    }
+    
+    public ComprehensiveResponseDto generate(ResumeRequestDto resumeRequest, boolean bypassCache) throws Exception {
+        return generate(resumeRequest, defaultMode, bypassCache);
+    }
+    
+    /**
+     * @param mode null이면 openai.comprehensive.mode 설정값 사용
+     */
+    public ComprehensiveResponseDto generate(ResumeRequestDto resumeRequest, ComprehensiveMode mode, boolean bypassCache) throws Exception {
+        ComprehensiveMode resolved = mode != null ? mode : defaultMode;
+        OpenAIMetrics.TokenTally tally = new OpenAIMetrics.TokenTally();
+        Timer.Sample sample = openAIMetrics.startCall();
+        String outcome = OpenAIMetrics.ERROR;
+        try {
+            ComprehensiveResponseDto response = switch (resolved) {
+                case SEQUENTIAL -> tally.track(() -> generateSequential(resumeRequest, bypassCache));
+                case PARALLEL -> generateParallel(resumeRequest, bypassCache, tally);
+                case SINGLE -> tally.track(() -> generateSingle(resumeRequest, bypassCache));
+            };
+            outcome = response.isPartial() ? OpenAIMetrics.PARTIAL : OpenAIMetrics.SUCCESS;
+            return response;
+        } catch (Exception e) {
+            outcome = OpenAIMetrics.outcome(e);
+            throw e;
+        } finally {
+            openAIMetrics.recordComprehensive(sample, resolved.tag(), outcome, tally);
+        }
+    }
+    
+    private ComprehensiveResponseDto generateSingle(ResumeRequestDto resumeRequest, boolean bypassCache) throws Exception {
+        ComprehensiveResponseDto response = openAIService.generateComprehensive(resumeRequest, bypassCache);
+        if (response.isPartial()) {
+            log.warn("통합 분석 단일 호출 응답에 누락된 항목이 있음: {}", response.getFailures());
+            if (!allowPartial) {
+                throw new RuntimeException("통합 분석 생성 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+        return response;
+    }
+    
+    private ComprehensiveResponseDto generateSequential(ResumeRequestDto resumeRequest, boolean bypassCache) throws Exception {
+        InterviewQuestionsResponseDto interviewQuestions = openAIService.generateInterviewQuestions(resumeRequest, bypassCache);
+        LearningPathResponseDto learningPath = openAIService.generateLearningPath(resumeRequest, bypassCache);
+        
+        return ComprehensiveResponseDto.builder()
+                .interviewQuestions(interviewQuestions)
+                .learningPath(learningPath)
+                .build();
+    }
+    
+    private ComprehensiveResponseDto generateParallel(ResumeRequestDto resumeRequest, boolean bypassCache,
+                                                      OpenAIMetrics.TokenTally tally) throws Exception {
+        // 두 작업이 동시에 시작하므로 같은 마감 시각을 기준으로 각 작업의 타임아웃을 적용
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(branchTimeoutMillis);
+        
+        Future<InterviewQuestionsResponseDto> questionsFuture =
+                executor.submit(() -> tally.track(() -> openAIService.generateInterviewQuestions(resumeRequest, bypassCache)));
+        Future<LearningPathResponseDto> learningPathFuture;
+        try {
+            learningPathFuture = executor.submit(() -> tally.track(() -> openAIService.generateLearningPath(resumeRequest, bypassCache)));
+        } catch (RuntimeException e) {
+            questionsFuture.cancel(true);
+            throw e;
+        }
+        
+        List<Future<?>> futures = List.of(questionsFuture, learningPathFuture);
+        Map<String, String> failures = new LinkedHashMap<>();
+        
+        InterviewQuestionsResponseDto interviewQuestions =
+                await(INTERVIEW_QUESTIONS, questionsFuture, deadline, failures, futures);
+        LearningPathResponseDto learningPath =
+                await(LEARNING_PATH, learningPathFuture, deadline, failures, futures);
+        
+        if (interviewQuestions == null && learningPath == null) {
+            throw new RuntimeException("통합 분석 생성 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        
+        if (!failures.isEmpty()) {
+            log.warn("통합 분석 부분 결과 반환 - 실패 항목: {}", failures);
+        }
+        
+        return ComprehensiveResponseDto.builder()
+                .interviewQuestions(interviewQuestions)
+                .learningPath(learningPath)
+                .partial(!failures.isEmpty())
+                .failures(failures.isEmpty() ? null : failures)
+                .build();
+    }
+    
+    /**
+     * 작업 결과를 마감 시각까지 기다림
+     * 부분 결과가 허용되면 실패를 기록하고 null을 반환하며, 그렇지 않으면 나머지 작업을 취소하고 예외를 던집니다.
+     */
+    private <T> T await(String name, Future<T> future, long deadline,
+                        Map<String, String> failures, List<Future<?>> futures) throws Exception {
+        try {
+            long remaining = Math.max(0L, deadline - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("통합 분석 {} 생성 시간 초과 ({}ms)", name, branchTimeoutMillis);
+            if (!allowPartial) {
+                futures.forEach(f -> f.cancel(true));
+                throw new RuntimeException("통합 분석 응답 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", e);
+            }
+            failures.put(name, "응답 시간 초과");
+            return null;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.warn("통합 분석 {} 생성 실패: {}", name, cause.getMessage());
+            if (!allowPartial) {
+                futures.forEach(f -> f.cancel(true));
+                if (cause instanceof Exception exception) {
+                    throw exception;
+                }
+                throw new RuntimeException(cause);
+            }
+            failures.put(name, cause.getMessage() != null ? cause.getMessage() : "생성 실패");
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+            throw e;
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * 통합 분석 실행 모드
+     */
+    public enum ComprehensiveMode {
+        SEQUENTIAL,
+        PARALLEL,
+        // 면접 질문과 학습 경로를 하나의 프롬프트로 한 번에 생성
+        SINGLE;
+        
+        public static ComprehensiveMode from(String value) {
+            if (value == null || value.isBlank()) {
+                return PARALLEL;
+            }
+            try {
+                return ComprehensiveMode.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("지원하지 않는 통합 분석 모드입니다: " + value + " (sequential, parallel, single)", e);
+            }
+        }
+        
+        public String tag() {
+            return name().toLowerCase();
+        }
+    }
+}
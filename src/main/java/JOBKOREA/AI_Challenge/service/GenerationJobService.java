@@ -0,0 +1,252 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.config.BoundedExecutorFactory;
+import JOBKOREA.AI_Challenge.dto.GenerationJobResponseDto;
+import JOBKOREA.AI_Challenge.dto.GenerationJobResponseDto.JobStatus;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.exception.InvalidRequestException;
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 생성 작업 관리
+ * 요청 스레드는 작업을 대기열에 넣고 바로 작업 ID를 반환하며, 고정된 수의 작업자가 대기열을 비우면서 생성합니다.
+ * 대기/실행 중인 작업은 축출되지 않는 별도 맵에 보관하고, 끝난 작업만 TTL과 최대 개수가 있는 저장소로 옮깁니다.
+ * 만료되거나 축출된 작업은 조회되지 않습니다.
+ */
+@Service
+@Slf4j
+public class GenerationJobService {
+    
+    private final OpenAIService openAIService;
+    private final ComprehensiveService comprehensiveService;
+    private final boolean virtualThreads;
+    private final int workerCount;
+    private final long retryAfterSeconds;
+    private final BlockingQueue<GenerationJob> queue;
+    // 대기/실행 중인 작업은 대기열 용량과 작업자 수로 개수가 제한되므로 축출하지 않음
+    private final Map<String, GenerationJob> activeJobs = new ConcurrentHashMap<>();
+    private final Cache<String, GenerationJob> finishedJobs;
+    private final AtomicInteger running = new AtomicInteger();
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final List<Thread> workers = new ArrayList<>();
+    
+    public GenerationJobService(
+            OpenAIService openAIService,
+            ComprehensiveService comprehensiveService,
+            BoundedExecutorFactory executorFactory,
+            MeterRegistry meterRegistry,
+            @Value("${openai.jobs.worker-count:8}") int workerCount,
+            @Value("${openai.jobs.queue-capacity:200}") int queueCapacity,
+            @Value("${openai.jobs.ttl-minutes:30}") long ttlMinutes,
+            @Value("${openai.jobs.maximum-size:10000}") long maximumSize,
+            @Value("${openai.jobs.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.openAIService = openAIService;
+        this.comprehensiveService = comprehensiveService;
+        this.virtualThreads = executorFactory.isVirtualThreads();
+        this.workerCount = workerCount;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.finishedJobs = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        
+        meterRegistry.gaugeCollectionSize("generation.jobs.queued", Tags.empty(), queue);
+        meterRegistry.gauge("generation.jobs.running", Tags.empty(), running);
+        meterRegistry.gauge("generation.jobs.stored", Tags.empty(), this,
+                service -> service.activeJobs.size() + service.finishedJobs.estimatedSize());
+        this.completedCounter = Counter.builder("generation.jobs.completed")
+                .description("완료된 비동기 생성 작업 수")
+                .tag("status", "succeeded")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("generation.jobs.completed")
+                .description("완료된 비동기 생성 작업 수")
+                .tag("status", "failed")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void start() {
+        for (int i = 1; i <= workerCount; i++) {
+            String name = "generation-job-" + i;
+            Thread worker = virtualThreads
+                    ? Thread.ofVirtual().name(name).unstarted(this::drain)
+                    : Thread.ofPlatform().name(name).daemon(true).unstarted(this::drain);
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("비동기 생성 작업자 {}개 시작 (대기열 {}개)", workerCount, queue.remainingCapacity());
+    }
+    
+    /**
+     * 작업 등록
+     * @throws ServiceOverloadedException 대기열이 가득 찬 경우
+     */
+    public GenerationJobResponseDto submit(JobType type, ResumeRequestDto resumeRequest, boolean bypassCache) {
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), type, resumeRequest, bypassCache);
+        activeJobs.put(job.id, job);
+        if (!queue.offer(job)) {
+            activeJobs.remove(job.id);
+            log.warn("비동기 생성 대기열이 가득 차 작업 거절 (대기 {}개)", queue.size());
+            throw new ServiceOverloadedException("jobs", retryAfterSeconds);
+        }
+        log.info("비동기 생성 작업 등록: {} ({})", job.id, type.getName());
+        return job.toDto();
+    }
+    
+    public Optional<GenerationJobResponseDto> find(String jobId) {
+        GenerationJob job = activeJobs.get(jobId);
+        if (job == null) {
+            job = finishedJobs.getIfPresent(jobId);
+        }
+        return Optional.ofNullable(job).map(GenerationJob::toDto);
+    }
+    
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            GenerationJob job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            run(job);
+        }
+    }
+    
+    private void run(GenerationJob job) {
+        running.incrementAndGet();
+        job.start();
+        try {
+            Object result = switch (job.type) {
+                case INTERVIEW_QUESTIONS -> openAIService.generateInterviewQuestions(job.request, job.bypassCache);
+                case LEARNING_PATH -> openAIService.generateLearningPath(job.request, job.bypassCache);
+                case COMPREHENSIVE -> comprehensiveService.generate(job.request, job.bypassCache);
+            };
+            job.succeed(result);
+            completedCounter.increment();
+            log.info("비동기 생성 작업 완료: {}", job.id);
+        } catch (Exception e) {
+            job.fail(e.getMessage() != null ? e.getMessage() : "생성 실패");
+            failedCounter.increment();
+            log.warn("비동기 생성 작업 실패: {} - {}", job.id, e.getMessage());
+        } finally {
+            // 끝난 시점부터 TTL을 적용하고, 조회가 비지 않도록 저장소에 넣은 뒤 실행 중 목록에서 제거
+            finishedJobs.put(job.id, job);
+            activeJobs.remove(job.id);
+            running.decrementAndGet();
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        workers.forEach(Thread::interrupt);
+    }
+    
+    /**
+     * 작업 유형
+     */
+    public enum JobType {
+        INTERVIEW_QUESTIONS(PromptTemplateRegistry.INTERVIEW_QUESTIONS),
+        LEARNING_PATH(PromptTemplateRegistry.LEARNING_PATH),
+        COMPREHENSIVE("comprehensive");
+        
+        private final String name;
+        
+        JobType(String name) {
+            this.name = name;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public static JobType from(String value) {
+            if (value == null || value.isBlank()) {
+                return COMPREHENSIVE;
+            }
+            for (JobType type : values()) {
+                if (type.name.equalsIgnoreCase(value.trim())) {
+                    return type;
+                }
+            }
+            throw new InvalidRequestException("지원하지 않는 작업 유형입니다: " + value);
+        }
+    }
+    
+    private static class GenerationJob {
+        
+        private final String id;
+        private final JobType type;
+        private final ResumeRequestDto request;
+        private final boolean bypassCache;
+        private final Instant submittedAt = Instant.now();
+        
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile Instant startedAt;
+        private volatile Instant completedAt;
+        private volatile Object result;
+        private volatile String error;
+        
+        GenerationJob(String id, JobType type, ResumeRequestDto request, boolean bypassCache) {
+            this.id = id;
+            this.type = type;
+            this.request = request;
+            this.bypassCache = bypassCache;
+        }
+        
+        void start() {
+            startedAt = Instant.now();
+            status = JobStatus.RUNNING;
+        }
+        
+        void succeed(Object result) {
+            this.result = result;
+            completedAt = Instant.now();
+            status = JobStatus.SUCCEEDED;
+        }
+        
+        void fail(String error) {
+            this.error = error;
+            completedAt = Instant.now();
+            status = JobStatus.FAILED;
+        }
+        
+        GenerationJobResponseDto toDto() {
+            return GenerationJobResponseDto.builder()
+                    .jobId(id)
+                    .type(type.getName())
+                    .status(status)
+                    .submittedAt(submittedAt)
+                    .startedAt(startedAt)
+                    .completedAt(completedAt)
+                    .result(result)
+                    .error(error)
+                    .build();
+        }
+    }
+}
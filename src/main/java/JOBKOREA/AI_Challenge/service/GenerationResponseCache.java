@@ -0,0 +1,128 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 생성 결과 캐시 (내용 기반 키)
+ * 정규화한 이력서 필드와 모델/온도/프롬프트 버전의 해시를 키로 사용하므로
+ * 동일한 요청의 재전송은 OpenAI 호출 없이 즉시 응답합니다.
+ * 메모리 캐시(L1)에 없으면 영구 저장소(L2)를 조회하여, 재시작 직후에도 이전 결과를 재사용합니다.
+ */
+@Component
+@Slf4j
+public class GenerationResponseCache {
+    
+    public static final String CACHE_NAME = "openai.responses";
+    
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern SKILL_DELIMITER = Pattern.compile("[,/|·\\n]+");
+    
+    private final boolean enabled;
+    private final Cache<String, Object> cache;
+    private final PersistentResultStore resultStore;
+    
+    public GenerationResponseCache(
+            MeterRegistry meterRegistry,
+            PersistentResultStore resultStore,
+            @Value("${openai.cache.enabled:true}") boolean enabled,
+            @Value("${openai.cache.maximum-size:10000}") long maximumSize,
+            @Value("${openai.cache.ttl-minutes:60}") long ttlMinutes) {
+        this.enabled = enabled;
+        this.resultStore = resultStore;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        
+        // cache.gets{result=hit|miss}, cache.evictions 등을 Actuator 메트릭으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+    
+    /**
+     * 요청 내용으로부터 캐시 키를 생성
+     */
+    public String key(String type, ResumeRequestDto resumeRequest, String model, Double temperature, String promptVersion) {
+        StringBuilder source = new StringBuilder(256)
+                .append(type).append('\u0000')
+                .append(model).append('\u0000')
+                .append(temperature).append('\u0000')
+                .append(promptVersion).append('\u0000')
+                .append(normalize(resumeRequest.getCareerSummary())).append('\u0000')
+                .append(normalize(resumeRequest.getJobDescription())).append('\u0000')
+                .append(normalize(resumeRequest.getTechnicalSkills())).append('\u0000')
+                .append(normalize(resumeRequest.getAdditionalInfo()));
+        return type + ":" + sha256(source.toString());
+    }
+    
+    public <T> T get(String key, Class<T> type) {
+        if (!enabled) {
+            return null;
+        }
+        Object value = cache.getIfPresent(key);
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        }
+        T stored = resultStore.get(key, type);
+        if (stored != null) {
+            cache.put(key, stored);
+        }
+        return stored;
+    }
+    
+    public void put(String key, Object value) {
+        if (enabled && value != null) {
+            cache.put(key, value);
+            resultStore.put(key, value);
+        }
+    }
+    
+    /**
+     * 공백과 대소문자 차이만 있는 입력이 같은 키를 갖도록 정규화
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(value.trim()).replaceAll(" ").toLowerCase();
+    }
+    
+    /**
+     * 기술 스킬 문자열을 정규화한 스킬 집합으로 분리 (나열 순서와 구분자 차이 무시)
+     */
+    static Set<String> skillTokens(String technicalSkills) {
+        Set<String> skills = new LinkedHashSet<>();
+        for (String skill : SKILL_DELIMITER.split(normalize(technicalSkills))) {
+            String token = skill.trim();
+            if (!token.isEmpty()) {
+                skills.add(token);
+            }
+        }
+        return skills;
+    }
+    
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
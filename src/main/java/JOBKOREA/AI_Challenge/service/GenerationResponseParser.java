@@ -0,0 +1,408 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.ComprehensiveResponseDto;
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.LearningPathResponseDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenAI 응답 파서
+ * Jackson 토큰 스트림을 한 번만 읽어 DTO로 바로 매핑하며, JsonNode 트리나 중간 문자열 복사본을 만들지 않습니다.
+ * 응답이 중간에 잘린 경우 구조적으로 감지하고, 그때까지 완성된 항목은 버리지 않고 복구합니다.
+ * 구조화 출력(function calling) 응답은 이미 JSON으로 해석된 함수 인자를 DTO에 바로 바인딩합니다.
+ */
+@Component
+@Slf4j
+public class GenerationResponseParser {
+    
+    static final String MISSING_VALUE = "정보 없음";
+    
+    private final JsonFactory jsonFactory;
+    private final ObjectMapper objectMapper;
+    
+    public GenerationResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.objectMapper = objectMapper;
+    }
+    
+    public Parsed<InterviewQuestionsResponseDto> parseInterviewQuestions(String response) {
+        List<InterviewQuestionsResponseDto.QuestionDto> questions = new ArrayList<>();
+        Map<String, String> values = new HashMap<>(4);
+        boolean complete = parse(response,
+                parser -> readObject(parser, "questions", item -> questions.add(readQuestion(item)), values));
+        
+        // 최소한 하나의 질문이 있어야 함
+        if (questions.isEmpty()) {
+            log.warn("파싱된 질문이 없음 (응답 완성 여부: {})", complete);
+            throw new RuntimeException("AI 서비스에서 질문을 생성하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (!complete) {
+            log.warn("OpenAI 응답이 완전하지 않음 - 완성된 질문 {}개를 복구", questions.size());
+        }
+        
+        return new Parsed<>(interviewQuestions(questions, values), complete);
+    }
+    
+    public Parsed<LearningPathResponseDto> parseLearningPath(String response) {
+        List<LearningPathResponseDto.LearningStepDto> learningSteps = new ArrayList<>();
+        Map<String, String> values = new HashMap<>(4);
+        boolean complete = parse(response,
+                parser -> readObject(parser, "learningSteps", item -> learningSteps.add(readLearningStep(item)), values));
+        
+        // 최소한 하나의 학습 단계가 있어야 함
+        if (learningSteps.isEmpty()) {
+            log.warn("파싱된 학습 단계가 없음 (응답 완성 여부: {})", complete);
+            throw new RuntimeException("AI 서비스에서 학습 단계를 생성하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (!complete) {
+            log.warn("OpenAI 응답이 완전하지 않음 - 완성된 학습 단계 {}개를 복구", learningSteps.size());
+        }
+        
+        return new Parsed<>(learningPath(learningSteps, values), complete);
+    }
+    
+    /**
+     * 통합 분석 단일 호출 응답 파싱 - {"interviewQuestions": {...}, "learningPath": {...}}를 두 응답으로 나눔
+     * 한쪽 항목만 복구된 경우 다른 쪽은 null로 두고 failures에 기록합니다.
+     */
+    public Parsed<ComprehensiveResponseDto> parseComprehensive(String response) {
+        List<InterviewQuestionsResponseDto.QuestionDto> questions = new ArrayList<>();
+        List<LearningPathResponseDto.LearningStepDto> learningSteps = new ArrayList<>();
+        Map<String, String> questionValues = new HashMap<>(4);
+        Map<String, String> learningPathValues = new HashMap<>(4);
+        boolean complete = parse(response, parser -> {
+            boolean sectionsComplete = true;
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.START_OBJECT && ComprehensiveService.INTERVIEW_QUESTIONS.equals(field)) {
+                    sectionsComplete &= readObject(parser, "questions", item -> questions.add(readQuestion(item)), questionValues);
+                } else if (value == JsonToken.START_OBJECT && ComprehensiveService.LEARNING_PATH.equals(field)) {
+                    sectionsComplete &= readObject(parser, "learningSteps",
+                            item -> learningSteps.add(readLearningStep(item)), learningPathValues);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return sectionsComplete && token == JsonToken.END_OBJECT;
+        });
+        
+        if (questions.isEmpty() && learningSteps.isEmpty()) {
+            log.warn("파싱된 질문과 학습 단계가 없음 (응답 완성 여부: {})", complete);
+            throw new RuntimeException("AI 서비스에서 통합 분석을 생성하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (!complete) {
+            log.warn("OpenAI 응답이 완전하지 않음 - 완성된 질문 {}개, 학습 단계 {}개를 복구", questions.size(), learningSteps.size());
+        }
+        
+        return new Parsed<>(comprehensive(questions.isEmpty() ? null : interviewQuestions(questions, questionValues),
+                learningSteps.isEmpty() ? null : learningPath(learningSteps, learningPathValues)), complete);
+    }
+    
+    /**
+     * 구조화 출력 함수 인자를 면접 질문 DTO로 바인딩 - 빠진 필드는 텍스트 파싱과 같은 기본값으로 채움
+     */
+    public Parsed<InterviewQuestionsResponseDto> bindInterviewQuestions(JsonNode arguments) {
+        InterviewQuestionsResponseDto dto = bindInterviewQuestionsSection(arguments);
+        if (dto == null) {
+            log.warn("함수 인자에 질문이 없음");
+            throw new RuntimeException("AI 서비스에서 질문을 생성하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return new Parsed<>(dto, true);
+    }
+    
+    public Parsed<LearningPathResponseDto> bindLearningPath(JsonNode arguments) {
+        LearningPathResponseDto dto = bindLearningPathSection(arguments);
+        if (dto == null) {
+            log.warn("함수 인자에 학습 단계가 없음");
+            throw new RuntimeException("AI 서비스에서 학습 단계를 생성하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return new Parsed<>(dto, true);
+    }
+    
+    public Parsed<ComprehensiveResponseDto> bindComprehensive(JsonNode arguments) {
+        InterviewQuestionsResponseDto questions = bindInterviewQuestionsSection(arguments.path(ComprehensiveService.INTERVIEW_QUESTIONS));
+        LearningPathResponseDto learningPath = bindLearningPathSection(arguments.path(ComprehensiveService.LEARNING_PATH));
+        if (questions == null && learningPath == null) {
+            log.warn("함수 인자에 질문과 학습 단계가 없음");
+            throw new RuntimeException("AI 서비스에서 통합 분석을 생성하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return new Parsed<>(comprehensive(questions, learningPath), true);
+    }
+    
+    /**
+     * @return 항목이 하나도 없으면 null
+     */
+    private InterviewQuestionsResponseDto bindInterviewQuestionsSection(JsonNode node) {
+        InterviewQuestionsResponseDto dto = bind(node, InterviewQuestionsResponseDto.class);
+        if (dto == null || dto.getQuestions() == null) {
+            return null;
+        }
+        List<InterviewQuestionsResponseDto.QuestionDto> questions = new ArrayList<>(dto.getQuestions().size());
+        for (InterviewQuestionsResponseDto.QuestionDto question : dto.getQuestions()) {
+            if (question != null) {
+                questions.add(InterviewQuestionsResponseDto.QuestionDto.builder()
+                        .question(valueOrMissing(question.getQuestion()))
+                        .category(valueOrMissing(question.getCategory()))
+                        .difficulty(valueOrMissing(question.getDifficulty()))
+                        .expectedAnswer(valueOrMissing(question.getExpectedAnswer()))
+                        .tips(valueOrMissing(question.getTips()))
+                        .build());
+            }
+        }
+        if (questions.isEmpty()) {
+            return null;
+        }
+        return InterviewQuestionsResponseDto.builder()
+                .questions(questions)
+                .analysis(dto.getAnalysis() != null ? dto.getAnalysis() : "")
+                .build();
+    }
+    
+    private LearningPathResponseDto bindLearningPathSection(JsonNode node) {
+        LearningPathResponseDto dto = bind(node, LearningPathResponseDto.class);
+        if (dto == null || dto.getLearningSteps() == null) {
+            return null;
+        }
+        List<LearningPathResponseDto.LearningStepDto> learningSteps = new ArrayList<>(dto.getLearningSteps().size());
+        for (LearningPathResponseDto.LearningStepDto step : dto.getLearningSteps()) {
+            if (step != null) {
+                learningSteps.add(LearningPathResponseDto.LearningStepDto.builder()
+                        .step(valueOrMissing(step.getStep()))
+                        .description(valueOrMissing(step.getDescription()))
+                        .priority(valueOrMissing(step.getPriority()))
+                        .resources(valueOrMissing(step.getResources()))
+                        .build());
+            }
+        }
+        if (learningSteps.isEmpty()) {
+            return null;
+        }
+        return LearningPathResponseDto.builder()
+                .learningSteps(learningSteps)
+                .summary(dto.getSummary() != null ? dto.getSummary() : "")
+                .estimatedDuration(dto.getEstimatedDuration() != null ? dto.getEstimatedDuration() : "")
+                .build();
+    }
+    
+    /**
+     * 객체 노드를 DTO로 변환 (객체가 아니면 null). 스키마에 없는 필드는 무시
+     */
+    private <T> T bind(JsonNode node, Class<T> type) {
+        if (node == null || !node.isObject()) {
+            return null;
+        }
+        try {
+            return objectMapper.readerFor(type)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(node);
+        } catch (IOException e) {
+            log.warn("함수 인자를 {}로 변환할 수 없음: {}", type.getSimpleName(), e.getMessage());
+            throw new RuntimeException("AI 서비스 응답 형식에 문제가 있습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+    
+    private static String valueOrMissing(String value) {
+        return value != null ? value : MISSING_VALUE;
+    }
+    
+    /**
+     * 한쪽 항목만 있으면 다른 쪽은 null로 두고 failures에 기록
+     */
+    private static ComprehensiveResponseDto comprehensive(InterviewQuestionsResponseDto interviewQuestions,
+                                                          LearningPathResponseDto learningPath) {
+        Map<String, String> failures = new LinkedHashMap<>();
+        if (interviewQuestions == null) {
+            failures.put(ComprehensiveService.INTERVIEW_QUESTIONS, "응답에 면접 질문이 없습니다");
+        }
+        if (learningPath == null) {
+            failures.put(ComprehensiveService.LEARNING_PATH, "응답에 학습 단계가 없습니다");
+        }
+        return ComprehensiveResponseDto.builder()
+                .interviewQuestions(interviewQuestions)
+                .learningPath(learningPath)
+                .partial(!failures.isEmpty())
+                .failures(failures.isEmpty() ? null : failures)
+                .build();
+    }
+    
+    private static InterviewQuestionsResponseDto interviewQuestions(List<InterviewQuestionsResponseDto.QuestionDto> questions,
+                                                                    Map<String, String> values) {
+        return InterviewQuestionsResponseDto.builder()
+                .questions(questions)
+                .analysis(values.getOrDefault("analysis", ""))
+                .build();
+    }
+    
+    private static LearningPathResponseDto learningPath(List<LearningPathResponseDto.LearningStepDto> learningSteps,
+                                                        Map<String, String> values) {
+        return LearningPathResponseDto.builder()
+                .learningSteps(learningSteps)
+                .summary(values.getOrDefault("summary", ""))
+                .estimatedDuration(values.getOrDefault("estimatedDuration", ""))
+                .build();
+    }
+    
+    /**
+     * 응답에서 최상위 객체를 찾아 objectReader로 한 번 읽음
+     * @return 최상위 객체가 끝까지 닫혔는지 여부 (false이면 잘리거나 손상된 응답)
+     */
+    private boolean parse(String response, ObjectReader objectReader) {
+        // 응답이 null이거나 비어있는지 확인
+        if (response == null || response.isBlank()) {
+            log.warn("OpenAI 응답이 비어있음");
+            throw new RuntimeException("AI 서비스 응답이 비어있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        
+        // JSON 앞에 붙은 설명이나 코드 블록 표시는 건너뜀
+        int objectStart = response.indexOf('{');
+        if (objectStart < 0) {
+            log.warn("OpenAI 응답이 유효한 JSON 형식이 아님: {}", response);
+            throw new RuntimeException("AI 서비스 응답 형식에 문제가 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        
+        try (JsonParser parser = jsonFactory.createParser(objectStart == 0 ? response : response.substring(objectStart))) {
+            parser.nextToken();
+            return objectReader.read(parser);
+        } catch (JsonProcessingException e) {
+            // 입력 중간에 끝났거나(잘린 응답) 구조가 손상된 경우 - 이미 읽은 항목은 유지
+            log.debug("OpenAI 응답 JSON이 완전하지 않음: {}", e.getOriginalMessage());
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * 현재 객체를 끝까지 읽으며 itemsField 배열의 객체는 itemReader로, 나머지 스칼라 필드는 values로 수집
+     * @return 객체가 끝까지 닫혔는지 여부
+     */
+    private boolean readObject(JsonParser parser, String itemsField, ItemReader itemReader,
+                               Map<String, String> values) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_ARRAY && itemsField.equals(field)) {
+                JsonToken element;
+                while ((element = parser.nextToken()) != null && element != JsonToken.END_ARRAY) {
+                    if (element == JsonToken.START_OBJECT) {
+                        itemReader.read(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if (value.isScalarValue()) {
+                if (value != JsonToken.VALUE_NULL) {
+                    values.put(field, parser.getText());
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return token == JsonToken.END_OBJECT;
+    }
+    
+    private InterviewQuestionsResponseDto.QuestionDto readQuestion(JsonParser parser) throws IOException {
+        InterviewQuestionsResponseDto.QuestionDto.QuestionDtoBuilder question = InterviewQuestionsResponseDto.QuestionDto.builder()
+                .question(MISSING_VALUE)
+                .category(MISSING_VALUE)
+                .difficulty(MISSING_VALUE)
+                .expectedAnswer(MISSING_VALUE)
+                .tips(MISSING_VALUE);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            String text = readScalar(parser);
+            if (text == null) {
+                continue;
+            }
+            switch (field) {
+                case "question" -> question.question(text);
+                case "category" -> question.category(text);
+                case "difficulty" -> question.difficulty(text);
+                case "expectedAnswer" -> question.expectedAnswer(text);
+                case "tips" -> question.tips(text);
+                default -> { }
+            }
+        }
+        return question.build();
+    }
+    
+    private LearningPathResponseDto.LearningStepDto readLearningStep(JsonParser parser) throws IOException {
+        LearningPathResponseDto.LearningStepDto.LearningStepDtoBuilder step = LearningPathResponseDto.LearningStepDto.builder()
+                .step(MISSING_VALUE)
+                .description(MISSING_VALUE)
+                .priority(MISSING_VALUE)
+                .resources(MISSING_VALUE);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            String text = readScalar(parser);
+            if (text == null) {
+                continue;
+            }
+            switch (field) {
+                case "step" -> step.step(text);
+                case "description" -> step.description(text);
+                case "priority" -> step.priority(text);
+                case "resources" -> step.resources(text);
+                default -> { }
+            }
+        }
+        return step.build();
+    }
+    
+    /**
+     * 필드 값이 스칼라이면 텍스트를, null이거나 중첩 구조이면 건너뛰고 null을 반환
+     */
+    private String readScalar(JsonParser parser) throws IOException {
+        JsonToken value = parser.nextToken();
+        if (value == null) {
+            throw new JsonEOFException(parser, null, "응답이 필드 값 이전에 끝남");
+        }
+        if (!value.isScalarValue()) {
+            parser.skipChildren();
+            return null;
+        }
+        return value == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+    
+    @FunctionalInterface
+    private interface ItemReader {
+        void read(JsonParser parser) throws IOException;
+    }
+    
+    @FunctionalInterface
+    private interface ObjectReader {
+        boolean read(JsonParser parser) throws IOException;
+    }
+    
+    /**
+     * 파싱 결과와 응답 완성 여부
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Parsed<T> {
+        private final T value;
+        private final boolean complete;
+    }
+}
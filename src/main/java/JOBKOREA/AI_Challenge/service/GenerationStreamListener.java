@@ -0,0 +1,19 @@
+package JOBKOREA.AI_Challenge.service;
+
+/**
+ * 스트리밍 생성 결과를 전달받는 리스너
+ * 항목(질문, 학습 단계)은 완성되는 즉시, 최상위 필드(analysis, summary 등)는 값이 완성되는 즉시 전달됩니다.
+ */
+public interface GenerationStreamListener<T> {
+    
+    void onItem(T item);
+    
+    void onField(String name, String value);
+    
+    /**
+     * @param complete 응답 JSON이 끝까지 완성되었는지 여부 (false이면 잘린 응답)
+     */
+    void onComplete(boolean complete);
+    
+    void onError(Throwable error);
+}
@@ -0,0 +1,195 @@
+package JOBKOREA.AI_Challenge.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * OpenAI 호출 헤징(hedged request) 정책
+ * 생성 유형별 최근 응답 지연의 백분위(기본 p95)를 추적하여, 그 시간 안에 응답이 없으면 같은 요청을 한 번 더 보낼 시점을 정합니다.
+ * 추가 요청은 전체 호출 수의 budget-percent 이내로 제한하며, 헤지 요청 수와 어느 쪽이 이겼는지를 메트릭으로 남깁니다.
+ */
+@Component
+@Slf4j
+public class HedgePolicy {
+    
+    static final String PRIMARY = "primary";
+    static final String HEDGE = "hedge";
+    static final String NONE = "none";
+    
+    // 예산이 한동안 쌓였다가 한 번에 몰려 나가지 않도록 적립 상한을 둠
+    private static final double MAX_BUDGET_CREDITS = 10.0;
+    
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayMillis;
+    private final int minSamples;
+    private final double creditPerRequest;
+    private final int windowSize;
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    
+    private double budgetCredits;
+    
+    public HedgePolicy(
+            MeterRegistry meterRegistry,
+            @Value("${openai.hedge.enabled:false}") boolean enabled,
+            @Value("${openai.hedge.percentile:0.95}") double percentile,
+            @Value("${openai.hedge.min-delay-millis:1000}") long minDelayMillis,
+            @Value("${openai.hedge.min-samples:50}") int minSamples,
+            @Value("${openai.hedge.budget-percent:5}") double budgetPercent,
+            @Value("${openai.hedge.window-size:1000}") int windowSize) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayMillis = minDelayMillis;
+        this.minSamples = minSamples;
+        this.creditPerRequest = budgetPercent / 100.0;
+        this.windowSize = windowSize;
+    }
+    
+    /**
+     * 헤지 요청을 보낼 때까지 기다릴 시간. 헤징이 꺼져 있거나 지연 관측값이 부족하면 -1
+     * 호출 1건마다 한 번 불리며, 이때 헤지 예산이 budget-percent만큼 적립됨
+     */
+    public long delayMillis(String endpoint) {
+        if (!enabled) {
+            return -1L;
+        }
+        synchronized (this) {
+            budgetCredits = Math.min(MAX_BUDGET_CREDITS, budgetCredits + creditPerRequest);
+        }
+        LatencyWindow window = window(endpoint);
+        if (window.size() < minSamples) {
+            return -1L;
+        }
+        return Math.max(minDelayMillis, window.percentileMillis(percentile));
+    }
+    
+    /**
+     * 헤지 요청 1건에 대한 예산 차감. 예산이 부족하거나 capacity(RPM/TPM 여유)가 false면 차감하지 않고 false
+     */
+    public boolean tryAcquire(String endpoint, BooleanSupplier capacity) {
+        String outcome;
+        synchronized (this) {
+            if (budgetCredits < 1.0) {
+                outcome = "budget-exhausted";
+            } else if (!capacity.getAsBoolean()) {
+                outcome = "rate-limited";
+            } else {
+                budgetCredits -= 1.0;
+                outcome = "sent";
+            }
+        }
+        Counter.builder("openai.hedge.requests")
+                .description("응답 지연 백분위를 넘겨 헤지 요청을 보내려 한 횟수")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+        if (!"sent".equals(outcome)) {
+            log.debug("헤지 요청을 보내지 않음 ({}) - {}", outcome, endpoint);
+        }
+        return "sent".equals(outcome);
+    }
+    
+    /**
+     * 호출 결과 반영 - 성공/타임아웃 지연은 백분위 계산에 더하고, 성공한 호출은 헤징 결과(winner)별 지연을 기록
+     * @param winner primary(원 요청 응답), hedge(헤지 요청 응답), none(헤지 요청을 보내지 않음)
+     */
+    public void record(String endpoint, long elapsedNanos, String outcome, String winner) {
+        if (!enabled) {
+            return;
+        }
+        if (OpenAIMetrics.SUCCESS.equals(outcome) || OpenAIMetrics.TIMEOUT.equals(outcome)) {
+            window(endpoint).add(elapsedNanos);
+        }
+        if (!OpenAIMetrics.SUCCESS.equals(outcome)) {
+            return;
+        }
+        if (!NONE.equals(winner)) {
+            Counter.builder("openai.hedge.wins")
+                    .description("헤지 요청을 보낸 호출에서 먼저 응답한 쪽")
+                    .tag("endpoint", endpoint)
+                    .tag("winner", winner)
+                    .register(meterRegistry)
+                    .increment();
+        }
+        Timer.builder("openai.hedge.latency")
+                .description("헤징 결과별 OpenAI 호출 지연 (winner=none은 지연 백분위 안에 응답한 호출)")
+                .tag("endpoint", endpoint)
+                .tag("winner", winner)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    private LatencyWindow window(String endpoint) {
+        return windows.computeIfAbsent(endpoint, key -> {
+            LatencyWindow window = new LatencyWindow(windowSize);
+            Gauge.builder("openai.hedge.delay", window, w -> w.size() < minSamples
+                            ? 0.0 : Math.max(minDelayMillis, w.percentileMillis(percentile)))
+                    .description("헤지 요청을 보내기까지 기다리는 시간 (관측값이 부족하면 0)")
+                    .baseUnit("milliseconds")
+                    .tag("endpoint", key)
+                    .register(meterRegistry);
+            return window;
+        });
+    }
+    
+    /**
+     * 최근 windowSize건의 응답 지연 링 버퍼
+     * 정렬 비용을 줄이기 위해 백분위는 새 관측값이 windowSize/10건 쌓일 때마다 다시 계산
+     */
+    static class LatencyWindow {
+        
+        private final long[] samples;
+        private final int recomputeInterval;
+        private int count;
+        private int next;
+        private int sinceRecompute;
+        private double cachedPercentile = -1;
+        private long cachedMillis;
+        
+        LatencyWindow(int size) {
+            this.samples = new long[Math.max(1, size)];
+            this.recomputeInterval = Math.max(1, samples.length / 10);
+        }
+        
+        synchronized void add(long elapsedNanos) {
+            samples[next] = elapsedNanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            sinceRecompute++;
+        }
+        
+        synchronized int size() {
+            return count;
+        }
+        
+        synchronized long percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0L;
+            }
+            if (cachedPercentile != percentile || sinceRecompute >= recomputeInterval) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                int index = (int) Math.ceil(percentile * count) - 1;
+                cachedMillis = TimeUnit.NANOSECONDS.toMillis(sorted[Math.min(count - 1, Math.max(0, index))]);
+                cachedPercentile = percentile;
+                sinceRecompute = 0;
+            }
+            return cachedMillis;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package JOBKOREA.AI_Challenge.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * OpenAI 응답 JSON을 조각 단위로 입력받아 점진적으로 해석하는 파서
+ * 최상위 객체의 배열 필드 안에 있는 객체(질문, 학습 단계)가 닫히는 즉시 {@link Listener#onItem}으로,
+ * 최상위 문자열/숫자 필드는 값이 완성되는 즉시 {@link Listener#onValue}로 전달합니다.
+ * 응답 앞의 JSON 이외 텍스트(예: 코드 블록 표시)와 최상위 객체 이후의 텍스트는 무시합니다.
+ * 스레드 안전하지 않으므로 한 응답당 하나의 인스턴스를 사용해야 합니다.
+ */
+public class IncrementalJsonParser {
+    
+    // 최상위 객체 = 1, 최상위 배열 필드 = 2, 배열 안의 항목 객체 = 3
+    private static final int ROOT_DEPTH = 1;
+    private static final int ARRAY_DEPTH = 2;
+    private static final int ITEM_DEPTH = 3;
+    
+    public interface Listener {
+        void onItem(String arrayField, Map<String, String> item);
+        
+        void onValue(String field, String value);
+    }
+    
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final Listener listener;
+    
+    private boolean started;
+    private boolean complete;
+    private int depth;
+    private String rootField;
+    private String arrayField;
+    private String itemField;
+    private Map<String, String> item;
+    
+    public IncrementalJsonParser(JsonFactory jsonFactory, Listener listener) {
+        try {
+            this.parser = jsonFactory.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("JSON 파서를 생성할 수 없습니다", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.listener = listener;
+    }
+    
+    /**
+     * 응답 조각을 입력하고 완성된 토큰을 모두 처리
+     */
+    public void feed(String chunk) throws IOException {
+        if (complete || chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        
+        String input = chunk;
+        if (!started) {
+            int objectStart = input.indexOf('{');
+            if (objectStart < 0) {
+                return;
+            }
+            started = true;
+            input = input.substring(objectStart);
+        }
+        
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        feeder.feedInput(bytes, 0, bytes.length);
+        drain();
+    }
+    
+    /**
+     * 입력 종료를 알림
+     * 최상위 객체가 닫히지 않은 채 끝난 경우(잘린 응답) 예외 대신 {@link #isComplete()}가 false로 남습니다.
+     */
+    public void endOfInput() {
+        if (complete) {
+            return;
+        }
+        feeder.endOfInput();
+        try {
+            drain();
+        } catch (JsonProcessingException e) {
+            // 입력이 중간에 끝난 경우 - 이미 전달된 항목은 유지하고 미완성 상태로 둠
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    /**
+     * 최상위 JSON 객체가 끝까지 닫혔는지 여부
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+    
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!complete && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            handle(token);
+        }
+    }
+    
+    private void handle(JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT -> {
+                depth++;
+                if (depth == ITEM_DEPTH && arrayField != null) {
+                    item = new LinkedHashMap<>();
+                }
+            }
+            case END_OBJECT -> {
+                if (depth == ITEM_DEPTH && item != null) {
+                    listener.onItem(arrayField, item);
+                    item = null;
+                }
+                depth--;
+                if (depth == 0) {
+                    complete = true;
+                }
+            }
+            case START_ARRAY -> {
+                depth++;
+                if (depth == ARRAY_DEPTH) {
+                    arrayField = rootField;
+                }
+            }
+            case END_ARRAY -> {
+                if (depth == ARRAY_DEPTH) {
+                    arrayField = null;
+                }
+                depth--;
+            }
+            case FIELD_NAME -> {
+                if (depth == ROOT_DEPTH) {
+                    rootField = parser.currentName();
+                } else if (depth == ITEM_DEPTH) {
+                    itemField = parser.currentName();
+                }
+            }
+            case VALUE_STRING, VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT, VALUE_TRUE, VALUE_FALSE -> {
+                if (depth == ROOT_DEPTH) {
+                    listener.onValue(rootField, parser.getText());
+                } else if (depth == ITEM_DEPTH && item != null) {
+                    item.put(itemField, parser.getText());
+                }
+            }
+            default -> {
+                // null 값과 더 깊은 중첩 구조는 무시
+            }
+        }
+    }
+}
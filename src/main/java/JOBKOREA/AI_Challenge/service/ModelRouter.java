@@ -0,0 +1,222 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.config.ModelRoutingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청별 OpenAI 모델 선택
+ * 생성 유형과 예상 프롬프트 토큰 수로 후보 경로를 고른 뒤, 최근 응답 지연(EWMA)이 임계값을 넘거나
+ * 타임아웃/5xx/429로 실패한 지 얼마 되지 않은 모델은 뒤로 미룹니다.
+ * 반환한 순서가 곧 대체(failover) 순서이므로 한 모델에 장애가 나도 다음 모델로 응답할 수 있습니다.
+ */
+@Component
+@Slf4j
+public class ModelRouter {
+    
+    private final MeterRegistry meterRegistry;
+    private final ModelRoute defaultRoute;
+    private final List<ModelRoute> routes;
+    private final long latencyThresholdNanos;
+    private final double ewmaAlpha;
+    private final long cooldownNanos;
+    
+    public ModelRouter(
+            ModelRoutingProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${openai.api.model}") String model,
+            @Value("${openai.api.temperature}") double temperature) {
+        this.meterRegistry = meterRegistry;
+        this.defaultRoute = new ModelRoute("default", model, null, temperature, 0, Set.of());
+        this.routes = properties.isEnabled() && !properties.getRoutes().isEmpty()
+                ? properties.getRoutes().stream().map(route -> ModelRoute.of(route, temperature)).toList()
+                : List.of(defaultRoute);
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.getLatencyThresholdMillis());
+        this.ewmaAlpha = properties.getEwmaAlpha();
+        this.cooldownNanos = TimeUnit.SECONDS.toNanos(properties.getCooldownSeconds());
+        
+        for (ModelRoute route : routes) {
+            Gauge.builder("openai.routing.latency", route, ModelRoute::ewmaMillis)
+                    .description("모델별 최근 응답 지연 (EWMA, 관측값이 없으면 0)")
+                    .baseUnit("milliseconds")
+                    .tag("route", route.getName())
+                    .tag("model", route.getModel())
+                    .register(meterRegistry);
+        }
+        log.info("모델 라우팅 경로: {}", routes);
+    }
+    
+    /**
+     * 요청에 사용할 경로를 시도 순서대로 반환 (조건에 맞는 경로가 없으면 기본 모델)
+     * @param endpoint PromptTemplateRegistry의 템플릿 이름
+     */
+    public List<ModelRoute> route(String endpoint, int promptTokens) {
+        long now = System.nanoTime();
+        List<ModelRoute> preferred = new ArrayList<>(routes.size());
+        List<ModelRoute> deferred = new ArrayList<>(0);
+        for (ModelRoute route : routes) {
+            if (route.accepts(endpoint, promptTokens)) {
+                (route.isDegraded(now, latencyThresholdNanos) ? deferred : preferred).add(route);
+            }
+        }
+        preferred.addAll(deferred);
+        if (preferred.isEmpty()) {
+            preferred.add(defaultRoute);
+        }
+        Counter.builder("openai.routing.selected")
+                .description("요청별로 처음 선택된 모델 경로")
+                .tag("endpoint", endpoint)
+                .tag("route", preferred.get(0).getName())
+                .register(meterRegistry)
+                .increment();
+        return preferred;
+    }
+    
+    /**
+     * 경로를 고르지 않는 호출(배치 입력 파일 등)에 사용할 기본 모델
+     */
+    public ModelRoute defaultRoute() {
+        return defaultRoute;
+    }
+    
+    /**
+     * 호출 결과 반영 - 성공/타임아웃 지연은 EWMA에 더하고, 대체 대상 오류는 일정 시간 우선순위에서 제외
+     */
+    public void record(ModelRoute route, long elapsedNanos, String outcome) {
+        if (OpenAIMetrics.SUCCESS.equals(outcome) || OpenAIMetrics.TIMEOUT.equals(outcome)) {
+            route.observeLatency(elapsedNanos, ewmaAlpha);
+        }
+        if (isFailover(outcome)) {
+            route.coolDown(System.nanoTime() + cooldownNanos);
+        } else if (OpenAIMetrics.SUCCESS.equals(outcome)) {
+            route.recover();
+        }
+    }
+    
+    public void recordFailover(String endpoint, ModelRoute from, ModelRoute to, String outcome) {
+        Counter.builder("openai.routing.failovers")
+                .description("타임아웃/5xx/429로 다음 모델로 전환한 호출 수")
+                .tag("endpoint", endpoint)
+                .tag("from", from.getName())
+                .tag("to", to.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+        log.warn("{} 모델 호출 실패({}) - {} 모델로 전환 ({})", from.getModel(), outcome, to.getModel(), endpoint);
+    }
+    
+    /**
+     * 다음 모델로 넘길 오류인지 여부 (요청 자체가 잘못된 4xx 등은 다른 모델에서도 실패하므로 제외)
+     */
+    public static boolean isFailover(String outcome) {
+        return OpenAIMetrics.TIMEOUT.equals(outcome)
+                || OpenAIMetrics.UPSTREAM_ERROR.equals(outcome)
+                || OpenAIMetrics.RATE_LIMITED.equals(outcome);
+    }
+    
+    /**
+     * 모델 경로 하나의 설정과 최근 상태
+     */
+    public static class ModelRoute {
+        
+        private final String name;
+        private final String model;
+        private final Integer maxTokens;
+        private final double temperature;
+        private final int maxPromptTokens;
+        private final Set<String> endpoints;
+        
+        // 관측값이 없으면 -1
+        private final AtomicLong ewmaNanos = new AtomicLong(-1L);
+        // 0이면 제외 상태 아님
+        private volatile long cooldownUntilNanos;
+        
+        ModelRoute(String name, String model, Integer maxTokens, double temperature, int maxPromptTokens, Set<String> endpoints) {
+            this.name = name;
+            this.model = model;
+            this.maxTokens = maxTokens;
+            this.temperature = temperature;
+            this.maxPromptTokens = maxPromptTokens;
+            this.endpoints = endpoints;
+        }
+        
+        static ModelRoute of(ModelRoutingProperties.Route route, double defaultTemperature) {
+            if (route.getModel() == null || route.getModel().isBlank()) {
+                throw new IllegalStateException("모델 라우팅 경로에 model이 지정되지 않았습니다: " + route.getName());
+            }
+            return new ModelRoute(
+                    route.getName() != null ? route.getName() : route.getModel(),
+                    route.getModel(),
+                    route.getMaxTokens(),
+                    route.getTemperature() != null ? route.getTemperature() : defaultTemperature,
+                    route.getMaxPromptTokens(),
+                    Set.copyOf(route.getEndpoints()));
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public String getModel() {
+            return model;
+        }
+        
+        public double getTemperature() {
+            return temperature;
+        }
+        
+        /**
+         * 경로의 max-tokens를 요청별 토큰 예산 이하로 적용
+         */
+        public int maxTokens(int budgetMaxTokens) {
+            return maxTokens != null ? Math.min(maxTokens, budgetMaxTokens) : budgetMaxTokens;
+        }
+        
+        boolean accepts(String endpoint, int promptTokens) {
+            return (endpoints.isEmpty() || endpoints.contains(endpoint))
+                    && (maxPromptTokens <= 0 || promptTokens <= maxPromptTokens);
+        }
+        
+        boolean isDegraded(long now, long latencyThresholdNanos) {
+            long cooldownUntil = cooldownUntilNanos;
+            if (cooldownUntil != 0L && now - cooldownUntil < 0) {
+                return true;
+            }
+            long ewma = ewmaNanos.get();
+            return ewma >= 0 && ewma > latencyThresholdNanos;
+        }
+        
+        void observeLatency(long elapsedNanos, double alpha) {
+            ewmaNanos.accumulateAndGet(elapsedNanos,
+                    (previous, sample) -> previous < 0 ? sample : (long) (alpha * sample + (1 - alpha) * previous));
+        }
+        
+        void coolDown(long untilNanos) {
+            cooldownUntilNanos = untilNanos == 0L ? 1L : untilNanos;
+        }
+        
+        void recover() {
+            cooldownUntilNanos = 0L;
+        }
+        
+        double ewmaMillis() {
+            long ewma = ewmaNanos.get();
+            return ewma < 0 ? 0.0 : ewma / 1_000_000.0;
+        }
+        
+        @Override
+        public String toString() {
+            return name + "(" + model + ")";
+        }
+    }
+}
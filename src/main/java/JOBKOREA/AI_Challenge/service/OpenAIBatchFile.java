@@ -0,0 +1,96 @@
+package JOBKOREA.AI_Challenge.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.service.OpenAiService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+/**
+ * OpenAI Batch API 파일 형식(JSONL) 입출력
+ * - 입력: 한 줄에 요청 하나 {"custom_id", "method", "url", "body"}
+ * - 출력: 한 줄에 결과 하나 {"custom_id", "response": {"status_code", "body"}, "error"}
+ * 요청 본문은 OpenAI API와 같은 snake_case 형식으로 직렬화합니다.
+ */
+@Component
+@Slf4j
+public class OpenAIBatchFile {
+    
+    static final String METHOD = "POST";
+    static final String URL = "/v1/chat/completions";
+    
+    private final ObjectMapper mapper = OpenAiService.defaultObjectMapper();
+    
+    public void writeRequest(Writer writer, String customId, ChatCompletionRequest request) throws IOException {
+        ObjectNode line = mapper.createObjectNode();
+        line.put("custom_id", customId);
+        line.put("method", METHOD);
+        line.put("url", URL);
+        line.set("body", mapper.valueToTree(request));
+        writer.write(mapper.writeValueAsString(line));
+        writer.write('\n');
+    }
+    
+    /**
+     * 출력 파일을 한 줄씩 읽어 결과로 전달. 해석할 수 없는 줄은 건너뜀
+     */
+    public void readResults(BufferedReader reader, Consumer<BatchResult> consumer) throws IOException {
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = mapper.readTree(line);
+            } catch (IOException e) {
+                log.warn("배치 결과 {}번째 줄을 해석할 수 없어 건너뜀: {}", lineNumber, e.getMessage());
+                continue;
+            }
+            consumer.accept(toResult(node));
+        }
+    }
+    
+    private static BatchResult toResult(JsonNode node) {
+        String customId = node.path("custom_id").asText(null);
+        JsonNode response = node.path("response");
+        int statusCode = response.path("status_code").asInt(0);
+        
+        JsonNode error = node.path("error");
+        if (!error.isMissingNode() && !error.isNull()) {
+            return new BatchResult(customId, statusCode, null, error.path("message").asText("배치 요청 실패"));
+        }
+        if (statusCode != 200) {
+            String message = response.path("body").path("error").path("message").asText("OpenAI 응답 상태 코드: " + statusCode);
+            return new BatchResult(customId, statusCode, null, message);
+        }
+        JsonNode content = response.path("body").path("choices").path(0).path("message").path("content");
+        if (!content.isTextual()) {
+            return new BatchResult(customId, statusCode, null, "응답 본문에 생성 결과가 없습니다");
+        }
+        return new BatchResult(customId, statusCode, content.asText(), null);
+    }
+    
+    /**
+     * 배치 출력 파일의 결과 한 건. 실패한 경우 content는 null, error에 사유
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class BatchResult {
+        private final String customId;
+        private final int statusCode;
+        private final String content;
+        private final String error;
+    }
+}
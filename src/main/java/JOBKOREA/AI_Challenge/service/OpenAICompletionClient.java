@@ -0,0 +1,450 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.theokanning.openai.client.OpenAiApi;
+import com.theokanning.openai.completion.chat.ChatCompletionChoice;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatCompletionResult;
+import com.theokanning.openai.completion.chat.ChatFunctionCall;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import io.reactivex.exceptions.CompositeException;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.BehaviorSubject;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import retrofit2.HttpException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * OpenAI chat completion 호출 클라이언트
+ * - 호출 전 RPM/TPM 제한과 격벽 한도 적용, 호출 메트릭 기록
+ * - 타임아웃, 5xx, 429(Retry-After 준수)는 지터를 적용한 지수 백오프로 제한된 횟수만큼 재시도
+ * - 응답이 max_tokens에 걸려 잘리면(finish_reason=length) 처음부터 다시 만들지 않고 이어서 생성
+ * - 재시도와 이어쓰기를 포함한 전체 처리 시간은 하나의 마감 시각(Deadline) 안으로 제한
+ * - 모델은 ModelRouter가 요청별로 고르며, 타임아웃/5xx/429가 나면 다음 모델로 넘어감
+ * - 구조화 출력 함수가 주어지면 함수 호출을 강제하고 function_call.arguments를 응답으로 사용
+ * - 헤징이 켜져 있으면 응답 지연 백분위를 넘긴 호출에 같은 요청을 한 번 더 보내 먼저 온 응답을 사용 (HedgePolicy)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OpenAICompletionClient {
+    
+    static final String FINISH_REASON_LENGTH = "length";
+    
+    static final String CONTINUE_INSTRUCTION =
+            "응답이 길이 제한으로 중간에 끊겼습니다. 앞의 내용을 반복하지 말고 끊긴 바로 다음 글자부터 이어서 작성하여 JSON을 완성해주세요. " +
+            "설명이나 코드 블록 표시 없이 이어지는 내용만 출력하세요.";
+    
+    private final OpenAiApi openAiApi;
+    private final OpenAIMetrics openAIMetrics;
+    private final UpstreamBulkheads bulkheads;
+    private final OpenAIRateLimiter rateLimiter;
+    private final ModelRouter modelRouter;
+    private final HedgePolicy hedgePolicy;
+    
+    @Value("${openai.retry.max-attempts:3}")
+    private int maxAttempts;
+    
+    @Value("${openai.retry.initial-backoff-millis:500}")
+    private long initialBackoffMillis;
+    
+    @Value("${openai.retry.max-backoff-millis:8000}")
+    private long maxBackoffMillis;
+    
+    @Value("${openai.retry.deadline-seconds:110}")
+    private long deadlineSeconds;
+    
+    @Value("${openai.retry.max-continuations:1}")
+    private int maxContinuations;
+    
+    @Value("${openai.retry.continuation-max-tokens:1500}")
+    private int continuationMaxTokens;
+    
+    /**
+     * 요청 하나의 전체 처리 마감 시각 생성
+     */
+    public Deadline newDeadline() {
+        return new Deadline(System.nanoTime() + TimeUnit.SECONDS.toNanos(deadlineSeconds));
+    }
+    
+    /**
+     * 프롬프트에 대한 응답 생성. 잘린 응답은 max-continuations 횟수까지 이어서 생성
+     * @param endpoint 격벽과 메트릭에 사용하는 생성 유형 (PromptTemplateRegistry 템플릿 이름)
+     */
+    public Completion complete(String endpoint, TokenBudgeter.TokenBudget budget, Deadline deadline) {
+        return complete(endpoint, budget, deadline, null);
+    }
+    
+    /**
+     * @param function 구조화 출력 함수 정의 (null이면 자유 텍스트 응답)
+     */
+    public Completion complete(String endpoint, TokenBudgeter.TokenBudget budget, Deadline deadline,
+                               StructuredOutput.OutputFunction function) {
+        ChatMessage prompt = new ChatMessage("user", budget.getPrompt());
+        int promptTokens = budget.getPromptTokens() + (function != null ? function.getPromptTokens() : 0);
+        List<ModelRouter.ModelRoute> routes = modelRouter.route(endpoint, budget.getPromptTokens());
+        
+        ModelRouter.ModelRoute route = null;
+        Attempt attempt = null;
+        for (int i = 0; attempt == null; i++) {
+            route = routes.get(i);
+            boolean hasFallback = i + 1 < routes.size();
+            int maxTokens = route.maxTokens(budget.getMaxTokens());
+            try {
+                attempt = callWithRetry(route, endpoint, List.of(prompt), function, maxTokens,
+                        promptTokens + maxTokens, deadline, hasFallback);
+            } catch (ServiceOverloadedException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                String outcome = OpenAIMetrics.outcome(e);
+                if (!hasFallback || !ModelRouter.isFailover(outcome) || deadline.isExpired()) {
+                    throw e;
+                }
+                modelRouter.recordFailover(endpoint, route, routes.get(i + 1), outcome);
+            }
+        }
+        
+        // 이어쓰기는 앞부분을 생성한 모델로 호출
+        if (attempt.getArguments() != null) {
+            // 함수 인자가 잘린 경우 이어쓰기로 완성할 수 없으므로 완성된 항목만 복구하도록 그대로 반환
+            return new Completion(attempt.getContent(), null, attempt.isTruncated(), 0, attempt.getArguments());
+        }
+        
+        int tokenCost = budget.getPromptTokens() + route.maxTokens(budget.getMaxTokens());
+        String content = attempt.getContent();
+        String uncontinuedContent = null;
+        boolean truncated = attempt.isTruncated();
+        int continuations = 0;
+        
+        while (truncated && continuations < maxContinuations && !deadline.isExpired()) {
+            // 이어쓰기 호출은 이전 응답 전체를 입력으로 다시 보내므로 TPM 비용에 이전 출력 토큰(최대 maxTokens)을 포함
+            List<ChatMessage> messages = List.of(prompt, new ChatMessage("assistant", content),
+                    new ChatMessage("user", CONTINUE_INSTRUCTION));
+            try {
+                Attempt continuation = callWithRetry(route, endpoint, messages, null, continuationMaxTokens,
+                        tokenCost + continuationMaxTokens, deadline, false);
+                if (uncontinuedContent == null) {
+                    uncontinuedContent = content;
+                }
+                content = content + stripLeadingFence(continuation.getContent());
+                truncated = continuation.isTruncated();
+                continuations++;
+                openAIMetrics.recordContinuation(endpoint, OpenAIMetrics.SUCCESS);
+                log.info("잘린 응답 이어쓰기 완료 - {} ({}회)", endpoint, continuations);
+            } catch (RuntimeException e) {
+                // 이어쓰기에 실패해도 이미 받은 응답에서 완성된 항목은 복구할 수 있으므로 그대로 반환
+                openAIMetrics.recordContinuation(endpoint, OpenAIMetrics.outcome(e));
+                log.warn("잘린 응답 이어쓰기 실패 - {}: {}", endpoint, e.getMessage());
+                break;
+            }
+        }
+        
+        return new Completion(content, uncontinuedContent, truncated, continuations);
+    }
+    
+    /**
+     * @param hasFallback 대체 모델이 남아 있으면 타임아웃/5xx/429를 같은 모델로 재시도하지 않고 바로 넘김
+     */
+    private Attempt callWithRetry(ModelRouter.ModelRoute route, String endpoint, List<ChatMessage> messages,
+                                  StructuredOutput.OutputFunction function, int maxTokens, int tokenCost,
+                                  Deadline deadline, boolean hasFallback) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call(route, endpoint, messages, function, maxTokens, tokenCost, deadline);
+            } catch (ServiceOverloadedException e) {
+                // 로컬 과부하 거절은 즉시 503으로 응답해야 하므로 재시도하지 않음
+                throw e;
+            } catch (RuntimeException e) {
+                String outcome = OpenAIMetrics.outcome(e);
+                if (attempt >= maxAttempts || !isRetryable(e, outcome) || (hasFallback && ModelRouter.isFailover(outcome))) {
+                    throw e;
+                }
+                long backoffMillis = backoffMillis(attempt, e);
+                if (deadline.remainingMillis() <= backoffMillis) {
+                    log.warn("전체 처리 시간 예산이 부족하여 재시도하지 않음 - {} ({})", endpoint, outcome);
+                    throw e;
+                }
+                openAIMetrics.recordRetry(endpoint, outcome);
+                log.warn("OpenAI 호출 재시도 {}/{} - {} ({}), {}ms 후", attempt + 1, maxAttempts, endpoint, outcome, backoffMillis);
+                sleep(backoffMillis);
+            }
+        }
+    }
+    
+    /**
+     * 프롬프트 하나로 구성된 chat completion 요청 생성 (배치 파일 등 직접 호출하지 않는 경로에서 사용)
+     */
+    public ChatCompletionRequest newRequest(TokenBudgeter.TokenBudget budget) {
+        ModelRouter.ModelRoute route = modelRouter.defaultRoute();
+        return buildRequest(route, List.of(new ChatMessage("user", budget.getPrompt())), route.maxTokens(budget.getMaxTokens()));
+    }
+    
+    static ChatCompletionRequest buildRequest(ModelRouter.ModelRoute route, List<ChatMessage> messages, int maxTokens) {
+        return buildRequest(route, messages, null, maxTokens);
+    }
+    
+    static ChatCompletionRequest buildRequest(ModelRouter.ModelRoute route, List<ChatMessage> messages,
+                                              StructuredOutput.OutputFunction function, int maxTokens) {
+        ChatCompletionRequest.ChatCompletionRequestBuilder request = ChatCompletionRequest.builder()
+                .model(route.getModel())
+                .messages(messages)
+                .maxTokens(maxTokens)
+                .temperature(route.getTemperature());
+        if (function != null) {
+            request.functions(List.of(function.getDefinition())).functionCall(function.call());
+        }
+        return request.build();
+    }
+    
+    private Attempt call(ModelRouter.ModelRoute route, String endpoint, List<ChatMessage> messages,
+                         StructuredOutput.OutputFunction function, int maxTokens, int tokenCost, Deadline deadline) {
+        ChatCompletionRequest request = buildRequest(route, messages, function, maxTokens);
+        
+        // RPM/TPM 한도를 넘지 않도록 대기하거나, 격벽 한도 초과 시 OpenAI를 호출하지 않고 즉시 거절 (ServiceOverloadedException)
+        // RPM/TPM 대기 시간이 격벽 지연 시간에 포함되지 않도록 한도를 먼저 확보하고, 격벽에서 거절되면 되돌림
+        rateLimiter.acquire(tokenCost);
+        AdaptiveConcurrencyLimiter.Permit permit;
+        try {
+            permit = bulkheads.acquire(endpoint);
+        } catch (ServiceOverloadedException e) {
+            rateLimiter.refund(tokenCost);
+            throw e;
+        }
+        Timer.Sample sample = openAIMetrics.startCall();
+        long started = System.nanoTime();
+        String outcome = OpenAIMetrics.SUCCESS;
+        String winner = HedgePolicy.NONE;
+        try {
+            long remainingNanos = deadline.remainingNanos();
+            if (remainingNanos <= 0) {
+                throw new TimeoutException("전체 처리 시간 예산을 모두 사용했습니다");
+            }
+            // 남은 예산이 지나면 Single 구독이 해제되면서 진행 중인 HTTP 호출도 취소됨
+            Race race = OpenAiService.execute(
+                    race(endpoint, request, tokenCost).timeout(remainingNanos, TimeUnit.NANOSECONDS));
+            winner = race.winner();
+            ChatCompletionResult result = race.result();
+            openAIMetrics.recordUsage(endpoint, route.getModel(), result.getUsage());
+            
+            ChatCompletionChoice choice = result.getChoices().get(0);
+            boolean truncated = FINISH_REASON_LENGTH.equals(choice.getFinishReason());
+            ChatFunctionCall functionCall = choice.getMessage().getFunctionCall();
+            if (functionCall != null && functionCall.getArguments() != null) {
+                // 인자가 JSON으로 해석되지 않으면(잘린 경우 등) 원문 문자열을 담은 텍스트 노드로 옴
+                JsonNode arguments = functionCall.getArguments();
+                String response = arguments.isTextual() ? arguments.asText() : arguments.toString();
+                log.debug("OpenAI API 함수 호출 응답: {}", response);
+                return new Attempt(response, truncated, arguments);
+            }
+            String response = choice.getMessage().getContent();
+            log.debug("OpenAI API 응답: {}", response);
+            return new Attempt(response, truncated, null);
+        } catch (Exception e) {
+            outcome = OpenAIMetrics.outcome(e);
+            log.error("OpenAI API 호출 중 오류 발생: {}", e.getMessage(), e);
+            
+            // SocketTimeoutException을 RuntimeException으로 래핑하여 Controller에서 처리하도록 함
+            if (e.getCause() instanceof java.net.SocketTimeoutException) {
+                throw new RuntimeException("OpenAI API 타임아웃: " + e.getMessage(), e.getCause());
+            }
+            
+            throw new RuntimeException("OpenAI API 호출 실패: " + e.getMessage(), e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - started;
+            openAIMetrics.recordCall(sample, endpoint, route.getModel(), outcome);
+            modelRouter.record(route, elapsedNanos, outcome);
+            hedgePolicy.record(endpoint, elapsedNanos, outcome, winner);
+            UpstreamBulkheads.release(permit, outcome);
+        }
+    }
+    
+    /**
+     * 헤징 대상이면 지연 백분위 시점까지 원 요청의 응답이 없을 때 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 사용
+     * 헤지 요청은 원 요청의 격벽 허가를 함께 쓰고, RPM/TPM은 기다리지 않고 바로 쓸 수 있는 용량이 있을 때만 차감
+     */
+    private Single<Race> race(String endpoint, ChatCompletionRequest request, int tokenCost) {
+        long delayMillis = hedgePolicy.delayMillis(endpoint);
+        if (delayMillis < 0) {
+            return openAiApi.createChatCompletion(request).map(result -> new Race(HedgePolicy.NONE, result));
+        }
+        
+        // Retrofit 호출은 구독한 스레드에서 동기로 실행되므로 두 요청을 각각 별도 스레드에서 구독
+        AtomicBoolean hedgeSent = new AtomicBoolean();
+        // 헤지 쪽이 구독하기 전에 원 요청이 끝나도 종료 신호를 놓치지 않도록 마지막 값을 전달하는 BehaviorSubject 사용
+        BehaviorSubject<Boolean> primaryDone = BehaviorSubject.create();
+        Observable<Race> primary = openAiApi.createChatCompletion(request)
+                .subscribeOn(Schedulers.io())
+                .doOnEvent((result, error) -> primaryDone.onNext(true))
+                .map(result -> new Race(hedgeSent.get() ? HedgePolicy.PRIMARY : HedgePolicy.NONE, result))
+                .toObservable();
+        // 원 요청이 지연 시간 안에 끝나면(실패 포함) 헤지 요청을 보내지 않음
+        Observable<Race> hedge = Observable.timer(delayMillis, TimeUnit.MILLISECONDS)
+                .takeUntil(primaryDone)
+                .flatMap(tick -> {
+                    if (!hedgePolicy.tryAcquire(endpoint, () -> rateLimiter.tryAcquire(tokenCost))) {
+                        return Observable.empty();
+                    }
+                    hedgeSent.set(true);
+                    log.info("{}ms 안에 응답이 없어 헤지 요청 전송 - {}", delayMillis, endpoint);
+                    return openAiApi.createChatCompletion(request)
+                            .subscribeOn(Schedulers.io())
+                            .map(result -> new Race(HedgePolicy.HEDGE, result))
+                            .toObservable();
+                });
+        
+        // 한쪽이 실패하면 다른 쪽 응답을 기다리고, 먼저 성공한 응답을 받으면 구독 해제로 남은 HTTP 호출을 취소
+        return Observable.mergeDelayError(primary, hedge)
+                .firstOrError()
+                .onErrorResumeNext(error -> Single.error(error instanceof CompositeException composite
+                        ? composite.getExceptions().get(0) : error));
+    }
+    
+    static boolean isRetryable(Throwable error, String outcome) {
+        if (OpenAIMetrics.TIMEOUT.equals(outcome)
+                || OpenAIMetrics.UPSTREAM_ERROR.equals(outcome)
+                || OpenAIMetrics.RATE_LIMITED.equals(outcome)) {
+            return true;
+        }
+        // 연결 실패, 연결 끊김 등 네트워크 오류
+        for (Throwable cause = error; cause != null && cause.getCause() != cause; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 지수 백오프 상한 안에서 무작위로 대기 시간을 정함 (full jitter)
+     * 429 응답에 Retry-After가 있으면 그보다 짧게 기다리지 않음
+     */
+    long backoffMillis(int attempt, Throwable error) {
+        long cap = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        long backoff = ThreadLocalRandom.current().nextLong(cap + 1);
+        return Math.max(backoff, retryAfterMillis(error));
+    }
+    
+    static long retryAfterMillis(Throwable error) {
+        for (Throwable cause = error; cause != null && cause.getCause() != cause; cause = cause.getCause()) {
+            if (cause instanceof HttpException httpException && httpException.response() != null) {
+                okhttp3.Headers headers = httpException.response().headers();
+                return retryAfterMillis(headers.get("retry-after-ms"), headers.get("Retry-After"));
+            }
+            if (cause instanceof WebClientResponseException responseException) {
+                return retryAfterMillis(responseException.getHeaders().getFirst("retry-after-ms"),
+                        responseException.getHeaders().getFirst("Retry-After"));
+            }
+        }
+        return 0L;
+    }
+    
+    private static long retryAfterMillis(String millis, String seconds) {
+        try {
+            if (millis != null) {
+                return (long) Double.parseDouble(millis);
+            }
+            if (seconds != null) {
+                return (long) (Double.parseDouble(seconds) * 1000);
+            }
+        } catch (NumberFormatException e) {
+            // HTTP 날짜 형식 등은 무시하고 기본 백오프 사용
+        }
+        return 0L;
+    }
+    
+    static String stripLeadingFence(String content) {
+        if (content == null) {
+            return "";
+        }
+        String trimmed = content.stripLeading();
+        if (trimmed.startsWith("```")) {
+            int lineEnd = trimmed.indexOf('\n');
+            return lineEnd < 0 ? "" : trimmed.substring(lineEnd + 1);
+        }
+        return content;
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(Duration.ofMillis(millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("OpenAI 호출 재시도 대기 중 중단되었습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+    
+    /**
+     * 요청 하나의 전체 처리 마감 시각
+     */
+    public static class Deadline {
+        
+        private final long deadlineNanos;
+        
+        Deadline(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+        
+        public long remainingNanos() {
+            return deadlineNanos - System.nanoTime();
+        }
+        
+        public long remainingMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(remainingNanos());
+        }
+        
+        public boolean isExpired() {
+            return remainingNanos() <= 0;
+        }
+    }
+    
+    /**
+     * 생성 결과
+     * uncontinuedContent: 이어쓰기를 했다면 이어쓰기 전 원래 응답 (이어 붙인 결과를 해석할 수 없을 때 복구용)
+     * arguments: 구조화 출력 함수를 호출한 응답이면 함수 인자 (content에는 같은 내용의 JSON 문자열)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Completion {
+        private final String content;
+        private final String uncontinuedContent;
+        private final boolean truncated;
+        private final int continuations;
+        private final JsonNode arguments;
+        
+        public Completion(String content, String uncontinuedContent, boolean truncated, int continuations) {
+            this(content, uncontinuedContent, truncated, continuations, null);
+        }
+    }
+    
+    /**
+     * 응답과 그 응답을 보낸 쪽 (HedgePolicy.NONE/PRIMARY/HEDGE)
+     */
+    private record Race(String winner, ChatCompletionResult result) {
+    }
+    
+    @Getter
+    @AllArgsConstructor
+    private static class Attempt {
+        private final String content;
+        private final boolean truncated;
+        private final JsonNode arguments;
+    }
+}
@@ -0,0 +1,230 @@
+package JOBKOREA.AI_Challenge.service;
+
+import com.theokanning.openai.OpenAiHttpException;
+import com.theokanning.openai.Usage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import retrofit2.HttpException;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출 경로 메트릭
+ * - openai.call: OpenAI 호출 지연 시간 (endpoint, model, outcome 태그, 백분위 히스토그램)
+ * - openai.prompt.build / openai.response.parse: 프롬프트 생성, 응답 파싱 단계 소요 시간
+ * - openai.tokens: completion 응답의 usage 기준 프롬프트/출력 토큰 수 (type=prompt|completion)
+ * - openai.retries / openai.continuations: 일시적 오류 재시도, 잘린 응답 이어쓰기 호출 수
+ * - openai.comprehensive / openai.comprehensive.tokens: 통합 분석 요청 하나의 전체 지연 시간과 사용 토큰 (mode 태그로 실행 모드 비교)
+ */
+@Component
+@RequiredArgsConstructor
+public class OpenAIMetrics {
+    
+    public static final String SUCCESS = "success";
+    public static final String TIMEOUT = "timeout";
+    public static final String PARSE_FAILURE = "parse-failure";
+    public static final String RATE_LIMITED = "rate-limited";
+    public static final String UPSTREAM_ERROR = "upstream-error";
+    public static final String ERROR = "error";
+    public static final String PARTIAL = "partial";
+    
+    // 현재 스레드의 OpenAI 사용 토큰을 합산할 대상 (통합 분석 요청 처리 중에만 설정)
+    private static final ThreadLocal<TokenTally> CURRENT_TALLY = new ThreadLocal<>();
+    
+    private final MeterRegistry meterRegistry;
+    
+    public Timer.Sample startCall() {
+        return Timer.start(meterRegistry);
+    }
+    
+    public void recordCall(Timer.Sample sample, String endpoint, String model, String outcome) {
+        sample.stop(Timer.builder("openai.call")
+                .description("OpenAI chat completion 호출 지연 시간")
+                .tag("endpoint", endpoint)
+                .tag("model", model)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+    
+    public void recordUsage(String endpoint, String model, Usage usage) {
+        if (usage == null) {
+            return;
+        }
+        tokenCounter(endpoint, model, "prompt").increment(usage.getPromptTokens());
+        tokenCounter(endpoint, model, "completion").increment(usage.getCompletionTokens());
+        TokenTally tally = CURRENT_TALLY.get();
+        if (tally != null) {
+            tally.add(usage);
+        }
+    }
+    
+    /**
+     * 통합 분석 요청 하나의 전체 지연 시간과 사용 토큰 기록
+     * 캐시로 응답한 항목은 토큰 0으로 집계됩니다.
+     */
+    public void recordComprehensive(Timer.Sample sample, String mode, String outcome, TokenTally tally) {
+        sample.stop(Timer.builder("openai.comprehensive")
+                .description("통합 분석 요청 전체 지연 시간")
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        if (SUCCESS.equals(outcome) || PARTIAL.equals(outcome)) {
+            comprehensiveTokens(mode, "prompt").record(tally.getPromptTokens());
+            comprehensiveTokens(mode, "completion").record(tally.getCompletionTokens());
+        }
+    }
+    
+    public <T> T recordPromptBuild(String endpoint, Supplier<T> builder) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return builder.get();
+        } finally {
+            sample.stop(Timer.builder("openai.prompt.build")
+                    .description("프롬프트 생성 및 토큰 예산 산정 소요 시간")
+                    .tag("endpoint", endpoint)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+    
+    public <T> T recordParse(String endpoint, Supplier<T> parser) {
+        return recordParse(endpoint, StructuredOutput.OutputMode.TEXT.tag(), parser);
+    }
+    
+    /**
+     * @param mode 응답 형식 (text: 자유 텍스트, function: 구조화 출력 함수 인자) - 형식별 파싱 실패율 비교용
+     */
+    public <T> T recordParse(String endpoint, String mode, Supplier<T> parser) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = PARSE_FAILURE;
+        try {
+            T result = parser.get();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            sample.stop(Timer.builder("openai.response.parse")
+                    .description("OpenAI 응답 파싱 소요 시간")
+                    .tag("endpoint", endpoint)
+                    .tag("mode", mode)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+    
+    public void recordRetry(String endpoint, String outcome) {
+        Counter.builder("openai.retries")
+                .description("일시적 오류로 재시도한 OpenAI 호출 수")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    public void recordContinuation(String endpoint, String outcome) {
+        Counter.builder("openai.continuations")
+                .description("잘린 응답을 이어서 생성한 호출 수")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    /**
+     * 예외 원인을 따라가며 호출 결과를 분류
+     */
+    public static String outcome(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedIOException || cause instanceof TimeoutException) {
+                return TIMEOUT;
+            }
+            if (cause instanceof OpenAiHttpException httpException) {
+                return outcomeOfStatus(httpException.statusCode);
+            }
+            if (cause instanceof HttpException httpException) {
+                return outcomeOfStatus(httpException.code());
+            }
+            if (cause instanceof WebClientResponseException responseException) {
+                return outcomeOfStatus(responseException.getStatusCode().value());
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return ERROR;
+    }
+    
+    private static String outcomeOfStatus(int statusCode) {
+        if (statusCode == 429) {
+            return RATE_LIMITED;
+        }
+        return statusCode >= 500 ? UPSTREAM_ERROR : ERROR;
+    }
+    
+    private DistributionSummary comprehensiveTokens(String mode, String type) {
+        return DistributionSummary.builder("openai.comprehensive.tokens")
+                .description("통합 분석 요청 하나가 사용한 토큰 수")
+                .baseUnit("tokens")
+                .tag("mode", mode)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+    
+    private Counter tokenCounter(String endpoint, String model, String type) {
+        return Counter.builder("openai.tokens")
+                .description("OpenAI usage 기준 토큰 수")
+                .baseUnit("tokens")
+                .tag("endpoint", endpoint)
+                .tag("model", model)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 여러 스레드에서 나눠 실행한 OpenAI 호출의 usage 합계
+     * {@link #track}으로 감싼 작업 안에서 기록된 usage만 더해집니다.
+     */
+    public static class TokenTally {
+        
+        private final AtomicLong promptTokens = new AtomicLong();
+        private final AtomicLong completionTokens = new AtomicLong();
+        
+        public <T> T track(Callable<T> task) throws Exception {
+            TokenTally previous = CURRENT_TALLY.get();
+            CURRENT_TALLY.set(this);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    CURRENT_TALLY.remove();
+                } else {
+                    CURRENT_TALLY.set(previous);
+                }
+            }
+        }
+        
+        public long getPromptTokens() {
+            return promptTokens.get();
+        }
+        
+        public long getCompletionTokens() {
+            return completionTokens.get();
+        }
+        
+        private void add(Usage usage) {
+            promptTokens.addAndGet(usage.getPromptTokens());
+            completionTokens.addAndGet(usage.getCompletionTokens());
+        }
+    }
+}
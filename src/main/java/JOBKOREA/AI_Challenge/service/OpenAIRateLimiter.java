@@ -0,0 +1,199 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAI 계정 한도(RPM/TPM)에 맞춘 클라이언트 측 토큰 버킷 제한기
+ * - 요청 버킷: 분당 요청 수, 토큰 버킷: 분당 토큰 수 (예상 프롬프트 토큰 + maxTokens)
+ * - 두 버킷 모두 1분 동안 한도만큼 연속적으로 채워짐
+ * - 필요한 용량이 max-wait 안에 채워지면 그만큼 대기 후 호출하고, 그보다 오래 걸리면 즉시 거절
+ * OpenAI는 TPM을 요청 시점의 max_tokens 기준으로 차감하므로, 실제 사용량으로 환불하지 않습니다.
+ * 단, 격벽 거절 등으로 OpenAI에 보내지 않은 요청은 예약한 용량을 되돌립니다.
+ */
+@Component
+@Slf4j
+public class OpenAIRateLimiter {
+    
+    static final String REQUESTS = "requests";
+    static final String TOKENS = "tokens";
+    
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+    
+    private final boolean enabled;
+    private final double requestCapacity;
+    private final double tokenCapacity;
+    private final long maxWaitNanos;
+    private final Timer waitTimer;
+    private final Counter rejectedByRequests;
+    private final Counter rejectedByTokens;
+    
+    private double availableRequests;
+    private double availableTokens;
+    private long lastRefillNanos;
+    
+    public OpenAIRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${openai.rate-limit.enabled:true}") boolean enabled,
+            @Value("${openai.rate-limit.requests-per-minute:3500}") int requestsPerMinute,
+            @Value("${openai.rate-limit.tokens-per-minute:90000}") int tokensPerMinute,
+            @Value("${openai.rate-limit.max-wait-millis:2000}") long maxWaitMillis) {
+        this.enabled = enabled;
+        this.requestCapacity = requestsPerMinute;
+        this.tokenCapacity = tokensPerMinute;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.availableRequests = requestCapacity;
+        this.availableTokens = tokenCapacity;
+        this.lastRefillNanos = System.nanoTime();
+        
+        this.waitTimer = Timer.builder("openai.ratelimit.wait")
+                .description("RPM/TPM 한도 대기 시간")
+                .register(meterRegistry);
+        this.rejectedByRequests = rejectedCounter(meterRegistry, REQUESTS);
+        this.rejectedByTokens = rejectedCounter(meterRegistry, TOKENS);
+        Gauge.builder("openai.ratelimit.available", this, limiter -> limiter.available(REQUESTS))
+                .description("현재 사용 가능한 용량")
+                .tag("bucket", REQUESTS)
+                .register(meterRegistry);
+        Gauge.builder("openai.ratelimit.available", this, limiter -> limiter.available(TOKENS))
+                .description("현재 사용 가능한 용량")
+                .tag("bucket", TOKENS)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 요청 1건과 토큰 비용만큼 용량을 확보. 용량이 부족하면 max-wait 이내에서 대기
+     * @param tokens 예상 프롬프트 토큰 + maxTokens
+     * @throws ServiceOverloadedException max-wait 안에 용량을 확보할 수 없는 경우
+     */
+    public void acquire(int tokens) {
+        if (!enabled) {
+            return;
+        }
+        
+        long waitNanos = reserve(tokens);
+        if (waitNanos <= 0) {
+            waitTimer.record(0, TimeUnit.NANOSECONDS);
+            return;
+        }
+        
+        log.debug("OpenAI 요청 한도 대기: {}ms", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        try {
+            Thread.sleep(Duration.ofNanos(waitNanos));
+            waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("OpenAI 요청 한도 대기 중 중단되었습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+    
+    /**
+     * 대기하지 않고 용량만 예약한 뒤 호출 전에 기다려야 하는 시간을 반환 (논블로킹 호출 경로용)
+     * @throws ServiceOverloadedException max-wait 안에 용량을 확보할 수 없는 경우
+     */
+    public long reserveNanos(int tokens) {
+        if (!enabled) {
+            return 0L;
+        }
+        long waitNanos = Math.max(0L, reserve(tokens));
+        waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        return waitNanos;
+    }
+    
+    /**
+     * 기다리지 않고 지금 바로 쓸 수 있는 용량이 있을 때만 예약 (헤지 요청처럼 보내지 않아도 되는 추가 호출용)
+     * @return 예약했으면 true, 용량이 부족하면 차감 없이 false
+     */
+    public synchronized boolean tryAcquire(int tokens) {
+        if (!enabled) {
+            return true;
+        }
+        refill();
+        double tokenCost = Math.min(tokens, tokenCapacity);
+        if (availableRequests < 1 || availableTokens < tokenCost) {
+            return false;
+        }
+        availableRequests -= 1;
+        availableTokens -= tokenCost;
+        return true;
+    }
+    
+    /**
+     * 예약했지만 OpenAI에 보내지 않은 요청의 용량을 되돌림 (버킷 크기를 넘지 않음)
+     * @param tokens 예약 시 사용한 토큰 비용
+     */
+    public synchronized void refund(int tokens) {
+        if (!enabled) {
+            return;
+        }
+        refill();
+        availableRequests = Math.min(requestCapacity, availableRequests + 1);
+        availableTokens = Math.min(tokenCapacity, availableTokens + Math.min(tokens, tokenCapacity));
+    }
+    
+    /**
+     * 두 버킷에서 용량을 함께 예약하고 필요한 대기 시간을 반환
+     * 대기가 필요한 경우에도 미리 차감(음수 허용)하여 뒤에 온 요청이 순서대로 대기하도록 함
+     */
+    private synchronized long reserve(int tokens) {
+        refill();
+        
+        // 버킷 크기보다 큰 요청은 영원히 통과할 수 없으므로 버킷 크기로 제한
+        double tokenCost = Math.min(tokens, tokenCapacity);
+        long requestWait = waitNanos(1, availableRequests, requestCapacity);
+        long tokenWait = waitNanos(tokenCost, availableTokens, tokenCapacity);
+        long waitNanos = Math.max(requestWait, tokenWait);
+        
+        if (waitNanos > maxWaitNanos) {
+            String bucket = tokenWait >= requestWait ? TOKENS : REQUESTS;
+            (TOKENS.equals(bucket) ? rejectedByTokens : rejectedByRequests).increment();
+            log.warn("OpenAI 요청 한도 초과 예상으로 요청 거절 - {} 버킷, 필요 대기: {}ms",
+                    bucket, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            throw new ServiceOverloadedException("rate-limit-" + bucket,
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1));
+        }
+        
+        availableRequests -= 1;
+        availableTokens -= tokenCost;
+        return waitNanos;
+    }
+    
+    private void refill() {
+        long now = System.nanoTime();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed <= 0) {
+            return;
+        }
+        availableRequests = Math.min(requestCapacity, availableRequests + requestCapacity * elapsed / NANOS_PER_MINUTE);
+        availableTokens = Math.min(tokenCapacity, availableTokens + tokenCapacity * elapsed / NANOS_PER_MINUTE);
+        lastRefillNanos = now;
+    }
+    
+    private static long waitNanos(double cost, double available, double capacityPerMinute) {
+        if (available >= cost) {
+            return 0L;
+        }
+        return (long) Math.ceil((cost - available) * NANOS_PER_MINUTE / capacityPerMinute);
+    }
+    
+    synchronized double available(String bucket) {
+        refill();
+        return REQUESTS.equals(bucket) ? availableRequests : availableTokens;
+    }
+    
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String bucket) {
+        return Counter.builder("openai.ratelimit.rejected")
+                .description("RPM/TPM 한도 초과 예상으로 거절된 요청 수")
+                .tag("bucket", bucket)
+                .register(meterRegistry);
+    }
+}
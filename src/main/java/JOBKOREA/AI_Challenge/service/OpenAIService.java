@@ -1,30 +1,33 @@
 package JOBKOREA.AI_Challenge.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.theokanning.openai.completion.chat.ChatCompletionRequest;
-import com.theokanning.openai.completion.chat.ChatMessage;
-import com.theokanning.openai.service.OpenAiService;
+import JOBKOREA.AI_Challenge.dto.ComprehensiveResponseDto;
 import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
 import JOBKOREA.AI_Challenge.dto.LearningPathResponseDto;
 import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OpenAIService {
     
-    private final OpenAiService openAiService;
-    private final ObjectMapper objectMapper;
+    private final OpenAICompletionClient completionClient;
+    private final GenerationResponseCache responseCache;
+    private final SemanticResponseCache semanticCache;
+    private final QuestionBank questionBank;
+    private final SingleFlight singleFlight;
+    private final GenerationResponseParser responseParser;
+    private final PromptTemplateRegistry promptTemplates;
+    private final TokenBudgeter tokenBudgeter;
+    private final OpenAIMetrics openAIMetrics;
+    private final StructuredOutput structuredOutput;
     
     @Value("${openai.api.model}")
     private String model;
@@ -35,11 +38,40 @@ public class OpenAIService {
     @Value("${openai.api.temperature}")
     private Double temperature;
     
+    // 복구할 항목이 하나도 없는 응답을 받았을 때 마감 시각 안에서 다시 생성하는 횟수
+    @Value("${openai.retry.max-regenerations:1}")
+    private int maxRegenerations;
+    
+    // 통합 분석 단일 호출은 두 응답을 한 번에 생성하므로 항목별 호출보다 큰 출력 상한을 사용
+    @Value("${openai.comprehensive.max-tokens:5000}")
+    private int comprehensiveMaxTokens;
+    
     public InterviewQuestionsResponseDto generateInterviewQuestions(ResumeRequestDto resumeRequest) throws java.net.SocketTimeoutException {
+        return generateInterviewQuestions(resumeRequest, false);
+    }
+    
+    /**
+     * @param bypassCache true이면 캐시를 조회하지 않고 새로 생성한 결과로 캐시를 갱신
+     */
+    public InterviewQuestionsResponseDto generateInterviewQuestions(ResumeRequestDto resumeRequest, boolean bypassCache) throws java.net.SocketTimeoutException {
+        if (!bypassCache) {
+            InterviewQuestionsResponseDto cached = cachedInterviewQuestions(resumeRequest);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        
         try {
-            String prompt = createInterviewQuestionsPrompt(resumeRequest);
-            String response = callOpenAI(prompt);
-            return parseInterviewQuestionsResponse(response, resumeRequest);
+            TokenBudgeter.TokenBudget budget = planInterviewQuestions(resumeRequest);
+            // 같은 프롬프트로 동시에 들어온 요청은 하나의 OpenAI 호출 결과를 공유
+            return singleFlight.execute(budget.getPrompt(), () -> {
+                InterviewQuestionsResponseDto result = generate(PromptTemplateRegistry.INTERVIEW_QUESTIONS, budget,
+                        responseParser::parseInterviewQuestions, responseParser::bindInterviewQuestions);
+                cacheInterviewQuestions(resumeRequest, result);
+                return result;
+            });
+        } catch (ServiceOverloadedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("면접 질문 생성 중 오류 발생", e);
             throw new RuntimeException("면접 질문 생성 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", e);
@@ -47,283 +79,218 @@ public class OpenAIService {
     }
     
     public LearningPathResponseDto generateLearningPath(ResumeRequestDto resumeRequest) throws java.net.SocketTimeoutException {
+        return generateLearningPath(resumeRequest, false);
+    }
+    
+    /**
+     * @param bypassCache true이면 캐시를 조회하지 않고 새로 생성한 결과로 캐시를 갱신
+     */
+    public LearningPathResponseDto generateLearningPath(ResumeRequestDto resumeRequest, boolean bypassCache) throws java.net.SocketTimeoutException {
+        if (!bypassCache) {
+            LearningPathResponseDto cached = cachedLearningPath(resumeRequest);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        
         try {
-            String prompt = createLearningPathPrompt(resumeRequest);
-            String response = callOpenAI(prompt);
-            return parseLearningPathResponse(response, resumeRequest);
+            TokenBudgeter.TokenBudget budget = planLearningPath(resumeRequest);
+            // 같은 프롬프트로 동시에 들어온 요청은 하나의 OpenAI 호출 결과를 공유
+            return singleFlight.execute(budget.getPrompt(), () -> {
+                LearningPathResponseDto result = generate(PromptTemplateRegistry.LEARNING_PATH, budget,
+                        responseParser::parseLearningPath, responseParser::bindLearningPath);
+                cacheLearningPath(resumeRequest, result);
+                return result;
+            });
+        } catch (ServiceOverloadedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("학습 경로 생성 중 오류 발생", e);
             throw new RuntimeException("학습 경로 생성 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", e);
         }
     }
     
-    private String createInterviewQuestionsPrompt(ResumeRequestDto resumeRequest) {
-        return String.format("""
-            이력서 기반 면접 질문 5개 생성 (응답은 3000자 이하):
-            경력: %s
-            직무: %s
-            기술: %s
-            추가: %s
-            
-            요구사항:
-            - 기술적 역량, 프로젝트 경험, 문제 해결, 팀워크, 성장 동기 카테고리
-            - 난이도: 초급/중급/고급
-            - 각 질문에 예상 답변과 팁 포함
-            - 응답은 3000자 이하로 간결하게 작성
-            - 핵심 내용을 우선으로 하고, 불필요한 설명은 생략
-            
-            완전한 JSON 응답 필수:
-            {
-              "questions": [
-                {
-                  "question": "질문",
-                  "category": "카테고리",
-                  "difficulty": "난이도",
-                  "expectedAnswer": "예상 답변",
-                  "tips": "팁"
-                }
-              ],
-              "analysis": "분석"
+    /**
+     * 통합 분석 단일 호출 생성 - 하나의 프롬프트로 면접 질문과 학습 경로를 함께 생성한 뒤 두 응답으로 나눔
+     * 결과는 항목별 캐시에 저장하므로 이후 /interview-questions, /learning-path 요청도 재사용하며,
+     * 한쪽만 캐시에 있으면 나머지 한쪽만 항목별 호출로 생성합니다.
+     * 응답에 한쪽 항목이 없으면 failures에 기록된 부분 결과를 반환합니다.
+     * @param bypassCache true이면 캐시를 조회하지 않고 새로 생성한 결과로 캐시를 갱신
+     */
+    public ComprehensiveResponseDto generateComprehensive(ResumeRequestDto resumeRequest, boolean bypassCache) throws java.net.SocketTimeoutException {
+        if (!bypassCache) {
+            InterviewQuestionsResponseDto cachedQuestions = cachedInterviewQuestions(resumeRequest);
+            LearningPathResponseDto cachedLearningPath = cachedLearningPath(resumeRequest);
+            if (cachedQuestions != null || cachedLearningPath != null) {
+                return ComprehensiveResponseDto.builder()
+                        .interviewQuestions(cachedQuestions != null ? cachedQuestions : generateInterviewQuestions(resumeRequest, true))
+                        .learningPath(cachedLearningPath != null ? cachedLearningPath : generateLearningPath(resumeRequest, true))
+                        .build();
             }
-            
-            중요: JSON 형식이 완전해야 하며, 응답이 중간에 끊기지 않도록 주의해주세요.
-            """, 
-            resumeRequest.getCareerSummary(),
-            resumeRequest.getJobDescription(),
-            resumeRequest.getTechnicalSkills(),
-            resumeRequest.getAdditionalInfo() != null ? resumeRequest.getAdditionalInfo() : "없음"
-        );
+        }
+        
+        try {
+            TokenBudgeter.TokenBudget budget = planComprehensive(resumeRequest);
+            return singleFlight.execute(budget.getPrompt(), () -> {
+                ComprehensiveResponseDto result = generate(PromptTemplateRegistry.COMPREHENSIVE, budget,
+                        responseParser::parseComprehensive, responseParser::bindComprehensive);
+                cacheComprehensive(resumeRequest, result);
+                return result;
+            });
+        } catch (ServiceOverloadedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("통합 분석 생성 중 오류 발생", e);
+            throw new RuntimeException("통합 분석 생성 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", e);
+        }
     }
     
-    private String createLearningPathPrompt(ResumeRequestDto resumeRequest) {
-        return String.format("""
-            이력서 기반 맞춤형 학습 경로 제안 (응답은 3000자 이하):
-            경력: %s
-            직무: %s
-            기술: %s
-            추가: %s
-            
-            요구사항:
-            - 현재 역량 분석 및 개선점 파악
-            - 기술 스택 심화, 프로젝트 경험, 커뮤니케이션 스킬 강화 방안
-            - 우선순위와 예상 소요 시간 포함
-            - 실현 가능한 현실적 가이드
-            - 응답은 3000자 이하로 간결하게 작성
-            - 구체적이고 실용적인 내용 위주로 작성
-            
-            완전한 JSON 응답 필수:
-            {
-              "summary": "전체 요약",
-              "learningSteps": [
-                {
-                  "step": "단계명",
-                  "description": "상세 설명",
-                  "priority": "우선순위",
-                  "resources": "학습 자료 및 방법"
-                }
-              ],
-              "estimatedDuration": "전체 예상 소요 시간"
-            }
-            
-            중요: JSON 형식이 완전해야 하며, 응답이 중간에 끊기지 않도록 주의해주세요.
-            """,
-            resumeRequest.getCareerSummary(),
-            resumeRequest.getJobDescription(),
-            resumeRequest.getTechnicalSkills(),
-            resumeRequest.getAdditionalInfo() != null ? resumeRequest.getAdditionalInfo() : "없음"
-        );
+    /**
+     * 정확히 일치하는 캐시 -> 유사 이력서 캐시 -> 질문 뱅크 순으로 조회 (없으면 null)
+     */
+    InterviewQuestionsResponseDto cachedInterviewQuestions(ResumeRequestDto resumeRequest) {
+        String cacheKey = interviewQuestionsKey(resumeRequest);
+        InterviewQuestionsResponseDto cached = responseCache.get(cacheKey, InterviewQuestionsResponseDto.class);
+        if (cached != null) {
+            log.debug("면접 질문 캐시 적중: {}", cacheKey);
+            return cached;
+        }
+        cached = semanticCache.get(interviewQuestionsScope(), resumeRequest, InterviewQuestionsResponseDto.class);
+        if (cached != null) {
+            // 다음 요청은 정확히 일치하는 키로 바로 찾도록 저장
+            responseCache.put(cacheKey, cached);
+            return cached;
+        }
+        // 자주 들어오는 직무/스킬 조합은 사전 생성한 질문 세트로 응답 (스킬 일치율이 부족하면 실시간 생성)
+        return questionBank.find(resumeRequest);
     }
     
-    private String callOpenAI(String prompt) throws java.net.SocketTimeoutException {
-        List<ChatMessage> messages = new ArrayList<>();
-        messages.add(new ChatMessage("user", prompt));
-        
-        ChatCompletionRequest request = ChatCompletionRequest.builder()
-                .model(model)
-                .messages(messages)
-                .maxTokens(maxTokens)
-                .temperature(temperature)
-                .build();
-        
-        try {
-            String response = openAiService.createChatCompletion(request).getChoices().get(0).getMessage().getContent();
-            log.debug("OpenAI API 응답: {}", response);
-            return response;
-        } catch (Exception e) {
-            log.error("OpenAI API 호출 중 오류 발생: {}", e.getMessage(), e);
-            
-            // SocketTimeoutException을 RuntimeException으로 래핑하여 Controller에서 처리하도록 함
-            if (e.getCause() instanceof java.net.SocketTimeoutException) {
-                throw new RuntimeException("OpenAI API 타임아웃: " + e.getMessage(), e.getCause());
-            }
-            
-            throw new RuntimeException("OpenAI API 호출 실패: " + e.getMessage(), e);
+    void cacheInterviewQuestions(ResumeRequestDto resumeRequest, InterviewQuestionsResponseDto result) {
+        responseCache.put(interviewQuestionsKey(resumeRequest), result);
+        semanticCache.put(interviewQuestionsScope(), resumeRequest, result);
+    }
+    
+    LearningPathResponseDto cachedLearningPath(ResumeRequestDto resumeRequest) {
+        String cacheKey = learningPathKey(resumeRequest);
+        LearningPathResponseDto cached = responseCache.get(cacheKey, LearningPathResponseDto.class);
+        if (cached != null) {
+            log.debug("학습 경로 캐시 적중: {}", cacheKey);
         }
+        return cached;
     }
     
-    private InterviewQuestionsResponseDto parseInterviewQuestionsResponse(String response, ResumeRequestDto resumeRequest) throws JsonProcessingException {
-        try {
-            log.debug("파싱할 OpenAI 응답: {}", response);
-            
-            // 응답이 null이거나 비어있는지 확인
-            if (response == null || response.trim().isEmpty()) {
-                log.warn("OpenAI 응답이 비어있음");
-                throw new RuntimeException("AI 서비스 응답이 비어있습니다. 잠시 후 다시 시도해주세요.");
-            }
-            
-            // JSON 응답이 완전한지 확인 (더 정확한 검증)
-            String trimmedResponse = response.trim();
-            if (!trimmedResponse.startsWith("{") || !trimmedResponse.endsWith("}")) {
-                log.warn("OpenAI 응답이 유효한 JSON 형식이 아님: {}", response);
-                throw new RuntimeException("AI 서비스 응답 형식에 문제가 있습니다. 잠시 후 다시 시도해주세요.");
-            }
-            
-            // 중괄호 균형 확인
-            int openBraces = 0, closeBraces = 0;
-            for (char c : trimmedResponse.toCharArray()) {
-                if (c == '{') openBraces++;
-                if (c == '}') closeBraces++;
-            }
-            
-            if (openBraces != closeBraces) {
-                log.warn("OpenAI 응답의 중괄호가 균형잡히지 않음 (열린: {}, 닫힌: {}): {}", openBraces, closeBraces, response);
-                throw new RuntimeException("AI 서비스 응답이 완전하지 않습니다. 잠시 후 다시 시도해주세요.");
-            }
-            
-            // 응답 길이 확인 (3000자 이하)
-            if (trimmedResponse.length() > 3000) {
-                log.warn("OpenAI 응답이 너무 김 ({}자): {}", trimmedResponse.length(), response);
-                throw new RuntimeException("AI 서비스 응답이 너무 깁니다. 잠시 후 다시 시도해주세요.");
-            }
-            
-            JsonNode jsonNode = objectMapper.readTree(response);
-            List<InterviewQuestionsResponseDto.QuestionDto> questions = new ArrayList<>();
-            
-            JsonNode questionsNode = jsonNode.get("questions");
-            if (questionsNode != null && questionsNode.isArray()) {
-                for (JsonNode questionNode : questionsNode) {
-                    try {
-                        InterviewQuestionsResponseDto.QuestionDto question = InterviewQuestionsResponseDto.QuestionDto.builder()
-                                .question(getSafeText(questionNode, "question"))
-                                .category(getSafeText(questionNode, "category"))
-                                .difficulty(getSafeText(questionNode, "difficulty"))
-                                .expectedAnswer(getSafeText(questionNode, "expectedAnswer"))
-                                .tips(getSafeText(questionNode, "tips"))
-                                .build();
-                        questions.add(question);
-                    } catch (Exception e) {
-                        log.warn("질문 파싱 중 오류 발생, 건너뜀: {}", e.getMessage());
-                        continue;
-                    }
-                }
-            }
-            
-            // 최소한 하나의 질문이 있어야 함
-            if (questions.isEmpty()) {
-                log.warn("파싱된 질문이 없음");
-                throw new RuntimeException("AI 서비스에서 질문을 생성하지 못했습니다. 잠시 후 다시 시도해주세요.");
-            }
-            
-            String analysis = jsonNode.has("analysis") ? jsonNode.get("analysis").asText() : "";
-            
-            return InterviewQuestionsResponseDto.builder()
-                    .questions(questions)
-                    .analysis(analysis)
-                    .build();
-                    
-        } catch (Exception e) {
-            log.error("면접 질문 응답 파싱 중 오류 발생. 응답: {}", response, e);
-            throw new RuntimeException("AI 서비스 응답 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", e);
+    void cacheLearningPath(ResumeRequestDto resumeRequest, LearningPathResponseDto result) {
+        responseCache.put(learningPathKey(resumeRequest), result);
+    }
+    
+    void cacheComprehensive(ResumeRequestDto resumeRequest, ComprehensiveResponseDto result) {
+        if (result.getInterviewQuestions() != null) {
+            cacheInterviewQuestions(resumeRequest, result.getInterviewQuestions());
+        }
+        if (result.getLearningPath() != null) {
+            cacheLearningPath(resumeRequest, result.getLearningPath());
         }
     }
     
-    private LearningPathResponseDto parseLearningPathResponse(String response, ResumeRequestDto resumeRequest) throws JsonProcessingException {
-        try {
-            log.debug("파싱할 OpenAI 응답: {}", response);
-            
-            // 응답이 null이거나 비어있는지 확인
-            if (response == null || response.trim().isEmpty()) {
-                log.warn("OpenAI 응답이 비어있음");
-                throw new RuntimeException("AI 서비스 응답이 비어있습니다. 잠시 후 다시 시도해주세요.");
-            }
-            
-            // JSON 응답이 완전한지 확인 (더 정확한 검증)
-            String trimmedResponse = response.trim();
-            if (!trimmedResponse.startsWith("{") || !trimmedResponse.endsWith("}")) {
-                log.warn("OpenAI 응답이 유효한 JSON 형식이 아님: {}", response);
-                throw new RuntimeException("AI 서비스 응답 형식에 문제가 있습니다. 잠시 후 다시 시도해주세요.");
-            }
-            
-            // 중괄호 균형 확인
-            int openBraces = 0, closeBraces = 0;
-            for (char c : trimmedResponse.toCharArray()) {
-                if (c == '{') openBraces++;
-                if (c == '}') closeBraces++;
-            }
-            
-            if (openBraces != closeBraces) {
-                log.warn("OpenAI 응답의 중괄호가 균형잡히지 않음 (열린: {}, 닫힌: {}): {}", openBraces, closeBraces, response);
-                throw new RuntimeException("AI 서비스 응답이 완전하지 않습니다. 잠시 후 다시 시도해주세요.");
-            }
-            
-            // 응답 길이 확인 (3000자 이하)
-            if (trimmedResponse.length() > 3000) {
-                log.warn("OpenAI 응답이 너무 깁니다 ({}자): {}", trimmedResponse.length(), response);
-                throw new RuntimeException("AI 서비스 응답이 너무 깁니다. 잠시 후 다시 시도해주세요.");
-            }
-            
-            JsonNode jsonNode = objectMapper.readTree(response);
-            
-            String summary = jsonNode.has("summary") ? jsonNode.get("summary").asText() : "";
-            String estimatedDuration = jsonNode.has("estimatedDuration") ? jsonNode.get("estimatedDuration").asText() : "";
-            
-            List<LearningPathResponseDto.LearningStepDto> learningSteps = new ArrayList<>();
-            JsonNode stepsNode = jsonNode.get("learningSteps");
-            if (stepsNode != null && stepsNode.isArray()) {
-                for (JsonNode stepNode : stepsNode) {
-                    try {
-                        LearningPathResponseDto.LearningStepDto step = LearningPathResponseDto.LearningStepDto.builder()
-                                .step(getSafeText(stepNode, "step"))
-                                .description(getSafeText(stepNode, "description"))
-                                .priority(getSafeText(stepNode, "priority"))
-                                .resources(getSafeText(stepNode, "resources"))
-                                .build();
-                        learningSteps.add(step);
-                    } catch (Exception e) {
-                        log.warn("학습 단계 파싱 중 오류 발생, 건너뜀: {}", e.getMessage());
-                        continue;
-                    }
+    TokenBudgeter.TokenBudget planInterviewQuestions(ResumeRequestDto resumeRequest) {
+        return openAIMetrics.recordPromptBuild(PromptTemplateRegistry.INTERVIEW_QUESTIONS,
+                () -> tokenBudgeter.plan(promptTemplates.interviewQuestions(), resumeRequest, model, maxTokens));
+    }
+    
+    TokenBudgeter.TokenBudget planLearningPath(ResumeRequestDto resumeRequest) {
+        return openAIMetrics.recordPromptBuild(PromptTemplateRegistry.LEARNING_PATH,
+                () -> tokenBudgeter.plan(promptTemplates.learningPath(), resumeRequest, model, maxTokens));
+    }
+    
+    TokenBudgeter.TokenBudget planComprehensive(ResumeRequestDto resumeRequest) {
+        return openAIMetrics.recordPromptBuild(PromptTemplateRegistry.COMPREHENSIVE,
+                () -> tokenBudgeter.plan(promptTemplates.comprehensive(), resumeRequest, model, comprehensiveMaxTokens));
+    }
+    
+    private String interviewQuestionsKey(ResumeRequestDto resumeRequest) {
+        return responseCache.key(PromptTemplateRegistry.INTERVIEW_QUESTIONS, resumeRequest, model, temperature,
+                promptTemplates.interviewQuestions().getVersion());
+    }
+    
+    // 유사 캐시는 같은 모델/온도/프롬프트 버전으로 생성한 결과끼리만 비교
+    private String interviewQuestionsScope() {
+        return PromptTemplateRegistry.INTERVIEW_QUESTIONS + ":" + model + ":" + temperature + ":"
+                + promptTemplates.interviewQuestions().getVersion();
+    }
+    
+    private String learningPathKey(ResumeRequestDto resumeRequest) {
+        return responseCache.key(PromptTemplateRegistry.LEARNING_PATH, resumeRequest, model, temperature,
+                promptTemplates.learningPath().getVersion());
+    }
+    
+    /**
+     * 응답 생성 후 파싱. 잘린 응답은 OpenAICompletionClient에서 이어서 생성하고,
+     * 그래도 복구할 항목이 없으면 전체 처리 시간 예산 안에서 다시 생성
+     * 구조화 출력 모드에서는 첫 생성만 함수 호출로 요청하고, 다시 생성할 때는 자유 텍스트 응답으로 요청
+     */
+    private <T> T generate(String endpoint, TokenBudgeter.TokenBudget budget,
+                           Function<String, GenerationResponseParser.Parsed<T>> parser,
+                           Function<JsonNode, GenerationResponseParser.Parsed<T>> binder) {
+        OpenAICompletionClient.Deadline deadline = completionClient.newDeadline();
+        for (int generation = 0; ; generation++) {
+            StructuredOutput.OutputFunction function = generation == 0 ? structuredOutput.function(endpoint) : null;
+            OpenAICompletionClient.Completion completion = completionClient.complete(endpoint, budget, deadline, function);
+            try {
+                return parse(endpoint, completion, parser, binder);
+            } catch (RuntimeException e) {
+                if (generation >= maxRegenerations || deadline.isExpired()) {
+                    throw e;
                 }
+                log.warn("{} 응답에서 복구할 항목이 없어 다시 생성 ({}/{})", endpoint, generation + 1, maxRegenerations);
             }
-            
-            // 최소한 하나의 학습 단계가 있어야 함
-            if (learningSteps.isEmpty()) {
-                log.warn("파싱된 학습 단계가 없음");
-                throw new RuntimeException("AI 서비스에서 학습 단계를 생성하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+    
+    /**
+     * 함수 인자가 있으면 DTO에 바로 바인딩하고, 바인딩할 수 없으면(잘린 인자 등) 인자 원문을 자유 텍스트 파서로 복구
+     */
+    <T> T parse(String endpoint, OpenAICompletionClient.Completion completion,
+                Function<String, GenerationResponseParser.Parsed<T>> parser,
+                Function<JsonNode, GenerationResponseParser.Parsed<T>> binder) {
+        JsonNode arguments = completion.getArguments();
+        if (arguments == null) {
+            return parse(endpoint, completion, parser);
+        }
+        String mode = StructuredOutput.OutputMode.FUNCTION.tag();
+        if (arguments.isObject()) {
+            try {
+                return openAIMetrics.recordParse(endpoint, mode, () -> binder.apply(arguments).getValue());
+            } catch (Exception e) {
+                log.warn("{} 함수 인자 바인딩 실패 - 자유 텍스트 파싱으로 복구 시도: {}", endpoint, e.getMessage());
             }
-            
-            return LearningPathResponseDto.builder()
-                    .learningSteps(learningSteps)
-                    .summary(summary)
-                    .estimatedDuration(estimatedDuration)
-                    .build();
-                    
+        }
+        try {
+            return openAIMetrics.recordParse(endpoint, mode, () -> parser.apply(completion.getContent()).getValue());
         } catch (Exception e) {
-            log.error("학습 경로 응답 파싱 중 오류 발생. 응답: {}", response, e);
+            log.error("{} 함수 인자 파싱 중 오류 발생. 인자: {}", endpoint, completion.getContent(), e);
             throw new RuntimeException("AI 서비스 응답 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", e);
         }
     }
     
-
-    
-    /**
-     * JsonNode에서 안전하게 텍스트를 추출하는 헬퍼 메서드
-     */
-    private String getSafeText(JsonNode node, String fieldName) {
-        JsonNode fieldNode = node.get(fieldName);
-        if (fieldNode != null && !fieldNode.isNull()) {
-            return fieldNode.asText();
+    <T> T parse(String endpoint, OpenAICompletionClient.Completion completion,
+                        Function<String, GenerationResponseParser.Parsed<T>> parser) {
+        log.debug("파싱할 OpenAI 응답: {}", completion.getContent());
+        try {
+            return openAIMetrics.recordParse(endpoint, () -> parser.apply(completion.getContent()).getValue());
+        } catch (Exception e) {
+            if (completion.getUncontinuedContent() == null) {
+                log.error("{} 응답 파싱 중 오류 발생. 응답: {}", endpoint, completion.getContent(), e);
+                throw new RuntimeException("AI 서비스 응답 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", e);
+            }
+            // 이어 붙인 결과를 해석할 수 없으면 이어쓰기 전 응답에서 완성된 항목만 복구
+            log.warn("{} 이어쓰기 결과 파싱 실패 - 원래 응답에서 복구 시도", endpoint);
+            try {
+                return openAIMetrics.recordParse(endpoint, () -> parser.apply(completion.getUncontinuedContent()).getValue());
+            } catch (Exception fallbackError) {
+                fallbackError.addSuppressed(e);
+                log.error("{} 응답 파싱 중 오류 발생. 응답: {}", endpoint, completion.getContent(), fallbackError);
+                throw new RuntimeException("AI 서비스 응답 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", fallbackError);
+            }
         }
-        return "정보 없음";
     }
 }
@@ -0,0 +1,513 @@
+package JOBKOREA.AI_Challenge.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * 생성 결과 영구 저장소 (응답 캐시의 L2)
+ * 배포 후 재시작해도 이전에 생성한 결과를 재사용할 수 있도록 로컬 디스크에 보관합니다. 외부 DB 없이 파일 두 개로 구성됩니다.
+ * - results.log: 추가 전용 로그. 레코드 = [길이][CRC32][키 길이][키][값 JSON]
+ * - results.idx: 메모리 매핑한 해시 색인 (선형 탐사). 슬롯 = [키 해시][로그 위치][레코드 길이]
+ * 로그 크기나 항목 수가 상한을 넘으면 최신 레코드만 새 로그로 옮기는 압축을 수행하며, 이때 오래된 결과부터 제거됩니다.
+ * 시작 시 색인이 로그와 맞지 않으면(비정상 종료, 설정 변경) 로그를 다시 읽어 색인을 재구성합니다.
+ * 더 큰 max-entries로 기록한 로그를 재구성할 때는 오래된 결과를 색인에서 제외하며 읽고, 열린 직후 새 상한에 맞게 압축합니다.
+ */
+@Component
+@Slf4j
+public class PersistentResultStore {
+    
+    static final String LOG_FILE = "results.log";
+    static final String INDEX_FILE = "results.idx";
+    
+    private static final int LOG_MAGIC = 0x524C4F47;   // "RLOG"
+    private static final int INDEX_MAGIC = 0x52494458; // "RIDX"
+    private static final int VERSION = 1;
+    // 로그 헤더: magic(4) version(4) logId(8)
+    private static final int LOG_HEADER_BYTES = 16;
+    // 색인 헤더: magic(4) version(4) logId(8) slots(4) count(4) indexedLogLength(8) liveBytes(8)
+    private static final int INDEX_HEADER_BYTES = 40;
+    private static final int SLOT_BYTES = 20;
+    private static final int RECORD_HEADER_BYTES = 8;
+    // 압축 후 남길 크기/항목 수 비율 - 압축 직후 곧바로 다시 압축하지 않도록 여유를 둠
+    private static final double COMPACTION_TARGET_RATIO = 0.75;
+    
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path directory;
+    private final long maxBytes;
+    private final int maxEntries;
+    private final int slots;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private FileChannel logChannel;
+    private FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private long logId;
+    private long logLength;
+    private long liveBytes;
+    private int count;
+    // 로그를 읽는 중 항목 수 상한 때문에 색인에서 제외한 결과가 있음 (로그에 남은 레코드는 압축으로 정리)
+    private boolean evictedWhileScanning;
+    
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer compactionTimer;
+    
+    public PersistentResultStore(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${openai.store.enabled:false}") boolean enabled,
+            @Value("${openai.store.path:./data/result-store}") Path directory,
+            @Value("${openai.store.max-size:256MB}") DataSize maxSize,
+            @Value("${openai.store.max-entries:100000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.directory = directory;
+        this.maxBytes = maxSize.toBytes();
+        this.maxEntries = maxEntries;
+        // 적재율이 50% 이하로 유지되도록 최대 항목 수의 2배 이상인 2의 거듭제곱
+        this.slots = Integer.highestOneBit(Math.max(maxEntries, 1) * 2 - 1) << 1;
+        
+        this.hitCounter = getsCounter(meterRegistry, "hit");
+        this.missCounter = getsCounter(meterRegistry, "miss");
+        this.compactionTimer = Timer.builder("openai.store.compaction")
+                .description("영구 저장소 압축 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("openai.store.entries", Tags.empty(), this, PersistentResultStore::size);
+        meterRegistry.gauge("openai.store.bytes", Tags.of("type", "log"), this, store -> store.logLength);
+        meterRegistry.gauge("openai.store.bytes", Tags.of("type", "live"), this, store -> store.liveBytes);
+    }
+    
+    private static Counter getsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("openai.store.gets")
+                .description("영구 저장소 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Files.createDirectories(directory);
+            openLog();
+            openIndex();
+            if (evictedWhileScanning || logLength > maxBytes || count >= maxEntries) {
+                // 상한을 줄인 뒤 재시작한 경우 - 첫 저장을 기다리지 않고 새 상한에 맞춤
+                compact();
+            }
+            log.info("결과 저장소 열림: {} ({}건, 로그 {}KB)", directory, count, logLength / 1024);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public <T> T get(String key, Class<T> type) {
+        if (!enabled) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            if (logChannel == null) {
+                return null;
+            }
+            byte[] value = find(key);
+            if (value == null) {
+                missCounter.increment();
+                return null;
+            }
+            T result = objectMapper.readValue(value, type);
+            hitCounter.increment();
+            return result;
+        } catch (IOException e) {
+            // DTO 구조가 바뀌어 역직렬화할 수 없는 결과 등은 없는 것으로 취급
+            log.warn("결과 저장소 조회 실패 ({}): {}", key, e.getMessage());
+            missCounter.increment();
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public void put(String key, Object value) {
+        if (!enabled || value == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (logChannel == null) {
+                return;
+            }
+            ByteBuffer record = encode(key, objectMapper.writeValueAsBytes(value));
+            if (record.remaining() > maxBytes * COMPACTION_TARGET_RATIO) {
+                log.warn("결과가 저장소 크기 상한보다 커서 저장하지 않음: {} ({}B)", key, record.remaining());
+                return;
+            }
+            long offset = logLength;
+            int length = record.remaining();
+            while (record.hasRemaining()) {
+                logChannel.write(record, offset + length - record.remaining());
+            }
+            logLength += length;
+            index(key, hash(key), offset, length);
+            writeIndexHeader();
+            
+            if (logLength > maxBytes || count >= maxEntries) {
+                compact();
+            }
+        } catch (IOException e) {
+            // 저장 실패는 생성 결과 응답에 영향을 주지 않음
+            log.warn("결과 저장소 기록 실패 ({}): {}", key, e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int size() {
+        return count;
+    }
+    
+    @PreDestroy
+    public void close() throws IOException {
+        if (!enabled || logChannel == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            index.force();
+            logChannel.force(true);
+            logChannel.close();
+            indexChannel.close();
+            logChannel = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 최신 레코드부터 목표 크기/항목 수까지만 새 로그로 옮기고 색인을 다시 구성
+     * 덮어쓴 결과(이전 버전)는 색인에 없으므로 자연히 제거되고, 상한을 넘는 만큼 오래된 결과가 제거됨
+     */
+    void compact() throws IOException {
+        Timer.Sample sample = Timer.start();
+        List<long[]> live = liveEntries();
+        live.sort(Comparator.comparingLong((long[] entry) -> entry[0]).reversed());
+        
+        long targetBytes = (long) (maxBytes * COMPACTION_TARGET_RATIO);
+        int targetEntries = (int) (maxEntries * COMPACTION_TARGET_RATIO);
+        List<long[]> kept = new ArrayList<>();
+        long keptBytes = LOG_HEADER_BYTES;
+        for (long[] entry : live) {
+            if (kept.size() >= targetEntries || keptBytes + entry[1] > targetBytes) {
+                break;
+            }
+            kept.add(entry);
+            keptBytes += entry[1];
+        }
+        kept.sort(Comparator.comparingLong(entry -> entry[0]));
+        
+        Path compacted = directory.resolve(LOG_FILE + ".compact");
+        long newLogId = ThreadLocalRandom.current().nextLong();
+        try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            target.write(logHeader(newLogId));
+            for (long[] entry : kept) {
+                long transferred = 0;
+                while (transferred < entry[1]) {
+                    transferred += logChannel.transferTo(entry[0] + transferred, entry[1] - transferred, target);
+                }
+            }
+            target.force(true);
+        }
+        
+        logChannel.close();
+        Files.move(compacted, directory.resolve(LOG_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // 새 로그의 logId가 색인과 다르므로 여기서 중단되더라도 다음 시작 시 색인을 재구성함
+        int before = count;
+        openLog();
+        rebuildIndex();
+        evictedWhileScanning = false;
+        sample.stop(compactionTimer);
+        log.info("결과 저장소 압축: {}건 -> {}건, 로그 {}KB", before, count, logLength / 1024);
+    }
+    
+    private void openLog() throws IOException {
+        Path path = directory.resolve(LOG_FILE);
+        logChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (logChannel.size() >= LOG_HEADER_BYTES) {
+            ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_BYTES);
+            logChannel.read(header, 0);
+            header.flip();
+            if (header.getInt() == LOG_MAGIC && header.getInt() == VERSION) {
+                logId = header.getLong();
+                logLength = logChannel.size();
+                return;
+            }
+            log.warn("결과 저장소 로그 형식이 달라 새로 시작합니다: {}", path);
+        }
+        logChannel.truncate(0);
+        logId = ThreadLocalRandom.current().nextLong();
+        logChannel.write(logHeader(logId), 0);
+        logLength = LOG_HEADER_BYTES;
+    }
+    
+    private void openIndex() throws IOException {
+        long indexBytes = INDEX_HEADER_BYTES + (long) slots * SLOT_BYTES;
+        Path path = directory.resolve(INDEX_FILE);
+        boolean existed = Files.exists(path) && Files.size(path) == indexBytes;
+        indexChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexBytes);
+        
+        if (existed && index.getInt(0) == INDEX_MAGIC && index.getInt(4) == VERSION && index.getLong(8) == logId
+                && index.getInt(16) == slots && index.getLong(24) <= logLength) {
+            count = index.getInt(20);
+            liveBytes = index.getLong(32);
+            long indexedLogLength = index.getLong(24);
+            if (indexedLogLength < logLength) {
+                // 색인 헤더를 갱신하기 전에 종료된 경우 - 색인 이후에 추가된 레코드만 반영
+                scan(indexedLogLength);
+                writeIndexHeader();
+            }
+            return;
+        }
+        log.info("결과 저장소 색인을 로그로부터 재구성합니다");
+        rebuildIndex();
+    }
+    
+    private void rebuildIndex() throws IOException {
+        for (int position = 0; position < index.capacity(); position += 4) {
+            index.putInt(position, 0);
+        }
+        index.putInt(0, INDEX_MAGIC);
+        index.putInt(4, VERSION);
+        index.putLong(8, logId);
+        index.putInt(16, slots);
+        count = 0;
+        liveBytes = 0;
+        scan(LOG_HEADER_BYTES);
+        writeIndexHeader();
+    }
+    
+    /**
+     * from 위치부터 로그 끝까지 레코드를 읽어 색인에 반영
+     * 길이나 CRC가 맞지 않는 레코드(기록 중 종료된 부분)를 만나면 그 지점에서 로그를 잘라냄
+     */
+    private void scan(long from) throws IOException {
+        long position = from;
+        long size = logChannel.size();
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        while (position + RECORD_HEADER_BYTES <= size) {
+            header.clear();
+            logChannel.read(header, position);
+            header.flip();
+            int payloadLength = header.getInt();
+            int crc = header.getInt();
+            if (payloadLength <= 2 || position + RECORD_HEADER_BYTES + payloadLength > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(payloadLength);
+            readFully(payload, position + RECORD_HEADER_BYTES);
+            if (crc(payload.array()) != crc) {
+                break;
+            }
+            int keyLength = payload.getShort(0) & 0xFFFF;
+            String key = new String(payload.array(), 2, keyLength, StandardCharsets.UTF_8);
+            int length = RECORD_HEADER_BYTES + payloadLength;
+            if (count >= maxEntries) {
+                evictOldestFromIndex();
+            }
+            index(key, hash(key), position, length);
+            position += length;
+        }
+        if (position < size) {
+            log.warn("결과 저장소 로그 끝의 손상된 레코드를 잘라냅니다 ({}B)", size - position);
+            logChannel.truncate(position);
+        }
+        logLength = position;
+    }
+    
+    /**
+     * 색인에 있는 레코드 목록 - [로그 위치, 레코드 길이, 키 해시]
+     */
+    private List<long[]> liveEntries() {
+        List<long[]> live = new ArrayList<>(count);
+        for (int slot = 0; slot < slots; slot++) {
+            int position = INDEX_HEADER_BYTES + slot * SLOT_BYTES;
+            long hash = index.getLong(position);
+            if (hash != 0) {
+                live.add(new long[]{index.getLong(position + 8), index.getInt(position + 16), hash});
+            }
+        }
+        return live;
+    }
+    
+    /**
+     * 로그를 읽는 중 항목 수가 상한에 도달하면, 압축과 같은 비율만 남기고 오래된 결과를 색인에서 제외
+     * 로그는 오래된 레코드부터 읽으므로 이후에 읽는 레코드가 항상 남긴 결과보다 최신임
+     */
+    private void evictOldestFromIndex() {
+        List<long[]> live = liveEntries();
+        live.sort(Comparator.comparingLong((long[] entry) -> entry[0]).reversed());
+        List<long[]> kept = live.subList(0, Math.min(live.size(), (int) (maxEntries * COMPACTION_TARGET_RATIO)));
+        
+        for (int position = INDEX_HEADER_BYTES; position < index.capacity(); position += 4) {
+            index.putInt(position, 0);
+        }
+        count = 0;
+        liveBytes = 0;
+        int mask = slots - 1;
+        for (long[] entry : kept) {
+            // 남기는 결과는 서로 다른 키이므로 키 비교 없이 빈 슬롯에 배치
+            long hash = entry[2];
+            int position = INDEX_HEADER_BYTES + (int) (hash & mask) * SLOT_BYTES;
+            for (int probe = 1; index.getLong(position) != 0; probe++) {
+                position = INDEX_HEADER_BYTES + (int) ((hash + probe) & mask) * SLOT_BYTES;
+            }
+            index.putLong(position, hash);
+            index.putLong(position + 8, entry[0]);
+            index.putInt(position + 16, (int) entry[1]);
+            count++;
+            liveBytes += entry[1];
+        }
+        evictedWhileScanning = true;
+    }
+    
+    private void index(String key, long hash, long offset, int length) throws IOException {
+        int mask = slots - 1;
+        for (int probe = 0; probe < slots; probe++) {
+            int position = INDEX_HEADER_BYTES + (int) ((hash + probe) & mask) * SLOT_BYTES;
+            long slotHash = index.getLong(position);
+            if (slotHash == 0) {
+                index.putLong(position, hash);
+                index.putLong(position + 8, offset);
+                index.putInt(position + 16, length);
+                count++;
+                liveBytes += length;
+                return;
+            }
+            if (slotHash == hash && key.equals(readKey(index.getLong(position + 8)))) {
+                liveBytes += length - index.getInt(position + 16);
+                index.putLong(position + 8, offset);
+                index.putInt(position + 16, length);
+                return;
+            }
+        }
+        throw new IllegalStateException("결과 저장소 색인이 가득 찼습니다");
+    }
+    
+    private byte[] find(String key) throws IOException {
+        long hash = hash(key);
+        int mask = slots - 1;
+        for (int probe = 0; probe < slots; probe++) {
+            int position = INDEX_HEADER_BYTES + (int) ((hash + probe) & mask) * SLOT_BYTES;
+            long slotHash = index.getLong(position);
+            if (slotHash == 0) {
+                return null;
+            }
+            if (slotHash != hash) {
+                continue;
+            }
+            ByteBuffer record = ByteBuffer.allocate(index.getInt(position + 16));
+            readFully(record, index.getLong(position + 8));
+            byte[] payload = new byte[record.capacity() - RECORD_HEADER_BYTES];
+            record.position(RECORD_HEADER_BYTES);
+            record.get(payload);
+            if (crc(payload) != record.getInt(4)) {
+                log.warn("결과 저장소 레코드 CRC 불일치: {}", key);
+                return null;
+            }
+            int keyLength = ((payload[0] & 0xFF) << 8) | (payload[1] & 0xFF);
+            if (key.equals(new String(payload, 2, keyLength, StandardCharsets.UTF_8))) {
+                byte[] value = new byte[payload.length - 2 - keyLength];
+                System.arraycopy(payload, 2 + keyLength, value, 0, value.length);
+                return value;
+            }
+        }
+        return null;
+    }
+    
+    private String readKey(long offset) throws IOException {
+        ByteBuffer keyLength = ByteBuffer.allocate(2);
+        readFully(keyLength, offset + RECORD_HEADER_BYTES);
+        ByteBuffer key = ByteBuffer.allocate(keyLength.getShort(0) & 0xFFFF);
+        readFully(key, offset + RECORD_HEADER_BYTES + 2);
+        return new String(key.array(), StandardCharsets.UTF_8);
+    }
+    
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (logChannel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("결과 저장소 로그가 예상보다 짧습니다");
+            }
+        }
+    }
+    
+    private void writeIndexHeader() {
+        index.putInt(20, count);
+        index.putLong(24, logLength);
+        index.putLong(32, liveBytes);
+    }
+    
+    private static ByteBuffer encode(String key, byte[] value) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.allocate(2 + keyBytes.length + value.length);
+        payload.putShort((short) keyBytes.length).put(keyBytes).put(value);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.capacity());
+        record.putInt(payload.capacity()).putInt(crc(payload.array())).put(payload.array());
+        return record.flip();
+    }
+    
+    private static ByteBuffer logHeader(long logId) {
+        return ByteBuffer.allocate(LOG_HEADER_BYTES).putInt(LOG_MAGIC).putInt(VERSION).putLong(logId).flip();
+    }
+    
+    private static int crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+    
+    /**
+     * 키의 64비트 해시 (0은 빈 슬롯 표시로 사용하므로 제외)
+     */
+    private static long hash(String key) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001B3L;
+        }
+        return h == 0 ? 1 : h;
+    }
+}
@@ -0,0 +1,119 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 미리 컴파일된 프롬프트 템플릿
+ * 시작 시 한 번 {{변수}} 위치를 분석해 두고, 렌더링 시에는 최종 길이로 미리 크기를 잡은 StringBuilder에
+ * 고정 문자열과 변수 값을 이어 붙이기만 합니다 (요청마다 형식 문자열을 다시 해석하지 않음).
+ */
+public final class PromptTemplate {
+    
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    
+    private final String name;
+    private final String version;
+    // literals.length == variables.length + 1 (고정 문자열 사이사이에 변수가 위치)
+    private final String[] literals;
+    private final Variable[] variables;
+    private final int literalLength;
+    
+    private PromptTemplate(String name, String version, String[] literals, Variable[] variables) {
+        this.name = name;
+        this.version = version;
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+    
+    public static PromptTemplate compile(String name, String version, String source) {
+        List<String> literals = new ArrayList<>();
+        List<Variable> variables = new ArrayList<>();
+        
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 템플릿 변수가 있습니다: " + name + "." + version);
+            }
+            literals.add(source.substring(position, open));
+            variables.add(Variable.of(source.substring(open + OPEN.length(), close).trim(), name));
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        
+        return new PromptTemplate(name, version, literals.toArray(String[]::new), variables.toArray(Variable[]::new));
+    }
+    
+    public String render(ResumeRequestDto resumeRequest) {
+        int capacity = literalLength;
+        for (Variable variable : variables) {
+            capacity += variable.resolve(resumeRequest).length();
+        }
+        
+        StringBuilder prompt = new StringBuilder(capacity);
+        for (int i = 0; i < variables.length; i++) {
+            prompt.append(literals[i]).append(variables[i].resolve(resumeRequest));
+        }
+        return prompt.append(literals[variables.length]).toString();
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public String getVersion() {
+        return version;
+    }
+    
+    /**
+     * 캐시 키와 메트릭 태그에 사용하는 템플릿 식별자 (예: interview-questions@v1)
+     */
+    public String getId() {
+        return name + "@" + version;
+    }
+    
+    /**
+     * 템플릿에서 사용할 수 있는 변수
+     */
+    enum Variable {
+        CAREER_SUMMARY("careerSummary", ResumeRequestDto::getCareerSummary, ""),
+        JOB_DESCRIPTION("jobDescription", ResumeRequestDto::getJobDescription, ""),
+        TECHNICAL_SKILLS("technicalSkills", ResumeRequestDto::getTechnicalSkills, ""),
+        ADDITIONAL_INFO("additionalInfo", ResumeRequestDto::getAdditionalInfo, "없음");
+        
+        private final String key;
+        private final Function<ResumeRequestDto, String> extractor;
+        private final String defaultValue;
+        
+        Variable(String key, Function<ResumeRequestDto, String> extractor, String defaultValue) {
+            this.key = key;
+            this.extractor = extractor;
+            this.defaultValue = defaultValue;
+        }
+        
+        String resolve(ResumeRequestDto resumeRequest) {
+            String value = extractor.apply(resumeRequest);
+            return value != null ? value : defaultValue;
+        }
+        
+        static Variable of(String key, String templateName) {
+            for (Variable variable : values()) {
+                if (variable.key.equals(key)) {
+                    return variable;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 템플릿 변수입니다: " + key + " (" + templateName + ")");
+        }
+    }
+}
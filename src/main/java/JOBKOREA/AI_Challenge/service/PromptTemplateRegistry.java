@@ -0,0 +1,91 @@
+package JOBKOREA.AI_Challenge.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 버전별 프롬프트 템플릿 저장소
+ * 시작 시 classpath:prompts/{이름}.{버전}.txt 파일을 모두 읽어 컴파일하고,
+ * openai.prompt.*-version 설정에 지정된 버전을 사용합니다.
+ * v1은 전체 JSON 예시를 포함하고, v2는 필드 목록만 한 줄로 안내하여 프롬프트 토큰을 줄입니다.
+ */
+@Component
+@Slf4j
+public class PromptTemplateRegistry {
+    
+    public static final String INTERVIEW_QUESTIONS = "interview-questions";
+    public static final String LEARNING_PATH = "learning-path";
+    // 면접 질문과 학습 경로를 한 번의 호출로 함께 생성하는 통합 분석 단일 호출 모드용
+    public static final String COMPREHENSIVE = "comprehensive";
+    
+    private static final String LOCATION = "classpath*:prompts/*.txt";
+    
+    private final Map<String, PromptTemplate> templates = new HashMap<>();
+    private final PromptTemplate interviewQuestions;
+    private final PromptTemplate learningPath;
+    private final PromptTemplate comprehensive;
+    
+    public PromptTemplateRegistry(
+            @Value("${openai.prompt.interview-questions-version:v1}") String interviewQuestionsVersion,
+            @Value("${openai.prompt.learning-path-version:v1}") String learningPathVersion,
+            @Value("${openai.prompt.comprehensive-version:v1}") String comprehensiveVersion) {
+        loadTemplates();
+        this.interviewQuestions = get(INTERVIEW_QUESTIONS, interviewQuestionsVersion);
+        this.learningPath = get(LEARNING_PATH, learningPathVersion);
+        this.comprehensive = get(COMPREHENSIVE, comprehensiveVersion);
+        log.info("프롬프트 템플릿 {}개 로드 - 사용 중: {}, {}, {}", templates.size(),
+                interviewQuestions.getId(), learningPath.getId(), comprehensive.getId());
+    }
+    
+    public PromptTemplate interviewQuestions() {
+        return interviewQuestions;
+    }
+    
+    public PromptTemplate learningPath() {
+        return learningPath;
+    }
+    
+    public PromptTemplate comprehensive() {
+        return comprehensive;
+    }
+    
+    public PromptTemplate get(String name, String version) {
+        PromptTemplate template = templates.get(name + "@" + version);
+        if (template == null) {
+            throw new IllegalStateException("프롬프트 템플릿을 찾을 수 없습니다: " + name + "@" + version);
+        }
+        return template;
+    }
+    
+    private void loadTemplates() {
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+                String filename = resource.getFilename();
+                if (filename == null) {
+                    continue;
+                }
+                // {이름}.{버전}.txt
+                String base = filename.substring(0, filename.length() - ".txt".length());
+                int dot = base.lastIndexOf('.');
+                if (dot < 0) {
+                    log.warn("버전이 없는 프롬프트 템플릿 파일은 무시합니다: {}", filename);
+                    continue;
+                }
+                String source = resource.getContentAsString(StandardCharsets.UTF_8);
+                PromptTemplate template = PromptTemplate.compile(base.substring(0, dot), base.substring(dot + 1), source);
+                templates.put(template.getId(), template);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("프롬프트 템플릿을 읽을 수 없습니다", e);
+        }
+    }
+}
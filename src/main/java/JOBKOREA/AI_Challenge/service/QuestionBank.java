@@ -0,0 +1,260 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 사전 생성 면접 질문 뱅크
+ * 자주 들어오는 (직무, 기술 스킬, 경력 수준) 조합별로 미리 생성해 둔 질문 세트를 메모리에 올리고,
+ * 스킬 → 버킷 역색인으로 이력서와 가장 많이 겹치는 버킷을 찾습니다.
+ * 스킬 일치율(coverage)이 min-coverage 이상인 버킷이 있을 때만 반환하며, 없으면 호출 측에서 실시간 생성합니다.
+ */
+@Component
+@Slf4j
+public class QuestionBank {
+    
+    // 1~2자리 숫자만 경력 연수로 취급 ("2019년 입사" 같은 연도 제외)
+    private static final Pattern YEARS = Pattern.compile("(?<!\\d)(\\d{1,2})\\s*년");
+    private static final Map<String, Pattern> ROLE_KEYWORDS = new LinkedHashMap<>();
+    
+    static {
+        ROLE_KEYWORDS.put("backend", keywords("백엔드", "backend", "서버 개발", "server"));
+        ROLE_KEYWORDS.put("frontend", keywords("프론트엔드", "프론트", "frontend", "front-end", "웹 퍼블리", "ui 개발"));
+        ROLE_KEYWORDS.put("mobile", keywords("모바일", "mobile", "android", "안드로이드", "ios", "앱 개발"));
+        ROLE_KEYWORDS.put("data", keywords("데이터 엔지니어", "데이터 분석", "데이터 사이언", "data engineer", "data science",
+                "data scientist", "머신러닝", "machine learning"));
+        ROLE_KEYWORDS.put("devops", keywords("devops", "데브옵스", "인프라", "sre", "클라우드 엔지니어", "플랫폼 엔지니어"));
+    }
+    
+    /**
+     * 키워드 중 하나와 일치하는 패턴 - 영문/숫자로 이어지는 단어의 일부("portfolios"의 ios, "observer"의 server)는 제외
+     */
+    private static Pattern keywords(String... keywords) {
+        StringJoiner alternatives = new StringJoiner("|", "(?<![a-z0-9])(?:", ")(?![a-z0-9])");
+        for (String keyword : keywords) {
+            alternatives.add(Pattern.quote(keyword));
+        }
+        return Pattern.compile(alternatives.toString());
+    }
+    
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path path;
+    private final double minCoverage;
+    private final Timer hitTimer;
+    private final Timer missTimer;
+    
+    private volatile Snapshot snapshot = new Snapshot(List.of());
+    
+    public QuestionBank(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${openai.question-bank.enabled:false}") boolean enabled,
+            @Value("${openai.question-bank.path:./data/question-bank.json}") Path path,
+            @Value("${openai.question-bank.min-coverage:0.6}") double minCoverage) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.path = path;
+        this.minCoverage = minCoverage;
+        this.hitTimer = lookupTimer(meterRegistry, "hit");
+        this.missTimer = lookupTimer(meterRegistry, "miss");
+        meterRegistry.gauge("openai.question-bank.buckets", Tags.empty(), this, bank -> bank.snapshot.buckets.size());
+    }
+    
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("openai.question-bank.lookup")
+                .description("질문 뱅크 조회 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void load() {
+        if (!enabled || !Files.exists(path)) {
+            return;
+        }
+        try {
+            BankFile file = objectMapper.readValue(path.toFile(), BankFile.class);
+            snapshot = new Snapshot(file.getBuckets() != null ? file.getBuckets() : List.of());
+            log.info("질문 뱅크 로드: {}개 버킷 ({} 생성)", snapshot.buckets.size(), file.getGeneratedAt());
+        } catch (IOException e) {
+            // 뱅크를 읽지 못해도 실시간 생성으로 서비스는 계속됨
+            log.warn("질문 뱅크를 읽을 수 없습니다: {} - {}", path, e.getMessage());
+        }
+    }
+    
+    /**
+     * 생성한 버킷을 파일에 저장하고 메모리 색인을 교체
+     */
+    public void save(List<Bucket> buckets) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), new BankFile(Instant.now(), buckets));
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        snapshot = new Snapshot(buckets);
+        log.info("질문 뱅크 저장: {}개 버킷 -> {}", buckets.size(), path);
+    }
+    
+    /**
+     * 파일에 저장된 버킷 목록 (뱅크 사용 여부와 관계없이 읽으며, 파일이 없으면 빈 목록)
+     */
+    List<Bucket> saved() throws IOException {
+        if (!Files.exists(path)) {
+            return List.of();
+        }
+        BankFile file = objectMapper.readValue(path.toFile(), BankFile.class);
+        return file.getBuckets() != null ? file.getBuckets() : List.of();
+    }
+    
+    /**
+     * 이력서와 스킬 일치율이 가장 높은 버킷의 질문 세트 반환 (일치율이 기준 미만이면 null)
+     */
+    public InterviewQuestionsResponseDto find(ResumeRequestDto resumeRequest) {
+        Snapshot current = snapshot;
+        if (!enabled || current.buckets.isEmpty()) {
+            return null;
+        }
+        long start = System.nanoTime();
+        Set<String> skills = GenerationResponseCache.skillTokens(resumeRequest.getTechnicalSkills());
+        String text = GenerationResponseCache.normalize(resumeRequest.getCareerSummary()) + " "
+                + GenerationResponseCache.normalize(resumeRequest.getJobDescription());
+        String role = role(text);
+        String careerLevel = careerLevel(text);
+        
+        // 역색인으로 스킬이 하나라도 겹치는 버킷만 후보로 수집하며 겹친 스킬 수를 셈
+        Map<Integer, Integer> overlaps = new HashMap<>();
+        for (String skill : skills) {
+            for (Integer bucket : current.index.getOrDefault(skill, List.of())) {
+                overlaps.merge(bucket, 1, Integer::sum);
+            }
+        }
+        
+        Bucket best = null;
+        double bestCoverage = 0;
+        for (Map.Entry<Integer, Integer> candidate : overlaps.entrySet()) {
+            Bucket bucket = current.buckets.get(candidate.getKey());
+            if ((role != null && !role.equals(bucket.getRole()))
+                    || (careerLevel != null && !careerLevel.equals(bucket.getCareerLevel()))) {
+                continue;
+            }
+            // 이력서 스킬과 버킷 스킬 중 큰 쪽 기준 - 어느 한쪽에만 있는 스킬이 많으면 낮아짐
+            double coverage = (double) candidate.getValue() / Math.max(skills.size(), bucket.getSkills().size());
+            if (coverage > bestCoverage) {
+                best = bucket;
+                bestCoverage = coverage;
+            }
+        }
+        
+        long elapsed = System.nanoTime() - start;
+        if (best == null || bestCoverage < minCoverage) {
+            missTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            return null;
+        }
+        hitTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.debug("질문 뱅크 적중: {}/{} {} (일치율 {})", best.getRole(), best.getCareerLevel(), best.getSkills(),
+                String.format("%.2f", bestCoverage));
+        return best.getResult();
+    }
+    
+    /**
+     * 경력 요약/직무 설명의 키워드로 직무 분류 (판단할 수 없으면 null - 직무 조건 없이 비교)
+     */
+    static String role(String text) {
+        for (Map.Entry<String, Pattern> role : ROLE_KEYWORDS.entrySet()) {
+            if (role.getValue().matcher(text).find()) {
+                return role.getKey();
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * "N년" 표기나 신입 여부로 경력 수준 분류: junior(3년 미만), mid(3~6년), senior(7년 이상)
+     */
+    static String careerLevel(String text) {
+        Matcher matcher = YEARS.matcher(text);
+        if (matcher.find()) {
+            int years = Integer.parseInt(matcher.group(1));
+            return years < 3 ? "junior" : years < 7 ? "mid" : "senior";
+        }
+        if (text.contains("신입") || text.contains("주니어")) {
+            return "junior";
+        }
+        if (text.contains("시니어")) {
+            return "senior";
+        }
+        return null;
+    }
+    
+    /**
+     * (직무, 기술 스킬, 경력 수준) 버킷과 사전 생성한 질문 세트
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private String role;
+        private String careerLevel;
+        private List<String> skills;
+        private InterviewQuestionsResponseDto result;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class BankFile {
+        private Instant generatedAt;
+        private List<Bucket> buckets;
+    }
+    
+    private static class Snapshot {
+        
+        private final List<Bucket> buckets;
+        private final Map<String, List<Integer>> index = new HashMap<>();
+        
+        Snapshot(List<Bucket> buckets) {
+            this.buckets = new ArrayList<>(buckets);
+            for (int i = 0; i < this.buckets.size(); i++) {
+                Bucket bucket = this.buckets.get(i);
+                // 파일의 스킬 표기를 요청과 같은 규칙으로 정규화
+                List<String> skills = bucket.getSkills() == null ? List.of()
+                        : new ArrayList<>(GenerationResponseCache.skillTokens(String.join(",", bucket.getSkills())));
+                bucket.setSkills(skills);
+                for (String skill : skills) {
+                    index.computeIfAbsent(skill, key -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+    }
+}
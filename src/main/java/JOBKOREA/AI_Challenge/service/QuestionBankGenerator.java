@@ -0,0 +1,138 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.BatchItemResultDto;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 질문 뱅크 사전 생성 (오프라인)
+ * openai.question-bank.generate=true 로 실행하면 버킷 정의 파일의 (직무, 기술 스킬, 경력 수준) 조합마다
+ * 대표 이력서로 면접 질문을 생성하여 질문 뱅크 파일에 저장합니다. 생성은 일괄 생성과 같은 동시 실행 제한을 따릅니다.
+ * 생성에 실패한 버킷은 기존 뱅크의 같은 버킷을 유지하며, 모든 버킷이 실패하면 기존 뱅크 파일을 그대로 둡니다.
+ */
+@Component
+@ConditionalOnProperty(name = "openai.question-bank.generate", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class QuestionBankGenerator implements ApplicationRunner {
+    
+    private final BatchGenerationService batchGenerationService;
+    private final QuestionBank questionBank;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${openai.question-bank.definitions:classpath:question-bank/buckets.json}")
+    private Resource definitions;
+    
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<BucketDefinition> buckets;
+        try (InputStream input = definitions.getInputStream()) {
+            buckets = objectMapper.readValue(input, new TypeReference<List<BucketDefinition>>() {});
+        }
+        log.info("질문 뱅크 생성 시작: {}개 버킷", buckets.size());
+        
+        List<ResumeRequestDto> requests = buckets.stream()
+                .map(bucket -> ResumeRequestDto.builder()
+                        .careerSummary(bucket.getCareerSummary())
+                        .jobDescription(bucket.getJobDescription())
+                        .technicalSkills(String.join(", ", bucket.getSkills()))
+                        .build())
+                .toList();
+        
+        Map<Integer, BatchItemResultDto> results = new ConcurrentHashMap<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        // 캐시된 결과가 아닌 새 결과로 뱅크를 채움
+        batchGenerationService.generateInterviewQuestions(requests, true, new BatchResultListener() {
+            @Override
+            public void onItem(BatchItemResultDto item) {
+                results.put(item.getIndex(), item);
+            }
+            
+            @Override
+            public void onComplete(int succeeded, int failed) {
+                completed.countDown();
+            }
+        });
+        completed.await();
+        
+        List<QuestionBank.Bucket> saved = questionBank.saved();
+        List<QuestionBank.Bucket> merged = new ArrayList<>();
+        int generated = 0;
+        for (int i = 0; i < buckets.size(); i++) {
+            BucketDefinition bucket = buckets.get(i);
+            BatchItemResultDto result = results.get(i);
+            if (result == null || !result.isSuccess()) {
+                QuestionBank.Bucket existing = find(saved, bucket);
+                log.warn("질문 뱅크 버킷 생성 실패{}: {}/{} {} - {}", existing != null ? " (기존 버킷 유지)" : "",
+                        bucket.getRole(), bucket.getCareerLevel(), bucket.getSkills(),
+                        result != null ? result.getError() : "결과 없음");
+                if (existing != null) {
+                    merged.add(existing);
+                }
+                continue;
+            }
+            merged.add(QuestionBank.Bucket.builder()
+                    .role(bucket.getRole())
+                    .careerLevel(bucket.getCareerLevel())
+                    .skills(bucket.getSkills())
+                    .result(result.getResult())
+                    .build());
+            generated++;
+        }
+        if (generated == 0) {
+            log.warn("질문 뱅크 생성 실패: 생성된 버킷이 없어 기존 뱅크를 유지합니다");
+            return;
+        }
+        questionBank.save(merged);
+        log.info("질문 뱅크 생성 완료: {}/{}개 버킷 (기존 버킷 유지 {}개)", generated, buckets.size(), merged.size() - generated);
+    }
+    
+    /**
+     * 정의와 같은 (직무, 경력 수준, 스킬 집합)의 기존 버킷
+     */
+    private static QuestionBank.Bucket find(List<QuestionBank.Bucket> saved, BucketDefinition definition) {
+        Set<String> skills = GenerationResponseCache.skillTokens(String.join(",", definition.getSkills()));
+        for (QuestionBank.Bucket bucket : saved) {
+            if (Objects.equals(definition.getRole(), bucket.getRole())
+                    && Objects.equals(definition.getCareerLevel(), bucket.getCareerLevel())
+                    && bucket.getSkills() != null
+                    && skills.equals(GenerationResponseCache.skillTokens(String.join(",", bucket.getSkills())))) {
+                return bucket;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * 버킷 정의 - 조합 키(role, careerLevel, skills)와 생성에 사용할 대표 이력서 문구
+     */
+    @Data
+    @NoArgsConstructor
+    static class BucketDefinition {
+        private String role;
+        private String careerLevel;
+        private List<String> skills;
+        private String careerSummary;
+        private String jobDescription;
+    }
+}
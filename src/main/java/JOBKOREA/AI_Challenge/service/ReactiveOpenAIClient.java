@@ -0,0 +1,285 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theokanning.openai.completion.chat.ChatCompletionChoice;
+import com.theokanning.openai.completion.chat.ChatCompletionChunk;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatCompletionResult;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * WebClient 기반 논블로킹 OpenAI chat completion 클라이언트
+ * {@link OpenAICompletionClient}와 같은 RPM/TPM 제한, 격벽, 재시도, 이어쓰기, 마감 시각, 모델 대체 규칙을 따르되
+ * 대기(한도 대기, 백오프)와 응답 수신 동안 스레드를 점유하지 않습니다.
+ * 반환된 Mono/Flux의 구독을 해제하면 진행 중인 HTTP 호출도 취소됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveOpenAIClient {
+    
+    private static final String CHAT_COMPLETIONS_PATH = "/v1/chat/completions";
+    private static final String STREAM_DONE = "[DONE]";
+    private static final ObjectMapper OPENAI_MAPPER = OpenAiService.defaultObjectMapper();
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+    
+    private final WebClient openAiWebClient;
+    private final OpenAICompletionClient completionClient;
+    private final OpenAIMetrics openAIMetrics;
+    private final UpstreamBulkheads bulkheads;
+    private final OpenAIRateLimiter rateLimiter;
+    private final ModelRouter modelRouter;
+    
+    @Value("${openai.retry.max-attempts:3}")
+    private int maxAttempts;
+    
+    @Value("${openai.retry.max-continuations:1}")
+    private int maxContinuations;
+    
+    @Value("${openai.retry.continuation-max-tokens:1500}")
+    private int continuationMaxTokens;
+    
+    /**
+     * 프롬프트에 대한 응답 생성. 잘린 응답은 max-continuations 횟수까지 이어서 생성
+     * @param endpoint 격벽과 메트릭에 사용하는 생성 유형 (PromptTemplateRegistry 템플릿 이름)
+     */
+    public Mono<OpenAICompletionClient.Completion> complete(String endpoint, TokenBudgeter.TokenBudget budget,
+                                                            OpenAICompletionClient.Deadline deadline) {
+        ChatMessage prompt = new ChatMessage("user", budget.getPrompt());
+        return Mono.defer(() -> complete(endpoint, budget, prompt, deadline,
+                modelRouter.route(endpoint, budget.getPromptTokens()), 0));
+    }
+    
+    private Mono<OpenAICompletionClient.Completion> complete(String endpoint, TokenBudgeter.TokenBudget budget, ChatMessage prompt,
+                                                             OpenAICompletionClient.Deadline deadline,
+                                                             List<ModelRouter.ModelRoute> routes, int index) {
+        ModelRouter.ModelRoute route = routes.get(index);
+        boolean hasFallback = index + 1 < routes.size();
+        int maxTokens = route.maxTokens(budget.getMaxTokens());
+        int tokenCost = budget.getPromptTokens() + maxTokens;
+        return callWithRetry(route, endpoint, List.of(prompt), maxTokens, tokenCost, deadline, hasFallback)
+                .onErrorResume(error -> {
+                    String outcome = OpenAIMetrics.outcome(error);
+                    if (error instanceof ServiceOverloadedException || !hasFallback
+                            || !ModelRouter.isFailover(outcome) || deadline.isExpired()) {
+                        return Mono.error(error);
+                    }
+                    modelRouter.recordFailover(endpoint, route, routes.get(index + 1), outcome);
+                    return Mono.empty();
+                })
+                .flatMap(attempt -> attempt.isTruncated()
+                        ? continueCompletion(route, endpoint, prompt, tokenCost, deadline, attempt.getContent(), null, 0)
+                        : Mono.just(new OpenAICompletionClient.Completion(attempt.getContent(), null, false, 0)))
+                .switchIfEmpty(Mono.defer(() -> complete(endpoint, budget, prompt, deadline, routes, index + 1)));
+    }
+    
+    /**
+     * 스트리밍 생성 - 응답 조각(content delta)을 도착 순서대로 발행
+     * 구독자가 요청한 만큼만 응답 본문을 읽으므로 느린 클라이언트의 배압이 OpenAI 연결까지 전달됩니다.
+     * @param type 격벽에 사용하는 생성 유형 (메트릭 endpoint 태그는 stream.{type})
+     */
+    public Flux<String> stream(String type, TokenBudgeter.TokenBudget budget) {
+        String endpoint = StreamingGenerationService.STREAM_PREFIX + type;
+        return Flux.defer(() -> {
+            // 스트림은 이미 전달한 조각을 되돌릴 수 없으므로 다른 모델로 넘기지 않고 첫 번째 경로만 사용
+            ModelRouter.ModelRoute route = modelRouter.route(type, budget.getPromptTokens()).get(0);
+            int maxTokens = route.maxTokens(budget.getMaxTokens());
+            int tokenCost = budget.getPromptTokens() + maxTokens;
+            long waitNanos = rateLimiter.reserveNanos(tokenCost);
+            Flux<String> content = Flux.defer(() -> {
+                AdaptiveConcurrencyLimiter.Permit permit = acquirePermit(type, tokenCost);
+                ChatCompletionRequest request = OpenAICompletionClient.buildRequest(route,
+                        List.of(new ChatMessage("user", budget.getPrompt())), maxTokens);
+                request.setStream(true);
+                // 스트림은 생성 시간 전체 동안 유지되므로 지연 시간으로 한도를 늘리지 않고, 실패 신호만 반영
+                AtomicReference<String> failure = new AtomicReference<>();
+                Timer.Sample sample = openAIMetrics.startCall();
+                return openAiWebClient.post()
+                        .uri(CHAT_COMPLETIONS_PATH)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToFlux(SSE_TYPE)
+                        .<String>handle((event, sink) -> {
+                            String data = event.data();
+                            if (data == null) {
+                                return;
+                            }
+                            if (STREAM_DONE.equals(data)) {
+                                sink.complete();
+                                return;
+                            }
+                            try {
+                                String delta = StreamingGenerationService.content(OPENAI_MAPPER.readValue(data, ChatCompletionChunk.class));
+                                if (delta != null) {
+                                    sink.next(delta);
+                                }
+                            } catch (JsonProcessingException e) {
+                                sink.error(e);
+                            }
+                        })
+                        .doOnError(error -> {
+                            failure.set(OpenAIMetrics.outcome(error));
+                            log.error("OpenAI 스트리밍 응답 처리 중 오류 발생: {}", error.getMessage(), error);
+                        })
+                        .doFinally(signal -> {
+                            openAIMetrics.recordCall(sample, endpoint, route.getModel(),
+                                    failure.get() != null ? failure.get() : OpenAIMetrics.SUCCESS);
+                            UpstreamBulkheads.release(permit, failure.get());
+                        });
+            });
+            return waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).thenMany(content) : content;
+        });
+    }
+    
+    /**
+     * 격벽 권한 획득. 거절되면 OpenAI에 보내지 않으므로 먼저 예약한 RPM/TPM 용량을 되돌림
+     */
+    private AdaptiveConcurrencyLimiter.Permit acquirePermit(String type, int tokenCost) {
+        try {
+            return bulkheads.acquire(type);
+        } catch (ServiceOverloadedException e) {
+            rateLimiter.refund(tokenCost);
+            throw e;
+        }
+    }
+    
+    private Mono<OpenAICompletionClient.Completion> continueCompletion(ModelRouter.ModelRoute route, String endpoint,
+                                                                     ChatMessage prompt, int tokenCost,
+                                                                     OpenAICompletionClient.Deadline deadline, String content,
+                                                                     String uncontinuedContent, int continuations) {
+        if (continuations >= maxContinuations || deadline.isExpired()) {
+            return Mono.just(new OpenAICompletionClient.Completion(content, uncontinuedContent, true, continuations));
+        }
+        // 이어쓰기 호출은 이전 응답 전체를 입력으로 다시 보내므로 TPM 비용에 이전 출력 토큰(최대 maxTokens)을 포함
+        List<ChatMessage> messages = List.of(prompt, new ChatMessage("assistant", content),
+                new ChatMessage("user", OpenAICompletionClient.CONTINUE_INSTRUCTION));
+        String original = uncontinuedContent != null ? uncontinuedContent : content;
+        return callWithRetry(route, endpoint, messages, continuationMaxTokens, tokenCost + continuationMaxTokens, deadline, false)
+                .flatMap(continuation -> {
+                    openAIMetrics.recordContinuation(endpoint, OpenAIMetrics.SUCCESS);
+                    log.info("잘린 응답 이어쓰기 완료 - {} ({}회)", endpoint, continuations + 1);
+                    String joined = content + OpenAICompletionClient.stripLeadingFence(continuation.getContent());
+                    return continuation.isTruncated()
+                            ? continueCompletion(route, endpoint, prompt, tokenCost, deadline, joined, original, continuations + 1)
+                            : Mono.just(new OpenAICompletionClient.Completion(joined, original, false, continuations + 1));
+                })
+                .onErrorResume(e -> {
+                    // 이어쓰기에 실패해도 이미 받은 응답에서 완성된 항목은 복구할 수 있으므로 그대로 반환
+                    openAIMetrics.recordContinuation(endpoint, OpenAIMetrics.outcome(e));
+                    log.warn("잘린 응답 이어쓰기 실패 - {}: {}", endpoint, e.getMessage());
+                    return Mono.just(new OpenAICompletionClient.Completion(content, uncontinuedContent, true, continuations));
+                });
+    }
+    
+    /**
+     * @param hasFallback 대체 모델이 남아 있으면 타임아웃/5xx/429를 같은 모델로 재시도하지 않고 바로 넘김
+     */
+    private Mono<Attempt> callWithRetry(ModelRouter.ModelRoute route, String endpoint, List<ChatMessage> messages,
+                                        int maxTokens, int tokenCost, OpenAICompletionClient.Deadline deadline,
+                                        boolean hasFallback) {
+        return call(route, endpoint, messages, maxTokens, tokenCost, deadline)
+                .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                    Throwable error = signal.failure();
+                    int attempt = (int) signal.totalRetries() + 1;
+                    String outcome = OpenAIMetrics.outcome(error);
+                    // 로컬 과부하 거절은 즉시 503으로 응답해야 하므로 재시도하지 않음
+                    if (error instanceof ServiceOverloadedException
+                            || attempt >= maxAttempts || !OpenAICompletionClient.isRetryable(error, outcome)
+                            || (hasFallback && ModelRouter.isFailover(outcome))) {
+                        return Mono.error(error);
+                    }
+                    long backoffMillis = completionClient.backoffMillis(attempt, error);
+                    if (deadline.remainingMillis() <= backoffMillis) {
+                        log.warn("전체 처리 시간 예산이 부족하여 재시도하지 않음 - {} ({})", endpoint, outcome);
+                        return Mono.error(error);
+                    }
+                    openAIMetrics.recordRetry(endpoint, outcome);
+                    log.warn("OpenAI 호출 재시도 {}/{} - {} ({}), {}ms 후", attempt + 1, maxAttempts, endpoint, outcome, backoffMillis);
+                    return Mono.delay(Duration.ofMillis(backoffMillis));
+                })));
+    }
+    
+    private Mono<Attempt> call(ModelRouter.ModelRoute route, String endpoint, List<ChatMessage> messages, int maxTokens,
+                               int tokenCost, OpenAICompletionClient.Deadline deadline) {
+        return Mono.defer(() -> {
+            // RPM/TPM 한도를 넘지 않도록 대기 시간만큼 지연 후 호출 (max-wait 초과 시 ServiceOverloadedException)
+            long waitNanos = rateLimiter.reserveNanos(tokenCost);
+            Mono<Attempt> exchange = Mono.defer(() -> exchange(route, endpoint, messages, maxTokens, tokenCost, deadline));
+            return waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).then(exchange) : exchange;
+        });
+    }
+    
+    private Mono<Attempt> exchange(ModelRouter.ModelRoute route, String endpoint, List<ChatMessage> messages, int maxTokens,
+                                   int tokenCost, OpenAICompletionClient.Deadline deadline) {
+        long remainingNanos = deadline.remainingNanos();
+        if (remainingNanos <= 0) {
+            return Mono.error(new RuntimeException("OpenAI API 호출 실패: 전체 처리 시간 예산을 모두 사용했습니다",
+                    new TimeoutException("전체 처리 시간 예산을 모두 사용했습니다")));
+        }
+        // 격벽 한도 초과 시 OpenAI를 호출하지 않고 즉시 거절 (ServiceOverloadedException)
+        AdaptiveConcurrencyLimiter.Permit permit = acquirePermit(endpoint, tokenCost);
+        AtomicReference<String> outcome = new AtomicReference<>(OpenAIMetrics.SUCCESS);
+        Timer.Sample sample = openAIMetrics.startCall();
+        long started = System.nanoTime();
+        return openAiWebClient.post()
+                .uri(CHAT_COMPLETIONS_PATH)
+                .bodyValue(OpenAICompletionClient.buildRequest(route, messages, maxTokens))
+                .retrieve()
+                .bodyToMono(ChatCompletionResult.class)
+                // 남은 예산이 지나면 구독이 해제되면서 진행 중인 HTTP 호출도 취소됨
+                .timeout(Duration.ofNanos(remainingNanos))
+                .map(result -> {
+                    openAIMetrics.recordUsage(endpoint, route.getModel(), result.getUsage());
+                    ChatCompletionChoice choice = result.getChoices().get(0);
+                    String response = choice.getMessage().getContent();
+                    log.debug("OpenAI API 응답: {}", response);
+                    return new Attempt(response, OpenAICompletionClient.FINISH_REASON_LENGTH.equals(choice.getFinishReason()));
+                })
+                .doOnError(e -> outcome.set(OpenAIMetrics.outcome(e)))
+                .doFinally(signal -> {
+                    // 클라이언트 연결 종료 등으로 취소된 호출은 과부하 신호로 보지 않음
+                    String result = signal == SignalType.CANCEL ? OpenAIMetrics.ERROR : outcome.get();
+                    openAIMetrics.recordCall(sample, endpoint, route.getModel(), result);
+                    if (signal != SignalType.CANCEL) {
+                        modelRouter.record(route, System.nanoTime() - started, result);
+                    }
+                    UpstreamBulkheads.release(permit, result);
+                })
+                .onErrorMap(e -> {
+                    log.error("OpenAI API 호출 중 오류 발생: {}", e.getMessage(), e);
+                    return new RuntimeException("OpenAI API 호출 실패: " + e.getMessage(), e);
+                });
+    }
+    
+    @Getter
+    @AllArgsConstructor
+    private static class Attempt {
+        private final String content;
+        private final boolean truncated;
+    }
+}
@@ -0,0 +1,320 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.ComprehensiveResponseDto;
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.LearningPathResponseDto;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 면접 질문/학습 경로 생성의 논블로킹(Reactor) 버전
+ * 프롬프트, 토큰 예산, 캐시, 파싱 규칙은 {@link OpenAIService}와 같고, OpenAI 호출만 {@link ReactiveOpenAIClient}로 수행합니다.
+ * 응답 캐시의 영구 저장소(L2)는 파일 입출력이 있으므로 캐시 조회/저장은 boundedElastic 스케줄러에서 실행합니다.
+ */
+@Service
+@Slf4j
+public class ReactiveOpenAIService {
+    
+    private final OpenAIService openAIService;
+    private final ReactiveOpenAIClient completionClient;
+    private final OpenAICompletionClient blockingClient;
+    private final GenerationResponseParser responseParser;
+    private final ObjectMapper objectMapper;
+    private final ComprehensiveService.ComprehensiveMode comprehensiveMode;
+    private final Duration branchTimeout;
+    private final boolean allowPartial;
+    private final int maxRegenerations;
+    
+    public ReactiveOpenAIService(
+            OpenAIService openAIService,
+            ReactiveOpenAIClient completionClient,
+            OpenAICompletionClient blockingClient,
+            GenerationResponseParser responseParser,
+            ObjectMapper objectMapper,
+            @Value("${openai.comprehensive.mode:parallel}") String comprehensiveMode,
+            @Value("${openai.comprehensive.branch-timeout-seconds:90}") long branchTimeoutSeconds,
+            @Value("${openai.comprehensive.allow-partial:false}") boolean allowPartial,
+            @Value("${openai.retry.max-regenerations:1}") int maxRegenerations) {
+        this.openAIService = openAIService;
+        this.completionClient = completionClient;
+        this.blockingClient = blockingClient;
+        this.responseParser = responseParser;
+        this.objectMapper = objectMapper;
+        this.comprehensiveMode = ComprehensiveService.ComprehensiveMode.from(comprehensiveMode);
+        this.branchTimeout = Duration.ofSeconds(branchTimeoutSeconds);
+        this.allowPartial = allowPartial;
+        this.maxRegenerations = maxRegenerations;
+    }
+    
+    /**
+     * @param bypassCache true이면 캐시를 조회하지 않고 새로 생성한 결과로 캐시를 갱신
+     */
+    public Mono<InterviewQuestionsResponseDto> generateInterviewQuestions(ResumeRequestDto resumeRequest, boolean bypassCache) {
+        Mono<InterviewQuestionsResponseDto> cached = bypassCache ? Mono.empty()
+                : Mono.fromCallable(() -> openAIService.cachedInterviewQuestions(resumeRequest))
+                        .subscribeOn(Schedulers.boundedElastic());
+        return cached.switchIfEmpty(Mono.defer(() -> generate(PromptTemplateRegistry.INTERVIEW_QUESTIONS,
+                        openAIService.planInterviewQuestions(resumeRequest), responseParser::parseInterviewQuestions)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(result -> openAIService.cacheInterviewQuestions(resumeRequest, result))
+                .onErrorMap(e -> wrap("면접 질문", e))));
+    }
+    
+    /**
+     * @param bypassCache true이면 캐시를 조회하지 않고 새로 생성한 결과로 캐시를 갱신
+     */
+    public Mono<LearningPathResponseDto> generateLearningPath(ResumeRequestDto resumeRequest, boolean bypassCache) {
+        Mono<LearningPathResponseDto> cached = bypassCache ? Mono.empty()
+                : Mono.fromCallable(() -> openAIService.cachedLearningPath(resumeRequest))
+                        .subscribeOn(Schedulers.boundedElastic());
+        return cached.switchIfEmpty(Mono.defer(() -> generate(PromptTemplateRegistry.LEARNING_PATH,
+                        openAIService.planLearningPath(resumeRequest), responseParser::parseLearningPath)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(result -> openAIService.cacheLearningPath(resumeRequest, result))
+                .onErrorMap(e -> wrap("학습 경로", e))));
+    }
+    
+    /**
+     * 통합 분석 - parallel 모드에서는 두 생성을 동시에 구독하고, 한쪽이 실패하면(부분 결과 미허용 시)
+     * 나머지 구독을 해제하여 진행 중인 OpenAI 호출까지 취소합니다.
+     * single 모드에서는 통합 프롬프트 한 번으로 두 결과를 함께 생성합니다.
+     * @param mode null이면 openai.comprehensive.mode 설정값 사용
+     */
+    public Mono<ComprehensiveResponseDto> generateComprehensive(ResumeRequestDto resumeRequest,
+                                                                ComprehensiveService.ComprehensiveMode mode, boolean bypassCache) {
+        ComprehensiveService.ComprehensiveMode resolved = mode != null ? mode : comprehensiveMode;
+        if (resolved == ComprehensiveService.ComprehensiveMode.SINGLE) {
+            return generateComprehensiveSingle(resumeRequest, bypassCache);
+        }
+        return Mono.defer(() -> {
+            Map<String, String> failures = new LinkedHashMap<>();
+            Mono<Optional<InterviewQuestionsResponseDto>> questions = branch(ComprehensiveService.INTERVIEW_QUESTIONS,
+                    generateInterviewQuestions(resumeRequest, bypassCache), failures);
+            Mono<Optional<LearningPathResponseDto>> learningPath = branch(ComprehensiveService.LEARNING_PATH,
+                    generateLearningPath(resumeRequest, bypassCache), failures);
+            
+            return (resolved == ComprehensiveService.ComprehensiveMode.SEQUENTIAL
+                    ? questions.zipWhen(ignored -> learningPath)
+                    : Mono.zip(questions, learningPath))
+                    .map(results -> {
+                        if (results.getT1().isEmpty() && results.getT2().isEmpty()) {
+                            throw new RuntimeException("통합 분석 생성 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+                        }
+                        synchronized (failures) {
+                            if (!failures.isEmpty()) {
+                                log.warn("통합 분석 부분 결과 반환 - 실패 항목: {}", failures);
+                            }
+                            return ComprehensiveResponseDto.builder()
+                                    .interviewQuestions(results.getT1().orElse(null))
+                                    .learningPath(results.getT2().orElse(null))
+                                    .partial(!failures.isEmpty())
+                                    .failures(failures.isEmpty() ? null : new LinkedHashMap<>(failures))
+                                    .build();
+                        }
+                    });
+        });
+    }
+    
+    private Mono<ComprehensiveResponseDto> generateComprehensiveSingle(ResumeRequestDto resumeRequest, boolean bypassCache) {
+        if (bypassCache) {
+            return generateComprehensiveSingle(resumeRequest);
+        }
+        return Mono.fromCallable(() -> ComprehensiveResponseDto.builder()
+                        .interviewQuestions(openAIService.cachedInterviewQuestions(resumeRequest))
+                        .learningPath(openAIService.cachedLearningPath(resumeRequest))
+                        .build())
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> {
+                    if (cached.getInterviewQuestions() == null && cached.getLearningPath() == null) {
+                        return generateComprehensiveSingle(resumeRequest);
+                    }
+                    // 한쪽만 캐시에 있으면 나머지 한쪽만 항목별 호출로 생성
+                    return Mono.zip(
+                                    cached.getInterviewQuestions() != null ? Mono.just(cached.getInterviewQuestions())
+                                            : generateInterviewQuestions(resumeRequest, true),
+                                    cached.getLearningPath() != null ? Mono.just(cached.getLearningPath())
+                                            : generateLearningPath(resumeRequest, true))
+                            .map(results -> ComprehensiveResponseDto.builder()
+                                    .interviewQuestions(results.getT1())
+                                    .learningPath(results.getT2())
+                                    .build());
+                });
+    }
+    
+    private Mono<ComprehensiveResponseDto> generateComprehensiveSingle(ResumeRequestDto resumeRequest) {
+        return Mono.defer(() -> generate(PromptTemplateRegistry.COMPREHENSIVE,
+                        openAIService.planComprehensive(resumeRequest), responseParser::parseComprehensive))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(result -> openAIService.cacheComprehensive(resumeRequest, result))
+                .onErrorMap(e -> wrap("통합 분석", e))
+                .map(result -> {
+                    if (result.isPartial()) {
+                        log.warn("통합 분석 단일 호출 응답에 누락된 항목이 있음: {}", result.getFailures());
+                        if (!allowPartial) {
+                            throw new RuntimeException("통합 분석 생성 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+                        }
+                    }
+                    return result;
+                });
+    }
+    
+    /**
+     * 면접 질문 스트리밍 생성 - 질문이 완성될 때마다 question 이벤트, 최상위 필드는 필드 이름의 이벤트, 마지막에 done 이벤트
+     * 구독을 해제하면 OpenAI 스트림도 취소됩니다.
+     */
+    public Flux<StreamEvent> streamInterviewQuestions(ResumeRequestDto resumeRequest) {
+        return Flux.defer(() -> stream(PromptTemplateRegistry.INTERVIEW_QUESTIONS, openAIService.planInterviewQuestions(resumeRequest),
+                "questions", "question", StreamingGenerationService::toQuestion));
+    }
+    
+    /**
+     * 학습 경로 스트리밍 생성 - 학습 단계가 완성될 때마다 step 이벤트, 최상위 필드는 필드 이름의 이벤트, 마지막에 done 이벤트
+     */
+    public Flux<StreamEvent> streamLearningPath(ResumeRequestDto resumeRequest) {
+        return Flux.defer(() -> stream(PromptTemplateRegistry.LEARNING_PATH, openAIService.planLearningPath(resumeRequest),
+                "learningSteps", "step", StreamingGenerationService::toLearningStep));
+    }
+    
+    /**
+     * 응답 생성 후 파싱. 복구할 항목이 없으면 전체 처리 시간 예산 안에서 다시 생성
+     */
+    private <T> Mono<T> generate(String endpoint, TokenBudgeter.TokenBudget budget,
+                                 Function<String, GenerationResponseParser.Parsed<T>> parser) {
+        OpenAICompletionClient.Deadline deadline = blockingClient.newDeadline();
+        return generate(endpoint, budget, parser, deadline, 0);
+    }
+    
+    private <T> Mono<T> generate(String endpoint, TokenBudgeter.TokenBudget budget,
+                                 Function<String, GenerationResponseParser.Parsed<T>> parser,
+                                 OpenAICompletionClient.Deadline deadline, int generation) {
+        return completionClient.complete(endpoint, budget, deadline)
+                .flatMap(completion -> {
+                    try {
+                        return Mono.just(openAIService.parse(endpoint, completion, parser));
+                    } catch (RuntimeException e) {
+                        if (generation >= maxRegenerations || deadline.isExpired()) {
+                            return Mono.error(e);
+                        }
+                        log.warn("{} 응답에서 복구할 항목이 없어 다시 생성 ({}/{})", endpoint, generation + 1, maxRegenerations);
+                        return generate(endpoint, budget, parser, deadline, generation + 1);
+                    }
+                });
+    }
+    
+    /**
+     * 통합 분석의 생성 작업 하나에 작업별 타임아웃과 부분 결과 규칙을 적용
+     * 부분 결과가 허용되면 실패를 기록하고 빈 값을, 그렇지 않으면 오류를 전달합니다.
+     */
+    private <T> Mono<Optional<T>> branch(String name, Mono<T> generation, Map<String, String> failures) {
+        return generation.map(Optional::of)
+                .timeout(branchTimeout)
+                .onErrorResume(error -> {
+                    boolean timedOut = error instanceof TimeoutException;
+                    if (timedOut) {
+                        log.warn("통합 분석 {} 생성 시간 초과 ({}ms)", name, branchTimeout.toMillis());
+                    } else {
+                        log.warn("통합 분석 {} 생성 실패: {}", name, error.getMessage());
+                    }
+                    if (!allowPartial) {
+                        return Mono.error(timedOut
+                                ? new RuntimeException("통합 분석 응답 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", error)
+                                : error);
+                    }
+                    synchronized (failures) {
+                        failures.put(name, timedOut ? "응답 시간 초과"
+                                : error.getMessage() != null ? error.getMessage() : "생성 실패");
+                    }
+                    return Mono.just(Optional.empty());
+                });
+    }
+    
+    private <T> Flux<StreamEvent> stream(String type, TokenBudgeter.TokenBudget budget, String itemsField, String itemEvent,
+                                         Function<Map<String, String>, T> mapper) {
+        // 파서가 완성한 항목을 모아 두었다가 응답 조각 하나를 처리할 때마다 이벤트로 내보냄
+        List<StreamEvent> parsed = new ArrayList<>();
+        IncrementalJsonParser parser = new IncrementalJsonParser(objectMapper.getFactory(), new IncrementalJsonParser.Listener() {
+            @Override
+            public void onItem(String arrayField, Map<String, String> item) {
+                if (itemsField.equals(arrayField)) {
+                    parsed.add(new StreamEvent(itemEvent, mapper.apply(item)));
+                }
+            }
+            
+            @Override
+            public void onValue(String field, String value) {
+                parsed.add(new StreamEvent(field, value));
+            }
+        });
+        
+        // concatMapIterable은 하위 구독자가 요청한 만큼만 다음 응답 조각을 요청하므로 배압이 OpenAI 스트림까지 전달됨
+        return completionClient.stream(type, budget)
+                .concatMapIterable(chunk -> {
+                    try {
+                        parser.feed(chunk);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return drain(parsed);
+                })
+                .concatWith(Flux.defer(() -> {
+                    parser.endOfInput();
+                    if (!parser.isComplete()) {
+                        log.warn("OpenAI 스트리밍 응답이 완전하지 않음 - {} 스트리밍", type);
+                    }
+                    List<StreamEvent> remaining = drain(parsed);
+                    remaining.add(new StreamEvent(StreamEvent.DONE, Map.of("complete", parser.isComplete())));
+                    return Flux.fromIterable(remaining);
+                }))
+                .onErrorResume(error -> {
+                    log.error("OpenAI 스트리밍 생성 중 오류 발생: {}", error.getMessage(), error);
+                    return Flux.just(StreamEvent.error());
+                });
+    }
+    
+    private static List<StreamEvent> drain(List<StreamEvent> parsed) {
+        List<StreamEvent> events = new ArrayList<>(parsed);
+        parsed.clear();
+        return events;
+    }
+    
+    private static Throwable wrap(String name, Throwable error) {
+        if (error instanceof ServiceOverloadedException) {
+            return error;
+        }
+        log.error("{} 생성 중 오류 발생", name, error);
+        return new RuntimeException(name + " 생성 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", error);
+    }
+    
+    /**
+     * 스트리밍 생성 이벤트 (서블릿 SSE API와 같은 이벤트 이름과 데이터)
+     */
+    public record StreamEvent(String name, Object data) {
+        
+        public static final String DONE = "done";
+        
+        static StreamEvent error() {
+            return new StreamEvent("error", Map.of(
+                    "message", "AI 서비스 처리 중 오류가 발생했습니다",
+                    "retryable", true,
+                    "suggestion", "잠시 후 다시 시도해주세요"));
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 유사 이력서 생성 결과 캐시 (MinHash + LSH)
+ * 표현만 조금 다른 이력서(예: "Spring 백엔드 3년차, Java/JPA/MySQL")도 같은 결과를 재사용할 수 있도록
+ * 정규화한 이력서 필드의 MinHash 서명을 LSH 밴드로 색인하고, 추정 자카드 유사도가 임계값 이상인 결과를 반환합니다.
+ * 같은 모델/온도/프롬프트 버전(scope)으로 생성한 결과끼리만 비교하며, 외부 임베딩 API 없이 CPU에서만 계산합니다.
+ */
+@Component
+@Slf4j
+public class SemanticResponseCache {
+    
+    // 2^31 - 1 (메르센 소수) - 해시 함수 (a * x + b) mod P 의 결과가 int 범위에 들어감
+    private static final long PRIME = (1L << 31) - 1;
+    private static final long SEED = 0x5EED_CAFEL;
+    
+    private final boolean enabled;
+    private final double similarityThreshold;
+    private final int numHashes;
+    private final int bands;
+    private final int rowsPerBand;
+    private final int shingleSize;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final long[] hashA;
+    private final long[] hashB;
+    
+    // 삽입 순서로 관리하여 maxEntries를 넘으면 가장 오래된 항목부터 제거
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>();
+    private final Map<Long, Set<Long>> buckets = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long nextId;
+    
+    private final Timer hitTimer;
+    private final Timer missTimer;
+    private final DistributionSummary similaritySummary;
+    
+    public SemanticResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${openai.semantic-cache.enabled:false}") boolean enabled,
+            @Value("${openai.semantic-cache.similarity-threshold:0.9}") double similarityThreshold,
+            @Value("${openai.semantic-cache.num-hashes:128}") int numHashes,
+            @Value("${openai.semantic-cache.bands:32}") int bands,
+            @Value("${openai.semantic-cache.shingle-size:3}") int shingleSize,
+            @Value("${openai.semantic-cache.max-entries:5000}") int maxEntries,
+            @Value("${openai.semantic-cache.ttl-minutes:60}") long ttlMinutes) {
+        if (bands <= 0 || numHashes % bands != 0) {
+            throw new IllegalArgumentException("num-hashes는 bands의 배수여야 합니다: " + numHashes + ", " + bands);
+        }
+        this.enabled = enabled;
+        this.similarityThreshold = similarityThreshold;
+        this.numHashes = numHashes;
+        this.bands = bands;
+        this.rowsPerBand = numHashes / bands;
+        this.shingleSize = shingleSize;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = Duration.ofMinutes(ttlMinutes).toNanos();
+        
+        // 재시작 후에도 같은 서명이 나오도록 고정된 시드로 해시 함수 계수 생성
+        Random random = new Random(SEED);
+        this.hashA = new long[numHashes];
+        this.hashB = new long[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            hashA[i] = 1 + random.nextInt((int) PRIME - 1);
+            hashB[i] = random.nextInt((int) PRIME);
+        }
+        
+        this.hitTimer = lookupTimer(meterRegistry, "hit");
+        this.missTimer = lookupTimer(meterRegistry, "miss");
+        this.similaritySummary = DistributionSummary.builder("openai.semantic-cache.similarity")
+                .description("유사 캐시 적중 시 추정 유사도")
+                .register(meterRegistry);
+        meterRegistry.gauge("openai.semantic-cache.entries", Tags.empty(), this, SemanticResponseCache::size);
+    }
+    
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("openai.semantic-cache.lookup")
+                .description("유사 캐시 조회 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * 같은 scope에서 유사도가 임계값 이상인 결과 중 가장 유사한 결과 반환
+     */
+    public <T> T get(String scope, ResumeRequestDto resumeRequest, Class<T> type) {
+        if (!enabled) {
+            return null;
+        }
+        long start = System.nanoTime();
+        int[] signature = signature(resumeRequest);
+        
+        Entry best = null;
+        double bestSimilarity = 0;
+        lock.readLock().lock();
+        try {
+            long now = System.nanoTime();
+            for (Long id : candidates(scope, signature)) {
+                Entry entry = entries.get(id);
+                if (entry == null || !entry.scope.equals(scope) || now - entry.createdAt > ttlNanos
+                        || !type.isInstance(entry.value)) {
+                    continue;
+                }
+                double similarity = similarity(signature, entry.signature);
+                if (similarity >= similarityThreshold && similarity > bestSimilarity) {
+                    best = entry;
+                    bestSimilarity = similarity;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        long elapsed = System.nanoTime() - start;
+        if (best == null) {
+            missTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            return null;
+        }
+        hitTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        similaritySummary.record(bestSimilarity);
+        log.debug("유사 캐시 적중 ({}): 유사도 {}", scope, String.format("%.3f", bestSimilarity));
+        return type.cast(best.value);
+    }
+    
+    public void put(String scope, ResumeRequestDto resumeRequest, Object value) {
+        if (!enabled || value == null) {
+            return;
+        }
+        int[] signature = signature(resumeRequest);
+        lock.writeLock().lock();
+        try {
+            long id = nextId++;
+            entries.put(id, new Entry(scope, signature, value, System.nanoTime()));
+            for (int band = 0; band < bands; band++) {
+                buckets.computeIfAbsent(bandKey(scope, signature, band), key -> new HashSet<>()).add(id);
+            }
+            evictOverflow();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            Map.Entry<Long, Entry> eldest = iterator.next();
+            iterator.remove();
+            for (int band = 0; band < bands; band++) {
+                long key = bandKey(eldest.getValue().scope, eldest.getValue().signature, band);
+                Set<Long> bucket = buckets.get(key);
+                if (bucket != null && bucket.remove(eldest.getKey()) && bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 밴드 하나라도 서명이 완전히 같은 항목을 후보로 수집 (임계값 근처의 후보를 놓치지 않도록 밴드는 넉넉하게 설정)
+     */
+    private List<Long> candidates(String scope, int[] signature) {
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < bands; band++) {
+            Set<Long> bucket = buckets.get(bandKey(scope, signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        return new ArrayList<>(candidates);
+    }
+    
+    private long bandKey(String scope, int[] signature, int band) {
+        long key = scope.hashCode() * 31L + band;
+        for (int row = band * rowsPerBand; row < (band + 1) * rowsPerBand; row++) {
+            key = key * 1_000_003L + signature[row];
+        }
+        return key;
+    }
+    
+    /**
+     * 두 서명에서 같은 최솟값을 가진 해시 함수의 비율 = 추정 자카드 유사도
+     */
+    static double similarity(int[] left, int[] right) {
+        int same = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] == right[i]) {
+                same++;
+            }
+        }
+        return (double) same / left.length;
+    }
+    
+    /**
+     * 이력서 필드별 문자 n-gram과 기술 스킬 토큰 집합의 MinHash 서명
+     * 필드 구분자를 해시에 섞어 다른 필드의 같은 문구가 겹치지 않도록 함
+     */
+    int[] signature(ResumeRequestDto resumeRequest) {
+        int[] signature = new int[numHashes];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        addShingles(signature, 1, GenerationResponseCache.normalize(resumeRequest.getCareerSummary()));
+        addShingles(signature, 2, GenerationResponseCache.normalize(resumeRequest.getJobDescription()));
+        addShingles(signature, 4, GenerationResponseCache.normalize(resumeRequest.getAdditionalInfo()));
+        // 기술 스킬은 나열 순서와 무관하게 같은 집합이면 같은 서명이 되도록 토큰 단위로 추가
+        for (String skill : GenerationResponseCache.skillTokens(resumeRequest.getTechnicalSkills())) {
+            add(signature, mix(3 * 0x9E3779B9 + skill.hashCode()));
+        }
+        return signature;
+    }
+    
+    private void addShingles(int[] signature, int field, String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+        if (text.length() <= shingleSize) {
+            add(signature, mix(field * 0x9E3779B9 + text.hashCode()));
+            return;
+        }
+        for (int i = 0; i + shingleSize <= text.length(); i++) {
+            add(signature, mix(field * 0x9E3779B9 + text.substring(i, i + shingleSize).hashCode()));
+        }
+    }
+    
+    private void add(int[] signature, int shingleHash) {
+        long x = shingleHash & 0xFFFFFFFFL;
+        for (int i = 0; i < numHashes; i++) {
+            int h = (int) ((hashA[i] * x + hashB[i]) % PRIME);
+            if (h < signature[i]) {
+                signature[i] = h;
+            }
+        }
+    }
+    
+    // MurmurHash3 fmix32 - String.hashCode의 편향을 줄여 MinHash 입력을 고르게 분포시킴
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+    
+    private static class Entry {
+        
+        private final String scope;
+        private final int[] signature;
+        private final Object value;
+        private final long createdAt;
+        
+        Entry(String scope, int[] signature, Object value, long createdAt) {
+            this.scope = scope;
+            this.signature = signature;
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package JOBKOREA.AI_Challenge.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 진행 중인 동일 요청 병합 (single-flight)
+ * 같은 키로 동시에 들어온 요청은 먼저 시작한 요청의 결과를 함께 기다리며,
+ * 업스트림 호출은 키당 한 번만 발생합니다. 완료된 결과는 보관하지 않습니다.
+ */
+@Component
+@Slf4j
+public class SingleFlight {
+    
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedCounter;
+    
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.coalescedCounter = Counter.builder("openai.singleflight.coalesced")
+                .description("진행 중인 동일 요청에 병합된 요청 수")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("openai.singleflight.inflight", Tags.empty(), inFlight);
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Callable<T> task) throws Exception {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        
+        if (existing != null) {
+            coalescedCounter.increment();
+            log.debug("진행 중인 동일 요청에 병합됨");
+            try {
+                return (T) existing.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception exception) {
+                    throw exception;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+        
+        try {
+            T result = task.call();
+            created.complete(result);
+            return result;
+        } catch (Throwable t) {
+            created.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+}
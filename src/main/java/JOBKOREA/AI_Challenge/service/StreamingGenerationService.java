@@ -0,0 +1,169 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.LearningPathResponseDto;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theokanning.openai.completion.chat.ChatCompletionChoice;
+import com.theokanning.openai.completion.chat.ChatCompletionChunk;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.disposables.Disposable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * chat-completion 스트리밍 API 기반 생성 서비스
+ * 응답 조각을 {@link IncrementalJsonParser}로 해석하여 질문/학습 단계가 완성되는 즉시 리스너로 전달하므로,
+ * 첫 항목을 받기까지의 시간이 전체 생성 시간이 아닌 항목 하나를 생성하는 시간 수준으로 줄어듭니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StreamingGenerationService {
+    
+    // 메트릭의 endpoint 태그 접두사 (예: stream.interview-questions)
+    static final String STREAM_PREFIX = "stream.";
+    
+    private final OpenAiService openAiService;
+    private final ObjectMapper objectMapper;
+    private final PromptTemplateRegistry promptTemplates;
+    private final TokenBudgeter tokenBudgeter;
+    private final OpenAIMetrics openAIMetrics;
+    private final UpstreamBulkheads bulkheads;
+    private final OpenAIRateLimiter rateLimiter;
+    private final ModelRouter modelRouter;
+    
+    // 토큰 수 추정에 사용하는 기본 모델 (실제 호출 모델은 ModelRouter가 선택)
+    @Value("${openai.api.model}")
+    private String model;
+    
+    @Value("${openai.api.max-tokens}")
+    private Integer maxTokens;
+    
+    /**
+     * 면접 질문 스트리밍 생성
+     * @return 구독 해제 시 OpenAI 스트림도 함께 취소됨
+     */
+    public Disposable streamInterviewQuestions(ResumeRequestDto resumeRequest,
+                                               GenerationStreamListener<InterviewQuestionsResponseDto.QuestionDto> listener) {
+        TokenBudgeter.TokenBudget budget = openAIMetrics.recordPromptBuild(STREAM_PREFIX + PromptTemplateRegistry.INTERVIEW_QUESTIONS,
+                () -> tokenBudgeter.plan(promptTemplates.interviewQuestions(), resumeRequest, model, maxTokens));
+        return stream(PromptTemplateRegistry.INTERVIEW_QUESTIONS, budget, "questions", StreamingGenerationService::toQuestion, listener);
+    }
+    
+    /**
+     * 학습 경로 스트리밍 생성
+     * @return 구독 해제 시 OpenAI 스트림도 함께 취소됨
+     */
+    public Disposable streamLearningPath(ResumeRequestDto resumeRequest,
+                                         GenerationStreamListener<LearningPathResponseDto.LearningStepDto> listener) {
+        TokenBudgeter.TokenBudget budget = openAIMetrics.recordPromptBuild(STREAM_PREFIX + PromptTemplateRegistry.LEARNING_PATH,
+                () -> tokenBudgeter.plan(promptTemplates.learningPath(), resumeRequest, model, maxTokens));
+        return stream(PromptTemplateRegistry.LEARNING_PATH, budget, "learningSteps", StreamingGenerationService::toLearningStep, listener);
+    }
+    
+    private <T> Disposable stream(String type, TokenBudgeter.TokenBudget budget, String itemsField,
+                                  Function<Map<String, String>, T> mapper,
+                                  GenerationStreamListener<T> listener) {
+        AtomicInteger itemCount = new AtomicInteger();
+        IncrementalJsonParser parser = new IncrementalJsonParser(objectMapper.getFactory(), new IncrementalJsonParser.Listener() {
+            @Override
+            public void onItem(String arrayField, Map<String, String> item) {
+                if (itemsField.equals(arrayField)) {
+                    itemCount.incrementAndGet();
+                    listener.onItem(mapper.apply(item));
+                }
+            }
+            
+            @Override
+            public void onValue(String field, String value) {
+                listener.onField(field, value);
+            }
+        });
+        
+        // 이미 전달한 항목은 되돌릴 수 없으므로 스트림은 다른 모델로 넘기지 않고 첫 번째 경로만 사용
+        ModelRouter.ModelRoute route = modelRouter.route(type, budget.getPromptTokens()).get(0);
+        int routeMaxTokens = route.maxTokens(budget.getMaxTokens());
+        ChatCompletionRequest request = OpenAICompletionClient.buildRequest(route,
+                List.of(new ChatMessage("user", budget.getPrompt())), routeMaxTokens);
+        
+        String endpoint = STREAM_PREFIX + type;
+        // 스트림은 생성 시간 전체 동안 유지되므로 지연 시간으로 한도를 늘리지 않고, 실패 신호만 반영
+        int tokenCost = budget.getPromptTokens() + routeMaxTokens;
+        rateLimiter.acquire(tokenCost);
+        AdaptiveConcurrencyLimiter.Permit permit;
+        try {
+            permit = bulkheads.acquire(type);
+        } catch (ServiceOverloadedException e) {
+            // 격벽에서 거절되어 OpenAI에 보내지 않은 요청은 RPM/TPM 예약을 되돌림
+            rateLimiter.refund(tokenCost);
+            throw e;
+        }
+        AtomicReference<String> failure = new AtomicReference<>();
+        Timer.Sample sample = openAIMetrics.startCall();
+        // 정상 종료와 오류는 doOnTerminate, 클라이언트 연결 종료로 인한 구독 해제는 doOnCancel에서 반환 (Permit은 한 번만 반영됨)
+        return openAiService.streamChatCompletion(request)
+                .doOnError(error -> failure.set(OpenAIMetrics.outcome(error)))
+                .doOnTerminate(() -> UpstreamBulkheads.release(permit, failure.get()))
+                .doOnCancel(() -> UpstreamBulkheads.release(permit, null))
+                .subscribe(
+                        chunk -> parser.feed(content(chunk)),
+                        error -> {
+                            // 응답 조각 처리(파싱/전달) 중 발생한 오류는 doOnError를 거치지 않고 구독 해제로 끝나므로 여기서 결과를 정함
+                            String outcome = failure.get() != null ? failure.get()
+                                    : error instanceof JsonProcessingException ? OpenAIMetrics.PARSE_FAILURE : OpenAIMetrics.outcome(error);
+                            openAIMetrics.recordCall(sample, endpoint, route.getModel(), outcome);
+                            log.error("OpenAI 스트리밍 응답 처리 중 오류 발생: {}", error.getMessage(), error);
+                            listener.onError(error);
+                        },
+                        () -> {
+                            parser.endOfInput();
+                            openAIMetrics.recordCall(sample, endpoint, route.getModel(),
+                                    parser.isComplete() ? OpenAIMetrics.SUCCESS : OpenAIMetrics.PARSE_FAILURE);
+                            if (!parser.isComplete()) {
+                                log.warn("OpenAI 스트리밍 응답이 완전하지 않음 - {}개 항목까지 전달됨", itemCount.get());
+                            }
+                            listener.onComplete(parser.isComplete());
+                        });
+    }
+    
+    static String content(ChatCompletionChunk chunk) {
+        if (chunk.getChoices() == null || chunk.getChoices().isEmpty()) {
+            return null;
+        }
+        ChatCompletionChoice choice = chunk.getChoices().get(0);
+        return choice.getMessage() != null ? choice.getMessage().getContent() : null;
+    }
+    
+    static InterviewQuestionsResponseDto.QuestionDto toQuestion(Map<String, String> item) {
+        return InterviewQuestionsResponseDto.QuestionDto.builder()
+                .question(item.getOrDefault("question", GenerationResponseParser.MISSING_VALUE))
+                .category(item.getOrDefault("category", GenerationResponseParser.MISSING_VALUE))
+                .difficulty(item.getOrDefault("difficulty", GenerationResponseParser.MISSING_VALUE))
+                .expectedAnswer(item.getOrDefault("expectedAnswer", GenerationResponseParser.MISSING_VALUE))
+                .tips(item.getOrDefault("tips", GenerationResponseParser.MISSING_VALUE))
+                .build();
+    }
+    
+    static LearningPathResponseDto.LearningStepDto toLearningStep(Map<String, String> item) {
+        return LearningPathResponseDto.LearningStepDto.builder()
+                .step(item.getOrDefault("step", GenerationResponseParser.MISSING_VALUE))
+                .description(item.getOrDefault("description", GenerationResponseParser.MISSING_VALUE))
+                .priority(item.getOrDefault("priority", GenerationResponseParser.MISSING_VALUE))
+                .resources(item.getOrDefault("resources", GenerationResponseParser.MISSING_VALUE))
+                .build();
+    }
+}
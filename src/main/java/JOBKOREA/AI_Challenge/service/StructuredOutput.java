@@ -0,0 +1,187 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.LearningPathResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구조화 출력(function calling) 정의
+ * 응답 DTO 클래스에서 리플렉션으로 JSON Schema를 만들어 함수 파라미터로 보내고 그 함수를 반드시 호출하도록 지정합니다.
+ * 모델은 자유 텍스트 대신 function_call.arguments에 스키마에 맞춘 JSON을 담아 응답하므로 DTO에 바로 바인딩할 수 있습니다.
+ * openai.structured-output.mode가 text이면 함수를 보내지 않고 기존 자유 텍스트 프롬프트만 사용합니다.
+ */
+@Component
+@Slf4j
+public class StructuredOutput {
+    
+    private final OutputMode mode;
+    private final Map<String, OutputFunction> functions;
+    
+    public StructuredOutput(ObjectMapper objectMapper,
+                            @Value("${openai.structured-output.mode:text}") String mode) {
+        this.mode = OutputMode.from(mode);
+        
+        Map<String, Object> comprehensiveProperties = new LinkedHashMap<>();
+        comprehensiveProperties.put(ComprehensiveService.INTERVIEW_QUESTIONS, schema(InterviewQuestionsResponseDto.class));
+        comprehensiveProperties.put(ComprehensiveService.LEARNING_PATH, schema(LearningPathResponseDto.class));
+        Map<String, Object> comprehensive = objectSchema(comprehensiveProperties);
+        this.functions = Map.of(
+                PromptTemplateRegistry.INTERVIEW_QUESTIONS, OutputFunction.of(objectMapper, "submit_interview_questions",
+                        "이력서에 맞춘 면접 질문 목록과 분석을 제출합니다.", schema(InterviewQuestionsResponseDto.class)),
+                PromptTemplateRegistry.LEARNING_PATH, OutputFunction.of(objectMapper, "submit_learning_path",
+                        "이력서에 맞춘 학습 단계 목록과 요약, 예상 소요 기간을 제출합니다.", schema(LearningPathResponseDto.class)),
+                PromptTemplateRegistry.COMPREHENSIVE, OutputFunction.of(objectMapper, "submit_comprehensive_analysis",
+                        "면접 질문과 학습 경로를 함께 제출합니다.", comprehensive));
+        log.info("구조화 출력 모드: {}", this.mode.tag());
+    }
+    
+    public OutputMode mode() {
+        return mode;
+    }
+    
+    /**
+     * 생성 유형에 사용할 함수 정의. text 모드이면 null
+     * @param endpoint PromptTemplateRegistry의 템플릿 이름
+     */
+    public OutputFunction function(String endpoint) {
+        return mode == OutputMode.FUNCTION ? functions.get(endpoint) : null;
+    }
+    
+    /**
+     * DTO 클래스의 필드로 JSON Schema 생성 - 모든 필드를 필수로, 정의되지 않은 필드는 허용하지 않음
+     */
+    static Map<String, Object> schema(Class<?> type) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        for (Field field : type.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                continue;
+            }
+            properties.put(field.getName(), schema(field.getGenericType()));
+        }
+        return objectSchema(properties);
+    }
+    
+    private static Map<String, Object> schema(Type type) {
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> raw) {
+            if (List.class.isAssignableFrom(raw)) {
+                return Map.of("type", "array", "items", schema(parameterized.getActualTypeArguments()[0]));
+            }
+            if (Map.class.isAssignableFrom(raw)) {
+                return Map.of("type", "object", "additionalProperties", schema(parameterized.getActualTypeArguments()[1]));
+            }
+            return schema(raw);
+        }
+        if (!(type instanceof Class<?> clazz)) {
+            throw new IllegalStateException("JSON Schema로 변환할 수 없는 필드 타입입니다: " + type);
+        }
+        if (clazz == String.class || clazz.isEnum()) {
+            return Map.of("type", "string");
+        }
+        if (clazz == boolean.class || clazz == Boolean.class) {
+            return Map.of("type", "boolean");
+        }
+        if (clazz == int.class || clazz == Integer.class || clazz == long.class || clazz == Long.class) {
+            return Map.of("type", "integer");
+        }
+        if (clazz == double.class || clazz == Double.class || clazz == float.class || clazz == Float.class) {
+            return Map.of("type", "number");
+        }
+        return schema(clazz);
+    }
+    
+    private static Map<String, Object> objectSchema(Map<String, Object> properties) {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("type", "object");
+        schema.put("properties", properties);
+        schema.put("required", new ArrayList<>(properties.keySet()));
+        schema.put("additionalProperties", false);
+        return schema;
+    }
+    
+    /**
+     * 모델에 보낼 함수 하나의 정의
+     */
+    public static class OutputFunction {
+        
+        private final String name;
+        private final Map<String, Object> definition;
+        private final int promptTokens;
+        
+        OutputFunction(String name, Map<String, Object> definition, int promptTokens) {
+            this.name = name;
+            this.definition = definition;
+            this.promptTokens = promptTokens;
+        }
+        
+        static OutputFunction of(ObjectMapper objectMapper, String name, String description, Map<String, Object> parameters) {
+            Map<String, Object> definition = new LinkedHashMap<>();
+            definition.put("name", name);
+            definition.put("description", description);
+            definition.put("parameters", parameters);
+            try {
+                // 함수 정의도 프롬프트 토큰으로 차감되므로 직렬화한 길이로 대략 추정 (영문/기호 위주라 4자당 1토큰)
+                int promptTokens = objectMapper.writeValueAsString(definition).length() / 4;
+                return new OutputFunction(name, definition, promptTokens);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("함수 정의를 직렬화할 수 없습니다: " + name, e);
+            }
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public Map<String, Object> getDefinition() {
+            return definition;
+        }
+        
+        public int getPromptTokens() {
+            return promptTokens;
+        }
+        
+        /**
+         * 모델이 텍스트 대신 이 함수를 호출하도록 강제
+         */
+        public ChatCompletionRequest.ChatCompletionRequestFunctionCall call() {
+            return ChatCompletionRequest.ChatCompletionRequestFunctionCall.of(name);
+        }
+    }
+    
+    /**
+     * 응답 형식 - text(자유 텍스트 JSON), function(함수 호출 인자)
+     */
+    public enum OutputMode {
+        TEXT,
+        FUNCTION;
+        
+        public static OutputMode from(String value) {
+            if (value == null || value.isBlank()) {
+                return TEXT;
+            }
+            try {
+                return OutputMode.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 구조화 출력 모드입니다: " + value + " (text, function)", e);
+            }
+        }
+        
+        public String tag() {
+            return name().toLowerCase();
+        }
+    }
+}
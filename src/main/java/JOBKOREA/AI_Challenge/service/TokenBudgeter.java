@@ -0,0 +1,245 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingRegistry;
+import com.knuddels.jtokkit.api.EncodingType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * OpenAI 호출 전 토큰 예산 산정
+ * 로컬 토크나이저(jtokkit)로 프롬프트 토큰 수를 측정하고, 입력을 압축(공백 정리, 중복 기술 제거, 상투 문구 제거)한 뒤
+ * 그래도 예산을 넘으면 덜 중요한 필드부터 잘라냅니다. maxTokens는 요청 종류별 예상 출력 길이와
+ * 모델 컨텍스트 창에서 남은 토큰 중 작은 값으로 정합니다.
+ */
+@Component
+@Slf4j
+public class TokenBudgeter {
+    
+    // chat 형식의 메시지 하나에 붙는 역할/구분자 토큰
+    private static final int MESSAGE_OVERHEAD_TOKENS = 7;
+    private static final int MIN_FIELD_CHARS = 50;
+    private static final int MAX_TRIM_ROUNDS = 3;
+    
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // '/'는 CI/CD, TCP/IP, PL/SQL처럼 기술명 안에도 쓰이므로 양쪽에 공백이 있을 때만 구분자로 취급
+    private static final Pattern SKILL_SEPARATOR = Pattern.compile("\\s*[,·|\\n]\\s*|\\s+/\\s+");
+    private static final Pattern BOILERPLATE = Pattern.compile(
+            "(안녕하세요[.!]?|잘 부탁드립니다[.!]?|감사합니다[.!]?|열심히 하겠습니다[.!]?)");
+    
+    private final EncodingRegistry encodingRegistry = Encodings.newLazyEncodingRegistry();
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int contextWindow;
+    private final int maxPromptTokens;
+    private final int interviewQuestionsOutputTokens;
+    private final int learningPathOutputTokens;
+    private final int comprehensiveOutputTokens;
+    
+    public TokenBudgeter(
+            MeterRegistry meterRegistry,
+            @Value("${openai.token-budget.enabled:true}") boolean enabled,
+            @Value("${openai.token-budget.context-window:16385}") int contextWindow,
+            @Value("${openai.token-budget.max-prompt-tokens:2500}") int maxPromptTokens,
+            @Value("${openai.token-budget.interview-questions-output-tokens:2600}") int interviewQuestionsOutputTokens,
+            @Value("${openai.token-budget.learning-path-output-tokens:2200}") int learningPathOutputTokens,
+            @Value("${openai.token-budget.comprehensive-output-tokens:4800}") int comprehensiveOutputTokens) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.contextWindow = contextWindow;
+        this.maxPromptTokens = maxPromptTokens;
+        this.interviewQuestionsOutputTokens = interviewQuestionsOutputTokens;
+        this.learningPathOutputTokens = learningPathOutputTokens;
+        this.comprehensiveOutputTokens = comprehensiveOutputTokens;
+    }
+    
+    /**
+     * 프롬프트를 만들고 토큰 예산을 산정
+     * @param configuredMaxTokens openai.api.max-tokens 등 호출 측의 최대 출력 토큰 상한
+     */
+    public TokenBudget plan(PromptTemplate template, ResumeRequestDto resumeRequest, String model, int configuredMaxTokens) {
+        if (!enabled) {
+            String prompt = template.render(resumeRequest);
+            return new TokenBudget(prompt, countTokens(model, prompt), configuredMaxTokens);
+        }
+        
+        Encoding encoding = encoding(model);
+        int originalTokens = countTokens(encoding, template.render(resumeRequest));
+        
+        ResumeRequestDto compacted = compact(resumeRequest);
+        String prompt = template.render(compacted);
+        int promptTokens = countTokens(encoding, prompt);
+        
+        // 압축 후에도 예산을 넘으면 덜 중요한 필드부터 비율에 맞춰 잘라냄
+        for (int round = 0; round < MAX_TRIM_ROUNDS && promptTokens > maxPromptTokens; round++) {
+            compacted = trim(compacted, encoding, promptTokens - maxPromptTokens);
+            prompt = template.render(compacted);
+            promptTokens = countTokens(encoding, prompt);
+        }
+        
+        int expectedOutputTokens = switch (template.getName()) {
+            case PromptTemplateRegistry.LEARNING_PATH -> learningPathOutputTokens;
+            case PromptTemplateRegistry.COMPREHENSIVE -> comprehensiveOutputTokens;
+            default -> interviewQuestionsOutputTokens;
+        };
+        int maxTokens = Math.max(1, Math.min(Math.min(configuredMaxTokens, expectedOutputTokens), contextWindow - promptTokens));
+        
+        record(template.getName(), originalTokens, promptTokens, maxTokens);
+        log.debug("토큰 예산 ({}) - 프롬프트 {} -> {} 토큰, maxTokens {}", template.getId(), originalTokens, promptTokens, maxTokens);
+        
+        return new TokenBudget(prompt, promptTokens, maxTokens);
+    }
+    
+    public int countTokens(String model, String text) {
+        return countTokens(encoding(model), text);
+    }
+    
+    /**
+     * 의미를 바꾸지 않는 범위에서 입력을 압축
+     */
+    ResumeRequestDto compact(ResumeRequestDto resumeRequest) {
+        return ResumeRequestDto.builder()
+                .careerSummary(compactText(resumeRequest.getCareerSummary()))
+                .jobDescription(compactText(resumeRequest.getJobDescription()))
+                .technicalSkills(compactSkills(resumeRequest.getTechnicalSkills()))
+                .additionalInfo(compactOptionalText(resumeRequest.getAdditionalInfo()))
+                .build();
+    }
+    
+    private static String compactOptionalText(String value) {
+        String compacted = compactText(value);
+        return compacted.isEmpty() ? null : compacted;
+    }
+    
+    private static String compactText(String value) {
+        if (value == null) {
+            return "";
+        }
+        String withoutBoilerplate = BOILERPLATE.matcher(value).replaceAll(" ");
+        return WHITESPACE.matcher(withoutBoilerplate).replaceAll(" ").trim();
+    }
+    
+    /**
+     * 기술 목록의 중복을 대소문자 구분 없이 제거 (입력 순서 유지)
+     */
+    private static String compactSkills(String value) {
+        if (value == null) {
+            return "";
+        }
+        Set<String> seen = new LinkedHashSet<>();
+        StringBuilder skills = new StringBuilder(value.length());
+        for (String skill : SKILL_SEPARATOR.split(value.trim())) {
+            String normalized = WHITESPACE.matcher(skill).replaceAll(" ").trim();
+            if (!normalized.isEmpty() && seen.add(normalized.toLowerCase(Locale.ROOT))) {
+                if (!skills.isEmpty()) {
+                    skills.append(", ");
+                }
+                skills.append(normalized);
+            }
+        }
+        return skills.toString();
+    }
+    
+    /**
+     * 초과 토큰만큼 추가 정보 -> 수행 직무 -> 경력 요약 -> 기술 스킬 순으로 잘라냄
+     */
+    private ResumeRequestDto trim(ResumeRequestDto resumeRequest, Encoding encoding, int excessTokens) {
+        String additionalInfo = resumeRequest.getAdditionalInfo();
+        String jobDescription = resumeRequest.getJobDescription();
+        String careerSummary = resumeRequest.getCareerSummary();
+        String technicalSkills = resumeRequest.getTechnicalSkills();
+        
+        int remaining = excessTokens;
+        int[] cut = new int[1];
+        
+        additionalInfo = trimField(additionalInfo, encoding, remaining, cut);
+        remaining -= cut[0];
+        if (remaining > 0) {
+            jobDescription = trimField(jobDescription, encoding, remaining, cut);
+            remaining -= cut[0];
+        }
+        if (remaining > 0) {
+            careerSummary = trimField(careerSummary, encoding, remaining, cut);
+            remaining -= cut[0];
+        }
+        if (remaining > 0) {
+            technicalSkills = trimField(technicalSkills, encoding, remaining, cut);
+        }
+        
+        return ResumeRequestDto.builder()
+                .careerSummary(careerSummary)
+                .jobDescription(jobDescription)
+                .technicalSkills(technicalSkills)
+                .additionalInfo(additionalInfo)
+                .build();
+    }
+    
+    private static String trimField(String value, Encoding encoding, int excessTokens, int[] cutTokens) {
+        cutTokens[0] = 0;
+        if (value == null || value.length() <= MIN_FIELD_CHARS) {
+            return value;
+        }
+        int tokens = encoding.countTokens(value);
+        int keepTokens = Math.max(tokens - excessTokens, 0);
+        int keepChars = Math.max(MIN_FIELD_CHARS, (int) ((long) value.length() * keepTokens / Math.max(tokens, 1)));
+        if (keepChars >= value.length()) {
+            return value;
+        }
+        String trimmed = value.substring(0, keepChars);
+        cutTokens[0] = tokens - encoding.countTokens(trimmed);
+        return trimmed;
+    }
+    
+    private Encoding encoding(String model) {
+        return encodingRegistry.getEncodingForModel(model)
+                .orElseGet(() -> encodingRegistry.getEncoding(EncodingType.CL100K_BASE));
+    }
+    
+    private static int countTokens(Encoding encoding, String text) {
+        return encoding.countTokens(text) + MESSAGE_OVERHEAD_TOKENS;
+    }
+    
+    private void record(String endpoint, int originalTokens, int promptTokens, int maxTokens) {
+        DistributionSummary.builder("openai.prompt.tokens.estimated")
+                .description("로컬 토크나이저로 추정한 프롬프트 토큰 수 (압축 후)")
+                .baseUnit("tokens")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(promptTokens);
+        DistributionSummary.builder("openai.prompt.tokens.saved")
+                .description("입력 압축/자르기로 줄인 프롬프트 토큰 수")
+                .baseUnit("tokens")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(Math.max(0, originalTokens - promptTokens));
+        DistributionSummary.builder("openai.completion.max-tokens")
+                .description("요청에 지정한 maxTokens")
+                .baseUnit("tokens")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(maxTokens);
+    }
+    
+    /**
+     * 토큰 예산 산정 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class TokenBudget {
+        private final String prompt;
+        private final int promptTokens;
+        private final int maxTokens;
+    }
+}
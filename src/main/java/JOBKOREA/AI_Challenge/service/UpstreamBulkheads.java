@@ -0,0 +1,60 @@
+package JOBKOREA.AI_Challenge.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 생성 유형별 OpenAI 호출 격벽(bulkhead)
+ * 면접 질문과 학습 경로가 각자의 동시 실행 한도를 가지므로, 한쪽 호출이 느려져도
+ * 다른 쪽과 헬스 체크 등 나머지 요청 스레드까지 막히지 않습니다.
+ * 두 항목을 한 번에 생성하는 통합 분석 단일 호출은 응답이 길어 지연 특성이 다르므로 별도 격벽을 사용합니다.
+ */
+@Component
+public class UpstreamBulkheads {
+    
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimiter interviewQuestions;
+    private final AdaptiveConcurrencyLimiter learningPath;
+    private final AdaptiveConcurrencyLimiter comprehensive;
+    
+    public UpstreamBulkheads(
+            MeterRegistry meterRegistry,
+            @Value("${openai.concurrency.enabled:true}") boolean enabled,
+            @Value("${openai.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${openai.concurrency.min-limit:2}") int minLimit,
+            @Value("${openai.concurrency.max-limit:100}") int maxLimit,
+            @Value("${openai.concurrency.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${openai.concurrency.latency-threshold-seconds:60}") long latencyThresholdSeconds,
+            @Value("${openai.concurrency.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.enabled = enabled;
+        this.interviewQuestions = new AdaptiveConcurrencyLimiter(PromptTemplateRegistry.INTERVIEW_QUESTIONS,
+                initialLimit, minLimit, maxLimit, backoffRatio, latencyThresholdSeconds, retryAfterSeconds, meterRegistry);
+        this.learningPath = new AdaptiveConcurrencyLimiter(PromptTemplateRegistry.LEARNING_PATH,
+                initialLimit, minLimit, maxLimit, backoffRatio, latencyThresholdSeconds, retryAfterSeconds, meterRegistry);
+        this.comprehensive = new AdaptiveConcurrencyLimiter(PromptTemplateRegistry.COMPREHENSIVE,
+                initialLimit, minLimit, maxLimit, backoffRatio, latencyThresholdSeconds, retryAfterSeconds, meterRegistry);
+    }
+    
+    /**
+     * 생성 유형의 실행 권한 획득. 비활성화 상태에서는 제한 없이 통과
+     * @param type PromptTemplateRegistry의 템플릿 이름
+     */
+    public AdaptiveConcurrencyLimiter.Permit acquire(String type) {
+        if (!enabled) {
+            return null;
+        }
+        return switch (type) {
+            case PromptTemplateRegistry.INTERVIEW_QUESTIONS -> interviewQuestions.acquire();
+            case PromptTemplateRegistry.LEARNING_PATH -> learningPath.acquire();
+            case PromptTemplateRegistry.COMPREHENSIVE -> comprehensive.acquire();
+            default -> throw new IllegalArgumentException("알 수 없는 생성 유형: " + type);
+        };
+    }
+    
+    public static void release(AdaptiveConcurrencyLimiter.Permit permit, String outcome) {
+        if (permit != null) {
+            permit.release(outcome);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package JOBKOREA.AI_Challenge;
+
+import JOBKOREA.AI_Challenge.controller.AIChallengeController;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.exception.GlobalExceptionHandler;
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import JOBKOREA.AI_Challenge.service.ComprehensiveService;
+import JOBKOREA.AI_Challenge.service.OpenAIService;
+import JOBKOREA.AI_Challenge.service.StreamingGenerationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.disposables.Disposables;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("스트리밍 API 과부하 응답 테스트")
+class AIChallengeControllerStreamTest {
+    
+    private final StreamingGenerationService streamingService = Mockito.mock(StreamingGenerationService.class);
+    private MockMvc mockMvc;
+    private String body;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        AIChallengeController controller = new AIChallengeController(Mockito.mock(OpenAIService.class),
+                Mockito.mock(ComprehensiveService.class), streamingService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        body = new ObjectMapper().writeValueAsString(ResumeRequestDto.builder()
+                .careerSummary("3년차 백엔드 개발자")
+                .jobDescription("커머스 서비스 개발")
+                .technicalSkills("Java, Spring Boot")
+                .build());
+    }
+    
+    @Test
+    @DisplayName("격벽에서 거절된 면접 질문 스트리밍 요청은 503과 Retry-After로 응답한다")
+    void streamInterviewQuestions_Overloaded_Returns503WithRetryAfter() throws Exception {
+        // Given
+        Mockito.when(streamingService.streamInterviewQuestions(Mockito.any(), Mockito.any()))
+                .thenThrow(new ServiceOverloadedException("interview-questions", 5));
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/ai-challenge/interview-questions/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content(body))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"))
+                .andExpect(request().asyncNotStarted());
+    }
+    
+    @Test
+    @DisplayName("호출량 한도에서 거절된 학습 경로 스트리밍 요청은 503과 Retry-After로 응답한다")
+    void streamLearningPath_RateLimited_Returns503WithRetryAfter() throws Exception {
+        // Given
+        Mockito.when(streamingService.streamLearningPath(Mockito.any(), Mockito.any()))
+                .thenThrow(new ServiceOverloadedException("rate-limit-tokens", 12));
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/ai-challenge/learning-path/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content(body))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "12"));
+    }
+    
+    @Test
+    @DisplayName("한도 안의 스트리밍 요청은 SSE 응답을 시작한다")
+    void streamInterviewQuestions_Accepted_StartsEventStream() throws Exception {
+        // Given
+        Mockito.when(streamingService.streamInterviewQuestions(Mockito.any(), Mockito.any()))
+                .thenReturn(Disposables.empty());
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/ai-challenge/interview-questions/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+}
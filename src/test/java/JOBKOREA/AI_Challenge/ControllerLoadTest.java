@@ -0,0 +1,115 @@
+package JOBKOREA.AI_Challenge;
+
+import JOBKOREA.AI_Challenge.support.FakeOpenAIServer;
+import JOBKOREA.AI_Challenge.support.OpenLoopLoadGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 세 생성 API(면접 질문, 학습 경로, 통합 분석)에 고정 도착률로 요청을 보내 처리량과 응답 지연 백분위를 측정하는 용량 산정용 부하 테스트 (./gradlew loadTest)
+ * 대역 서버는 꼬리가 긴 로그정규 지연으로 응답하고 429, 5xx, 잘린 응답을 일정 비율로 섞습니다.
+ * 도착률, 실행 시간, 지연 분포, 오류 비율은 -Dload.* 시스템 속성으로 바꿀 수 있습니다.
+ * 예) ./gradlew loadTest --tests '*ControllerLoadTest' -Dload.rate=50 -Dload.duration-seconds=120
+ */
+@Tag("load")
+@DisplayName("생성 API 고정 도착률 부하 테스트")
+class ControllerLoadTest {
+    
+    private static final double RATE = doubleProperty("load.rate", 10);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 30));
+    private static final Duration LATENCY_MEDIAN = Duration.ofMillis(Long.getLong("load.latency-median-millis", 2_000));
+    private static final Duration LATENCY_P99 = Duration.ofMillis(Long.getLong("load.latency-p99-millis", 20_000));
+    private static final double RATE_LIMITED_RATIO = doubleProperty("load.rate-limited-ratio", 0.02);
+    private static final double SERVER_ERROR_RATIO = doubleProperty("load.server-error-ratio", 0.01);
+    private static final double TRUNCATED_RATIO = doubleProperty("load.truncated-ratio", 0.03);
+    
+    private static final List<String> ENDPOINTS = List.of(
+            "/api/v1/ai-challenge/interview-questions",
+            "/api/v1/ai-challenge/learning-path",
+            "/api/v1/ai-challenge/comprehensive");
+    
+    @Test
+    @DisplayName("세 생성 API에 고정 도착률로 요청을 보내고 처리량과 지연 백분위를 출력한다")
+    void measureThroughputAndLatency() throws Exception {
+        try (FakeOpenAIServer upstream = FakeOpenAIServer.builder()
+                     .latency(FakeOpenAIServer.LatencyProfile.logNormal(LATENCY_MEDIAN, LATENCY_P99)
+                             .cappedAt(Duration.ofSeconds(100)))
+                     .inject(FakeOpenAIServer.Behavior.RATE_LIMITED, RATE_LIMITED_RATIO)
+                     .inject(FakeOpenAIServer.Behavior.SERVER_ERROR, SERVER_ERROR_RATIO)
+                     .inject(FakeOpenAIServer.Behavior.TRUNCATED, TRUNCATED_RATIO)
+                     .start();
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(AiChallengeApplication.class)
+                     // 기본 속성(properties)은 application.yaml 값에 덮이므로 명령행 인자로 지정
+                     .run(
+                             "--server.port=0",
+                             "--openai.api.key=load-test",
+                             "--openai.api.base-url=" + upstream.baseUrl(),
+                             "--openai.cache.enabled=false",
+                             "--openai.rate-limit.enabled=false",
+                             "--logging.level.JOBKOREA.AI_Challenge=WARN",
+                             "--logging.level.org.springframework.web=WARN");
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .build();
+            
+            // 엔드포인트마다 별도 스레드에서 같은 도착률로 동시에 실행
+            List<CompletableFuture<OpenLoopLoadGenerator.Report>> runs = ENDPOINTS.stream()
+                    .map(path -> CompletableFuture.supplyAsync(() -> OpenLoopLoadGenerator.run(
+                            client, path.substring(path.lastIndexOf('/') + 1), RATE, DURATION,
+                            index -> request(port, path, index)), clientExecutor))
+                    .toList();
+            List<OpenLoopLoadGenerator.Report> reports = runs.stream().map(CompletableFuture::join).toList();
+            
+            System.out.println("=== 생성 API 부하 테스트 (엔드포인트별 " + RATE + " req/s, " + DURATION.toSeconds()
+                    + "초, 업스트림 지연 중앙값/p99 " + LATENCY_MEDIAN.toMillis() + "/" + LATENCY_P99.toMillis() + "ms) ===");
+            reports.forEach(System.out::println);
+            System.out.printf("[upstream] 요청: %d, 최대 동시 요청: %d, 429: %d, 5xx: %d, 잘린 응답: %d, 토큰(prompt/completion): %d/%d%n",
+                    upstream.requestCount(), upstream.peakInFlight(),
+                    upstream.count(FakeOpenAIServer.Behavior.RATE_LIMITED),
+                    upstream.count(FakeOpenAIServer.Behavior.SERVER_ERROR),
+                    upstream.count(FakeOpenAIServer.Behavior.TRUNCATED),
+                    upstream.promptTokens(), upstream.completionTokens());
+            System.out.println("=====================================");
+            
+            for (OpenLoopLoadGenerator.Report report : reports) {
+                Assertions.assertEquals(0L, report.statusCounts().getOrDefault(OpenLoopLoadGenerator.NO_RESPONSE, 0L),
+                        report.name() + "에서 응답을 받지 못한 요청이 있습니다");
+                Assertions.assertTrue(report.succeeded() > 0, report.name() + "에서 성공한 요청이 없습니다");
+            }
+        }
+    }
+    
+    private static HttpRequest request(int port, String path, int index) {
+        // 요청마다 내용을 다르게 하여 캐시와 동일 요청 병합이 개입하지 않도록 함
+        String body = """
+            {"careerSummary": "%d년차 백엔드 개발자 #%d", "jobDescription": "Spring Boot 기반 커머스 서비스 개발", "technicalSkills": "Java, Spring Boot, AWS"}
+            """.formatted(index % 10 + 1, index);
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofMinutes(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+    
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}
@@ -0,0 +1,123 @@
+package JOBKOREA.AI_Challenge;
+
+import JOBKOREA.AI_Challenge.controller.AIChallengeController;
+import JOBKOREA.AI_Challenge.support.FakeOpenAIServer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 실제 OpenAI API 대신 대역 서버에 연결하여 업스트림 오류와 이상 응답을 재현하는 통합 테스트
+ * 429/5xx 재시도와 잘린 응답 이어쓰기가 컨트롤러 응답까지 이어지는지 확인합니다.
+ */
+@DisplayName("OpenAI 대역 서버 통합 테스트")
+class FakeUpstreamIntegrationTest {
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    
+    private static FakeOpenAIServer upstream;
+    private static ConfigurableApplicationContext context;
+    private static HttpClient client;
+    private static int port;
+    
+    @BeforeAll
+    static void startServers() throws Exception {
+        upstream = FakeOpenAIServer.builder()
+                .latency(FakeOpenAIServer.LatencyProfile.fixed(Duration.ofMillis(20)))
+                .retryAfter(Duration.ofMillis(50))
+                .start();
+        context = new SpringApplicationBuilder(AiChallengeApplication.class)
+                // 기본 속성(properties)은 application.yaml 값에 덮이므로 명령행 인자로 지정
+                .run(
+                        "--server.port=0",
+                        "--openai.api.key=fake-upstream-test",
+                        "--openai.api.base-url=" + upstream.baseUrl(),
+                        "--openai.cache.enabled=false",
+                        "--openai.retry.initial-backoff-millis=10",
+                        "--openai.retry.max-backoff-millis=50",
+                        "--logging.level.JOBKOREA.AI_Challenge=WARN");
+        port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        client = HttpClient.newHttpClient();
+    }
+    
+    @AfterAll
+    static void stopServers() {
+        context.close();
+        upstream.close();
+    }
+    
+    @Test
+    @DisplayName("429 응답은 Retry-After 이후 재시도하여 면접 질문을 반환한다")
+    void interviewQuestions_RateLimited_Retries() throws Exception {
+        // Given
+        int before = upstream.requestCount();
+        upstream.enqueue(FakeOpenAIServer.Behavior.RATE_LIMITED);
+        
+        // When
+        HttpResponse<String> response = post("/api/v1/ai-challenge/interview-questions");
+        
+        // Then
+        Assertions.assertEquals(200, response.statusCode(), response.body());
+        Assertions.assertEquals(2, MAPPER.readTree(response.body()).path("questions").size());
+        Assertions.assertEquals(2, upstream.requestCount() - before);
+    }
+    
+    @Test
+    @DisplayName("잘린 JSON 응답은 이어쓰기 호출로 완성하여 학습 경로를 반환한다")
+    void learningPath_Truncated_Continues() throws Exception {
+        // Given
+        int before = upstream.requestCount();
+        upstream.enqueue(FakeOpenAIServer.Behavior.TRUNCATED);
+        
+        // When
+        HttpResponse<String> response = post("/api/v1/ai-challenge/learning-path");
+        
+        // Then
+        Assertions.assertEquals(200, response.statusCode(), response.body());
+        JsonNode body = MAPPER.readTree(response.body());
+        Assertions.assertEquals(2, body.path("learningSteps").size());
+        Assertions.assertEquals("3-6개월", body.path("estimatedDuration").asText());
+        Assertions.assertEquals(2, upstream.requestCount() - before);
+    }
+    
+    @Test
+    @DisplayName("5xx 응답이 재시도 횟수만큼 이어지면 5xx로 응답한다")
+    void interviewQuestions_ServerErrors_Fails() throws Exception {
+        // Given
+        upstream.enqueue(FakeOpenAIServer.Behavior.SERVER_ERROR,
+                FakeOpenAIServer.Behavior.SERVER_ERROR,
+                FakeOpenAIServer.Behavior.SERVER_ERROR);
+        
+        // When
+        HttpResponse<String> response = post("/api/v1/ai-challenge/interview-questions");
+        
+        // Then
+        Assertions.assertTrue(response.statusCode() >= 500, "실제: " + response.statusCode());
+        Assertions.assertTrue(upstream.count(FakeOpenAIServer.Behavior.SERVER_ERROR) >= 3);
+    }
+    
+    private static HttpResponse<String> post(String path) throws Exception {
+        String body = """
+            {"careerSummary": "3년차 백엔드 개발자", "jobDescription": "Spring Boot/MSA 기반 커머스 서비스 개발", "technicalSkills": "Java, Spring Boot, AWS"}
+            """;
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header(AIChallengeController.CACHE_BYPASS_HEADER, "true")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,133 @@
+package JOBKOREA.AI_Challenge;
+
+import JOBKOREA.AI_Challenge.support.FakeOpenAIServer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서블릿 스택(/api/v1, Tomcat)과 리액티브 스택(/api/v2, Netty + WebClient)에
+ * 동시 연결 2,000개를 한 번에 열고 처리량과 응답 지연 백분위를 비교하는 부하 테스트 (./gradlew loadTest)
+ * 대역 서버가 고정 지연으로 응답하므로 대역 서버에서 관측한 최대 동시 요청 수가 곧 노드의 동시 처리 한도입니다.
+ * 동시 실행 제한과 요청 속도 제한은 꺼서 스택 자체의 한도만 비교합니다.
+ */
+@Tag("load")
+@DisplayName("서블릿/리액티브 스택 부하 테스트")
+class ReactiveStackLoadTest {
+    
+    private static final int CONCURRENT_CONNECTIONS = 2000;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofSeconds(3);
+    
+    @Test
+    @DisplayName("리액티브 스택이 서블릿 스택(플랫폼 스레드)보다 더 많은 동시 생성 요청을 유지한다")
+    void compareServletAndReactiveStacks() throws Exception {
+        LoadResult servlet = run("servlet", false, "/api/v1/ai-challenge/interview-questions");
+        LoadResult servletVirtual = run("servlet-virtual", true, "/api/v1/ai-challenge/interview-questions");
+        LoadResult reactive = run("reactive", false, "/api/v2/ai-challenge/interview-questions", "reactive");
+        
+        System.out.println("=== 스택별 부하 테스트 (동시 연결 " + CONCURRENT_CONNECTIONS + "개, 업스트림 지연 " + UPSTREAM_LATENCY.toMillis() + "ms) ===");
+        System.out.println(servlet);
+        System.out.println(servletVirtual);
+        System.out.println(reactive);
+        System.out.println("=====================================");
+        
+        Assertions.assertEquals(CONCURRENT_CONNECTIONS, reactive.succeeded(), "리액티브 스택에서 실패한 요청이 있습니다");
+        Assertions.assertTrue(reactive.peakInFlight() > servlet.peakInFlight(),
+                "리액티브 스택의 최대 동시 요청 수가 더 커야 합니다. 서블릿: " + servlet.peakInFlight() + ", 리액티브: " + reactive.peakInFlight());
+    }
+    
+    private LoadResult run(String name, boolean virtualThreads, String path, String... profiles) throws Exception {
+        try (FakeOpenAIServer upstream = FakeOpenAIServer.start(UPSTREAM_LATENCY);
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(AiChallengeApplication.class)
+                     .profiles(profiles)
+                     // 기본 속성(properties)은 application.yaml 값에 덮이므로 명령행 인자로 지정
+                     .run(
+                             "--server.port=0",
+                             "--openai.api.key=load-test",
+                             "--openai.api.base-url=" + upstream.baseUrl(),
+                             "--spring.threads.virtual.enabled=" + virtualThreads,
+                             "--openai.concurrency.enabled=false",
+                             "--openai.rate-limit.enabled=false",
+                             "--openai.cache.enabled=false",
+                             "--openai.http.reactive-max-connections=" + CONCURRENT_CONNECTIONS,
+                             "--openai.http.reactive-pending-acquire-max=" + CONCURRENT_CONNECTIONS,
+                             "--logging.level.JOBKOREA.AI_Challenge=WARN",
+                             "--logging.level.org.springframework.web=WARN");
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .build();
+            
+            Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_CONNECTIONS; i++) {
+                long sent = System.nanoTime();
+                responses.add(client.sendAsync(request(port, path, i), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, error) -> latencies.add(System.nanoTime() - sent)));
+            }
+            CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+                    .exceptionally(e -> null)
+                    .join();
+            long elapsedNanos = System.nanoTime() - start;
+            
+            long succeeded = responses.stream()
+                    .filter(f -> !f.isCompletedExceptionally() && f.join().statusCode() == 200)
+                    .count();
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            return new LoadResult(name, upstream.peakInFlight(), succeeded,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    succeeded * 1_000_000_000.0 / elapsedNanos,
+                    percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.95), percentileMillis(sorted, 0.99));
+        }
+    }
+    
+    private static long percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(0, index)]);
+    }
+    
+    private HttpRequest request(int port, String path, int index) {
+        // 요청마다 내용을 다르게 하여 캐시와 동일 요청 병합이 개입하지 않도록 함
+        String body = """
+            {"careerSummary": "%d년차 백엔드 개발자 #%d", "jobDescription": "Spring Boot 기반 커머스 서비스 개발", "technicalSkills": "Java, Spring Boot, AWS"}
+            """.formatted(index % 10 + 1, index);
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofMinutes(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+    
+    record LoadResult(String stack, int peakInFlight, long succeeded, long elapsedMillis, double throughput,
+                      long p50Millis, long p95Millis, long p99Millis) {
+        @Override
+        public String toString() {
+            return String.format("[%s] 최대 동시 업스트림 요청: %d, 성공: %d, 소요 시간: %dms, 처리량: %.1f req/s, 지연 p50/p95/p99: %d/%d/%dms",
+                    stack, peakInFlight, succeeded, elapsedMillis, throughput, p50Millis, p95Millis, p99Millis);
+        }
+    }
+}
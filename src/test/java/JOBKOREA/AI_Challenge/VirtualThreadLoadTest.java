@@ -0,0 +1,106 @@
+package JOBKOREA.AI_Challenge;
+
+import JOBKOREA.AI_Challenge.support.FakeOpenAIServer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드 모드에서 한 노드가 동시에 유지할 수 있는
+ * OpenAI 생성 요청 수를 비교하는 부하 테스트 (./gradlew loadTest)
+ * 대역 서버가 고정 지연으로 응답하므로 대역 서버에서 관측한 최대 동시 요청 수가 곧 노드의 동시 처리 한도입니다.
+ */
+@Tag("load")
+@DisplayName("가상 스레드 실행 모드 부하 테스트")
+class VirtualThreadLoadTest {
+    
+    private static final int CONCURRENT_REQUESTS = 1000;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofSeconds(3);
+    
+    @Test
+    @DisplayName("가상 스레드 모드가 플랫폼 스레드 모드보다 더 많은 동시 생성 요청을 유지한다")
+    void compareInFlightCapacity() throws Exception {
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+        
+        System.out.println("=== 동시 생성 요청 부하 테스트 (요청 " + CONCURRENT_REQUESTS + "개, 업스트림 지연 " + UPSTREAM_LATENCY.toMillis() + "ms) ===");
+        System.out.println(platform);
+        System.out.println(virtual);
+        System.out.println("=====================================");
+        
+        Assertions.assertTrue(virtual.peakInFlight() > platform.peakInFlight(),
+                "가상 스레드 모드의 최대 동시 요청 수가 더 커야 합니다. 플랫폼: " + platform.peakInFlight() + ", 가상: " + virtual.peakInFlight());
+    }
+    
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        try (FakeOpenAIServer upstream = FakeOpenAIServer.start(UPSTREAM_LATENCY);
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(AiChallengeApplication.class)
+                     // 기본 속성(properties)은 application.yaml 값에 덮이므로 명령행 인자로 지정
+                     .run(
+                             "--server.port=0",
+                             "--openai.api.key=load-test",
+                             "--openai.api.base-url=" + upstream.baseUrl(),
+                             "--spring.threads.virtual.enabled=" + virtualThreads,
+                             // 두 모드가 같은 동시 실행 한도와 RPM/TPM 한도에 걸리지 않도록 끄고 스레드 모델만 비교
+                             "--openai.concurrency.enabled=false",
+                             "--openai.rate-limit.enabled=false",
+                             "--logging.level.JOBKOREA.AI_Challenge=WARN",
+                             "--logging.level.org.springframework.web=WARN");
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .build();
+            
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                responses.add(client.sendAsync(request(port, i), HttpResponse.BodyHandlers.discarding()));
+            }
+            CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+                    .exceptionally(e -> null)
+                    .join();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            
+            long succeeded = responses.stream()
+                    .filter(f -> !f.isCompletedExceptionally() && f.join().statusCode() == 200)
+                    .count();
+            return new LoadResult(virtualThreads ? "virtual" : "platform", upstream.peakInFlight(), succeeded, elapsedMillis);
+        }
+    }
+    
+    private HttpRequest request(int port, int index) {
+        // 요청마다 내용을 다르게 하여 캐시와 동일 요청 병합이 개입하지 않도록 함
+        String body = """
+            {"careerSummary": "%d년차 백엔드 개발자 #%d", "jobDescription": "Spring Boot 기반 커머스 서비스 개발", "technicalSkills": "Java, Spring Boot, AWS"}
+            """.formatted(index % 10 + 1, index);
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/ai-challenge/interview-questions"))
+                .timeout(Duration.ofMinutes(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+    
+    record LoadResult(String mode, int peakInFlight, long succeeded, long elapsedMillis) {
+        @Override
+        public String toString() {
+            return String.format("[%s] 최대 동시 업스트림 요청: %d, 성공: %d, 소요 시간: %dms", mode, peakInFlight, succeeded, elapsedMillis);
+        }
+    }
+}
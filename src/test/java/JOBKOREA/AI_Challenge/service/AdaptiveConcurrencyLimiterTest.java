@@ -0,0 +1,71 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AIMD 동시 실행 제한기 테스트")
+class AdaptiveConcurrencyLimiterTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter("test", initialLimit, 1, 10, 0.5, 60, 3, meterRegistry);
+    }
+    
+    @Test
+    @DisplayName("한도까지 사용 중이면 대기 없이 Retry-After 정보와 함께 거절한다")
+    void acquire_LimitReached_RejectsImmediately() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+        limiter.acquire();
+        limiter.acquire();
+        
+        // When
+        ServiceOverloadedException exception =
+                Assertions.assertThrows(ServiceOverloadedException.class, limiter::acquire);
+        
+        // Then
+        Assertions.assertEquals("test", exception.getBulkhead());
+        Assertions.assertEquals(3, exception.getRetryAfterSeconds());
+        Assertions.assertEquals(1, meterRegistry.get("openai.concurrency.rejected").counter().count());
+    }
+    
+    @Test
+    @DisplayName("타임아웃이 발생하면 한도를 줄이고, 빠른 성공이 이어지면 다시 늘린다")
+    void release_AdjustsLimitByOutcome() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+        
+        // When
+        limiter.acquire().release(OpenAIMetrics.TIMEOUT);
+        int afterTimeout = limiter.getLimit();
+        AdaptiveConcurrencyLimiter.Permit first = limiter.acquire();
+        AdaptiveConcurrencyLimiter.Permit second = limiter.acquire();
+        first.release(OpenAIMetrics.SUCCESS);
+        second.release(OpenAIMetrics.SUCCESS);
+        
+        // Then
+        Assertions.assertEquals(2, afterTimeout);
+        Assertions.assertEquals(3, limiter.getLimit());
+        Assertions.assertEquals(0, limiter.getInFlight());
+    }
+    
+    @Test
+    @DisplayName("같은 권한을 여러 번 반환해도 한 번만 반영된다")
+    void release_Twice_ReleasesOnce() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire();
+        limiter.acquire();
+        
+        // When
+        permit.release(null);
+        permit.release(null);
+        
+        // Then
+        Assertions.assertEquals(1, limiter.getInFlight());
+    }
+}
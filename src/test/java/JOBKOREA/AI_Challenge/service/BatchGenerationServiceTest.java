@@ -0,0 +1,224 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.config.BoundedExecutorFactory;
+import JOBKOREA.AI_Challenge.dto.BatchItemResultDto;
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.exception.InvalidRequestException;
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("일괄 생성 테스트")
+class BatchGenerationServiceTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OpenAIService openAIService = Mockito.mock(OpenAIService.class);
+    private final OpenAICompletionClient completionClient = Mockito.mock(OpenAICompletionClient.class);
+    private final TokenBudgeter tokenBudgeter = Mockito.mock(TokenBudgeter.class);
+    private final PromptTemplateRegistry promptTemplates = Mockito.mock(PromptTemplateRegistry.class);
+    private final ResumeRequestDto first = resume("3년차 백엔드 개발자");
+    private final ResumeRequestDto second = resume("5년차 프론트엔드 개발자");
+    private final BatchGenerationService batchService = new BatchGenerationService(
+            openAIService, completionClient, new OpenAIBatchFile(), new GenerationResponseParser(objectMapper),
+            promptTemplates, tokenBudgeter, Validation.buildDefaultValidatorFactory().getValidator(),
+            new BoundedExecutorFactory(false), 2, 3, 4, 10, 60);
+    
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+    
+    @Test
+    @DisplayName("항목별 실패는 해당 항목의 결과로 전달되고 나머지 항목은 계속 처리된다")
+    void generate_PartialFailures_ReportedPerItem() throws Exception {
+        // Given
+        InterviewQuestionsResponseDto result = InterviewQuestionsResponseDto.builder()
+                .questions(List.of())
+                .analysis("분석")
+                .build();
+        Mockito.when(openAIService.generateInterviewQuestions(first, false)).thenReturn(result);
+        Mockito.when(openAIService.generateInterviewQuestions(second, false))
+                .thenThrow(new RuntimeException("면접 질문 생성 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요."));
+        ResumeRequestDto invalid = resume("");
+        CollectingListener listener = new CollectingListener();
+        
+        // When
+        batchService.generateInterviewQuestions(List.of(first, invalid, second), false, listener);
+        
+        // Then
+        Assertions.assertTrue(listener.completed.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, listener.succeeded);
+        Assertions.assertEquals(2, listener.failed);
+        
+        List<BatchItemResultDto> items = listener.sorted();
+        Assertions.assertTrue(items.get(0).isSuccess());
+        Assertions.assertSame(result, items.get(0).getResult());
+        Assertions.assertFalse(items.get(1).isSuccess());
+        Assertions.assertTrue(items.get(1).getErrors().containsKey("careerSummary"));
+        Assertions.assertFalse(items.get(2).isSuccess());
+        Assertions.assertTrue(items.get(2).getError().contains("면접 질문 생성"));
+    }
+    
+    @Test
+    @DisplayName("한도로 거절된 항목은 Retry-After만큼 기다린 뒤 다시 생성한다")
+    void generate_OverloadedOnce_RetriesItem() throws Exception {
+        // Given - 첫 호출은 호출량 한도로 거절, 두 번째 호출은 성공
+        InterviewQuestionsResponseDto result = InterviewQuestionsResponseDto.builder()
+                .questions(List.of())
+                .analysis("분석")
+                .build();
+        Mockito.when(openAIService.generateInterviewQuestions(first, false))
+                .thenThrow(new ServiceOverloadedException("rate-limit-requests", 1))
+                .thenReturn(result);
+        CollectingListener listener = new CollectingListener();
+        
+        // When
+        batchService.generateInterviewQuestions(List.of(first), false, listener);
+        
+        // Then
+        Assertions.assertTrue(listener.completed.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, listener.succeeded);
+        Assertions.assertEquals(0, listener.failed);
+        Assertions.assertSame(result, listener.sorted().get(0).getResult());
+        Mockito.verify(openAIService, Mockito.times(2)).generateInterviewQuestions(first, false);
+    }
+    
+    @Test
+    @DisplayName("Retry-After가 배치 제한 시간을 넘으면 기다리지 않고 항목 실패로 전달한다")
+    void generate_RetryAfterBeyondDeadline_FailsItem() throws Exception {
+        // Given - 제한 시간 1초인 배치에서 30초 후 재시도 안내
+        BatchGenerationService shortBatchService = new BatchGenerationService(
+                openAIService, completionClient, new OpenAIBatchFile(), new GenerationResponseParser(objectMapper),
+                promptTemplates, tokenBudgeter, Validation.buildDefaultValidatorFactory().getValidator(),
+                new BoundedExecutorFactory(false), 2, 3, 4, 10, 1);
+        Mockito.when(openAIService.generateInterviewQuestions(first, false))
+                .thenThrow(new ServiceOverloadedException("interview-questions", 30));
+        CollectingListener listener = new CollectingListener();
+        
+        try {
+            // When
+            shortBatchService.generateInterviewQuestions(List.of(first), false, listener);
+            
+            // Then
+            Assertions.assertTrue(listener.completed.await(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, listener.failed);
+            Assertions.assertFalse(listener.sorted().get(0).isSuccess());
+            Mockito.verify(openAIService, Mockito.times(1)).generateInterviewQuestions(first, false);
+        } finally {
+            shortBatchService.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("최대 건수를 넘는 배치는 거절한다")
+    void generate_TooManyItems_Throws() {
+        Assertions.assertThrows(InvalidRequestException.class,
+                () -> batchService.generateInterviewQuestions(List.of(first, second, first, second), false, new CollectingListener()));
+        Assertions.assertThrows(InvalidRequestException.class,
+                () -> batchService.generateInterviewQuestions(List.of(), false, new CollectingListener()));
+    }
+    
+    @Test
+    @DisplayName("Batch API 입력 파일을 만들고 출력 파일을 항목별 결과로 변환한다")
+    void offline_WriteInputAndReadOutput_RoundTrip() throws Exception {
+        // Given
+        Mockito.when(tokenBudgeter.plan(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.anyInt()))
+                .thenReturn(new TokenBudgeter.TokenBudget("프롬프트", 10, 1500));
+        Mockito.when(completionClient.newRequest(ArgumentMatchers.any())).thenReturn(ChatCompletionRequest.builder()
+                .model("gpt-4o-mini")
+                .messages(List.of(new ChatMessage("user", "프롬프트")))
+                .maxTokens(1500)
+                .build());
+        ReflectionTestUtils.setField(batchService, "model", "gpt-4o-mini");
+        ReflectionTestUtils.setField(batchService, "maxTokens", 1500);
+        
+        // When - 입력 파일 작성 (유효하지 않은 항목은 제외)
+        StringWriter input = new StringWriter();
+        int written = batchService.writeInterviewQuestionsBatchInput(List.of(first, resume(""), second), input);
+        
+        // Then
+        String[] lines = input.toString().split("\n");
+        Assertions.assertEquals(2, written);
+        Assertions.assertEquals(2, lines.length);
+        JsonNode line = objectMapper.readTree(lines[1]);
+        Assertions.assertEquals("interview-questions-2", line.get("custom_id").asText());
+        Assertions.assertEquals("/v1/chat/completions", line.get("url").asText());
+        Assertions.assertEquals(1500, line.path("body").path("max_tokens").asInt());
+        
+        // When - 로컬에서 만든 출력 파일로 변환 (성공 1건, 실패 1건, 해석할 수 없는 줄 1건)
+        String content = objectMapper.writeValueAsString(
+                "{\"questions\": [{\"question\": \"질문1\", \"category\": \"기술적 역량\", \"difficulty\": \"중급\", \"expectedAnswer\": \"답변1\", \"tips\": \"팁\"}], \"analysis\": \"분석\"}");
+        String output = String.join("\n",
+                "{\"custom_id\": \"interview-questions-0\", \"response\": {\"status_code\": 200, \"body\": {\"choices\": [{\"message\": {\"role\": \"assistant\", \"content\": " + content + "}}]}}, \"error\": null}",
+                "{\"custom_id\": \"interview-questions-2\", \"response\": {\"status_code\": 429, \"body\": {\"error\": {\"message\": \"Rate limit reached\"}}}, \"error\": null}",
+                "잘린 줄 {");
+        CollectingListener listener = new CollectingListener();
+        batchService.readInterviewQuestionsBatchOutput(new BufferedReader(new StringReader(output)), listener);
+        
+        // Then
+        List<BatchItemResultDto> items = listener.sorted();
+        Assertions.assertEquals(2, items.size());
+        Assertions.assertEquals(0, items.get(0).getIndex());
+        Assertions.assertEquals("질문1", items.get(0).getResult().getQuestions().get(0).getQuestion());
+        Assertions.assertEquals(2, items.get(1).getIndex());
+        Assertions.assertEquals("Rate limit reached", items.get(1).getError());
+        Assertions.assertEquals(1, listener.succeeded);
+        Assertions.assertEquals(1, listener.failed);
+    }
+    
+    private static ResumeRequestDto resume(String careerSummary) {
+        return ResumeRequestDto.builder()
+                .careerSummary(careerSummary)
+                .jobDescription("커머스 서비스 개발")
+                .technicalSkills("Java, Spring Boot")
+                .build();
+    }
+    
+    private static class CollectingListener implements BatchResultListener {
+        
+        private final List<BatchItemResultDto> items = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile int succeeded;
+        private volatile int failed;
+        
+        @Override
+        public void onItem(BatchItemResultDto item) {
+            items.add(item);
+        }
+        
+        @Override
+        public void onComplete(int succeeded, int failed) {
+            this.succeeded = succeeded;
+            this.failed = failed;
+            completed.countDown();
+        }
+        
+        List<BatchItemResultDto> sorted() {
+            List<BatchItemResultDto> sorted = new ArrayList<>(items);
+            sorted.sort(Comparator.comparingInt(BatchItemResultDto::getIndex));
+            return Collections.unmodifiableList(sorted);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.config.BoundedExecutorFactory;
+import JOBKOREA.AI_Challenge.dto.ComprehensiveResponseDto;
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.LearningPathResponseDto;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.exception.InvalidRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("통합 분석 실행 모드 테스트")
+class ComprehensiveServiceTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OpenAIService openAIService = Mockito.mock(OpenAIService.class);
+    private final ResumeRequestDto request = ResumeRequestDto.builder()
+            .careerSummary("3년차 백엔드 개발자")
+            .jobDescription("커머스 서비스 개발")
+            .technicalSkills("Java, Spring Boot")
+            .build();
+    private ComprehensiveService comprehensiveService;
+    
+    @AfterEach
+    void tearDown() {
+        if (comprehensiveService != null) {
+            comprehensiveService.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("single 모드는 통합 호출 한 번으로 두 결과를 반환하고 모드별 메트릭을 기록한다")
+    void generate_SingleMode_UsesOneCombinedCall() throws Exception {
+        // Given
+        comprehensiveService = service(false);
+        ComprehensiveResponseDto combined = ComprehensiveResponseDto.builder()
+                .interviewQuestions(questions())
+                .learningPath(learningPath())
+                .build();
+        Mockito.when(openAIService.generateComprehensive(request, false)).thenReturn(combined);
+        
+        // When
+        ComprehensiveResponseDto response = comprehensiveService.generate(request, ComprehensiveService.ComprehensiveMode.SINGLE, false);
+        
+        // Then
+        Assertions.assertSame(combined, response);
+        Mockito.verify(openAIService, Mockito.never()).generateInterviewQuestions(Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(openAIService, Mockito.never()).generateLearningPath(Mockito.any(), Mockito.anyBoolean());
+        Assertions.assertEquals(1, meterRegistry.get("openai.comprehensive")
+                .tag("mode", "single").tag("outcome", OpenAIMetrics.SUCCESS).timer().count());
+    }
+    
+    @Test
+    @DisplayName("single 모드 응답에 누락된 항목이 있으면 부분 결과 미허용 시 오류가 발생한다")
+    void generate_SingleModePartial_ThrowsUnlessAllowed() throws Exception {
+        // Given
+        comprehensiveService = service(false);
+        Mockito.when(openAIService.generateComprehensive(request, false)).thenReturn(ComprehensiveResponseDto.builder()
+                .interviewQuestions(questions())
+                .partial(true)
+                .failures(Map.of(ComprehensiveService.LEARNING_PATH, "응답에 학습 단계가 없습니다"))
+                .build());
+        
+        // When & Then
+        Assertions.assertThrows(RuntimeException.class,
+                () -> comprehensiveService.generate(request, ComprehensiveService.ComprehensiveMode.SINGLE, false));
+        Assertions.assertEquals(1, meterRegistry.get("openai.comprehensive")
+                .tag("mode", "single").tag("outcome", OpenAIMetrics.ERROR).timer().count());
+    }
+    
+    @Test
+    @DisplayName("모드를 지정하지 않으면 설정된 기본 모드(parallel)로 두 항목을 각각 생성한다")
+    void generate_DefaultMode_UsesTwoCalls() throws Exception {
+        // Given
+        comprehensiveService = service(false);
+        Mockito.when(openAIService.generateInterviewQuestions(request, false)).thenReturn(questions());
+        Mockito.when(openAIService.generateLearningPath(request, false)).thenReturn(learningPath());
+        
+        // When
+        ComprehensiveResponseDto response = comprehensiveService.generate(request, null, false);
+        
+        // Then
+        Assertions.assertNotNull(response.getInterviewQuestions());
+        Assertions.assertNotNull(response.getLearningPath());
+        Mockito.verify(openAIService, Mockito.never()).generateComprehensive(Mockito.any(), Mockito.anyBoolean());
+        Assertions.assertEquals(1, meterRegistry.get("openai.comprehensive").tag("mode", "parallel").timer().count());
+    }
+    
+    @Test
+    @DisplayName("공유 마감 시각을 넘긴 작업은 시간 초과로 기록하고 나머지 결과만 반환한다")
+    void generateParallel_BranchTimesOut_ReturnsPartial() throws Exception {
+        // Given
+        comprehensiveService = service(true, 1, 4, 8);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Mockito.when(openAIService.generateInterviewQuestions(request, false)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return questions();
+        });
+        Mockito.when(openAIService.generateLearningPath(request, false)).thenReturn(learningPath());
+        
+        // When
+        long start = System.nanoTime();
+        ComprehensiveResponseDto response = comprehensiveService.generate(request, ComprehensiveService.ComprehensiveMode.PARALLEL, false);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        
+        // Then
+        Assertions.assertTrue(response.isPartial());
+        Assertions.assertNull(response.getInterviewQuestions());
+        Assertions.assertNotNull(response.getLearningPath());
+        Assertions.assertEquals("응답 시간 초과", response.getFailures().get(ComprehensiveService.INTERVIEW_QUESTIONS));
+        Assertions.assertTrue(elapsedMillis < 5_000, "실제: " + elapsedMillis + "ms");
+        Assertions.assertTrue(interrupted.await(1, TimeUnit.SECONDS), "시간 초과된 작업은 취소되어야 합니다");
+    }
+    
+    @Test
+    @DisplayName("한 작업이 실패하면 부분 결과 허용 여부에 따라 부분 결과를 반환하거나 예외를 던진다")
+    void generateParallel_BranchFails_DependsOnAllowPartial() throws Exception {
+        // Given
+        Mockito.when(openAIService.generateInterviewQuestions(request, false)).thenReturn(questions());
+        Mockito.when(openAIService.generateLearningPath(request, false)).thenThrow(new RuntimeException("학습 경로 생성 실패"));
+        
+        // When
+        comprehensiveService = service(true, 90, 4, 8);
+        ComprehensiveResponseDto response = comprehensiveService.generate(request, ComprehensiveService.ComprehensiveMode.PARALLEL, false);
+        comprehensiveService.shutdown();
+        comprehensiveService = service(false, 90, 4, 8);
+        
+        // Then
+        Assertions.assertTrue(response.isPartial());
+        Assertions.assertNotNull(response.getInterviewQuestions());
+        Assertions.assertEquals("학습 경로 생성 실패", response.getFailures().get(ComprehensiveService.LEARNING_PATH));
+        RuntimeException error = Assertions.assertThrows(RuntimeException.class,
+                () -> comprehensiveService.generate(request, ComprehensiveService.ComprehensiveMode.PARALLEL, false));
+        Assertions.assertEquals("학습 경로 생성 실패", error.getMessage());
+    }
+    
+    @Test
+    @DisplayName("부분 결과를 허용하지 않으면 한 작업이 실패할 때 다른 작업을 취소한다")
+    void generateParallel_BranchFails_CancelsSibling() throws Exception {
+        // Given
+        comprehensiveService = service(false, 90, 4, 8);
+        CountDownLatch learningPathStarted = new CountDownLatch(1);
+        CountDownLatch learningPathInterrupted = new CountDownLatch(1);
+        Mockito.when(openAIService.generateInterviewQuestions(request, false)).thenAnswer(invocation -> {
+            learningPathStarted.await(1, TimeUnit.SECONDS);
+            throw new RuntimeException("면접 질문 생성 실패");
+        });
+        Mockito.when(openAIService.generateLearningPath(request, false)).thenAnswer(invocation -> {
+            learningPathStarted.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                learningPathInterrupted.countDown();
+            }
+            return learningPath();
+        });
+        
+        // When & Then
+        Assertions.assertThrows(RuntimeException.class,
+                () -> comprehensiveService.generate(request, ComprehensiveService.ComprehensiveMode.PARALLEL, false));
+        Assertions.assertTrue(learningPathInterrupted.await(1, TimeUnit.SECONDS), "남은 작업은 취소되어야 합니다");
+    }
+    
+    @Test
+    @DisplayName("스레드 풀과 대기열이 가득 차면 요청을 즉시 거절한다")
+    void generateParallel_ExecutorSaturated_Rejects() throws Exception {
+        // Given - 첫 요청의 두 작업이 스레드 2개를 모두 차지한 상태 (대기열 1칸만 남음)
+        comprehensiveService = service(false, 90, 2, 1);
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(openAIService.generateInterviewQuestions(request, false)).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return questions();
+        });
+        Mockito.when(openAIService.generateLearningPath(request, false)).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return learningPath();
+        });
+        CompletableFuture<ComprehensiveResponseDto> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return comprehensiveService.generate(request, ComprehensiveService.ComprehensiveMode.PARALLEL, false);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Assertions.assertTrue(running.await(1, TimeUnit.SECONDS));
+        
+        // When & Then
+        Assertions.assertThrows(RejectedExecutionException.class,
+                () -> comprehensiveService.generate(request, ComprehensiveService.ComprehensiveMode.PARALLEL, false));
+        release.countDown();
+        Assertions.assertFalse(first.get(5, TimeUnit.SECONDS).isPartial());
+    }
+    
+    @Test
+    @DisplayName("지원하지 않는 모드 이름은 InvalidRequestException으로 거절한다")
+    void mode_Unknown_Throws() {
+        Assertions.assertEquals(ComprehensiveService.ComprehensiveMode.SINGLE, ComprehensiveService.ComprehensiveMode.from(" single "));
+        Assertions.assertThrows(InvalidRequestException.class, () -> ComprehensiveService.ComprehensiveMode.from("batch"));
+    }
+    
+    private ComprehensiveService service(boolean allowPartial) {
+        return service(allowPartial, 5, 4, 8);
+    }
+    
+    private ComprehensiveService service(boolean allowPartial, long branchTimeoutSeconds, int poolSize, int queueCapacity) {
+        return new ComprehensiveService(openAIService, new OpenAIMetrics(meterRegistry), new BoundedExecutorFactory(false),
+                "parallel", branchTimeoutSeconds, allowPartial, poolSize, queueCapacity);
+    }
+    
+    private static InterviewQuestionsResponseDto questions() {
+        return InterviewQuestionsResponseDto.builder()
+                .questions(List.of(InterviewQuestionsResponseDto.QuestionDto.builder().question("질문").build()))
+                .analysis("분석")
+                .build();
+    }
+    
+    private static LearningPathResponseDto learningPath() {
+        return LearningPathResponseDto.builder()
+                .learningSteps(List.of(LearningPathResponseDto.LearningStepDto.builder().step("1단계").build()))
+                .summary("요약")
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.config.BoundedExecutorFactory;
+import JOBKOREA.AI_Challenge.dto.GenerationJobResponseDto;
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import JOBKOREA.AI_Challenge.exception.InvalidRequestException;
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("비동기 생성 작업 테스트")
+class GenerationJobServiceTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OpenAIService openAIService = Mockito.mock(OpenAIService.class);
+    private final ComprehensiveService comprehensiveService = Mockito.mock(ComprehensiveService.class);
+    private final ResumeRequestDto request = ResumeRequestDto.builder()
+            .careerSummary("3년차 백엔드 개발자")
+            .jobDescription("커머스 서비스 개발")
+            .technicalSkills("Java, Spring Boot")
+            .build();
+    private GenerationJobService jobService;
+    
+    private GenerationJobService jobService(int workerCount, int queueCapacity) {
+        return jobService(workerCount, queueCapacity, 100);
+    }
+    
+    private GenerationJobService jobService(int workerCount, int queueCapacity, long maximumSize) {
+        jobService = new GenerationJobService(openAIService, comprehensiveService, new BoundedExecutorFactory(false),
+                meterRegistry, workerCount, queueCapacity, 30, maximumSize, 5);
+        jobService.start();
+        return jobService;
+    }
+    
+    @AfterEach
+    void tearDown() {
+        if (jobService != null) {
+            jobService.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("등록한 작업은 작업자가 처리하고 결과를 조회할 수 있다")
+    void submit_CompletesAndStoresResult() throws Exception {
+        // Given
+        InterviewQuestionsResponseDto result = InterviewQuestionsResponseDto.builder()
+                .questions(List.of())
+                .analysis("분석")
+                .build();
+        Mockito.when(openAIService.generateInterviewQuestions(request, false)).thenReturn(result);
+        GenerationJobService service = jobService(1, 10);
+        
+        // When
+        GenerationJobResponseDto submitted = service.submit(GenerationJobService.JobType.INTERVIEW_QUESTIONS, request, false);
+        GenerationJobResponseDto completed = awaitCompletion(service, submitted.getJobId());
+        
+        // Then
+        Assertions.assertEquals(GenerationJobResponseDto.JobStatus.SUCCEEDED, completed.getStatus());
+        Assertions.assertSame(result, completed.getResult());
+        Assertions.assertNotNull(completed.getCompletedAt());
+    }
+    
+    @Test
+    @DisplayName("생성 실패는 작업 상태에 실패 사유로 기록된다")
+    void submit_Failure_RecordsError() throws Exception {
+        // Given
+        Mockito.when(openAIService.generateLearningPath(request, false))
+                .thenThrow(new RuntimeException("학습 경로 생성 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요."));
+        GenerationJobService service = jobService(1, 10);
+        
+        // When
+        GenerationJobResponseDto submitted = service.submit(GenerationJobService.JobType.LEARNING_PATH, request, false);
+        GenerationJobResponseDto completed = awaitCompletion(service, submitted.getJobId());
+        
+        // Then
+        Assertions.assertEquals(GenerationJobResponseDto.JobStatus.FAILED, completed.getStatus());
+        Assertions.assertTrue(completed.getError().contains("학습 경로 생성"));
+    }
+    
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 거절한다")
+    void submit_QueueFull_Rejects() throws Exception {
+        // Given - 작업자 하나가 첫 작업에 묶여 있고 대기열 한 칸이 찬 상태
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Mockito.when(comprehensiveService.generate(request, false)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        GenerationJobService service = jobService(1, 1);
+        service.submit(GenerationJobService.JobType.COMPREHENSIVE, request, false);
+        started.await(5, TimeUnit.SECONDS);
+        service.submit(GenerationJobService.JobType.COMPREHENSIVE, request, false);
+        
+        // When & Then
+        try {
+            Assertions.assertThrows(ServiceOverloadedException.class,
+                    () -> service.submit(GenerationJobService.JobType.COMPREHENSIVE, request, false));
+            Assertions.assertEquals(1, meterRegistry.get("generation.jobs.queued").gauge().value());
+        } finally {
+            release.countDown();
+        }
+    }
+    
+    @Test
+    @DisplayName("대기/실행 중인 작업은 저장소 최대 개수를 넘어도 축출되지 않는다")
+    void submit_ActiveJobsBeyondMaximumSize_RemainVisible() throws Exception {
+        // Given - 저장소 최대 1개, 작업자 하나가 첫 작업에 묶여 있는 상태
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Mockito.when(comprehensiveService.generate(request, false)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        GenerationJobService service = jobService(1, 10, 1);
+        
+        // When
+        List<String> jobIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            jobIds.add(service.submit(GenerationJobService.JobType.COMPREHENSIVE, request, false).getJobId());
+        }
+        started.await(5, TimeUnit.SECONDS);
+        
+        // Then
+        try {
+            Assertions.assertEquals(GenerationJobResponseDto.JobStatus.RUNNING, service.find(jobIds.get(0)).orElseThrow().getStatus());
+            for (String jobId : jobIds.subList(1, jobIds.size())) {
+                Assertions.assertEquals(GenerationJobResponseDto.JobStatus.QUEUED, service.find(jobId).orElseThrow().getStatus());
+            }
+        } finally {
+            release.countDown();
+        }
+    }
+    
+    @Test
+    @DisplayName("지원하지 않는 작업 유형은 거절한다")
+    void jobType_Unknown_Throws() {
+        Assertions.assertEquals(GenerationJobService.JobType.COMPREHENSIVE, GenerationJobService.JobType.from(null));
+        Assertions.assertEquals(GenerationJobService.JobType.LEARNING_PATH, GenerationJobService.JobType.from("learning-path"));
+        Assertions.assertThrows(InvalidRequestException.class, () -> GenerationJobService.JobType.from("unknown"));
+    }
+    
+    private static GenerationJobResponseDto awaitCompletion(GenerationJobService service, String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            GenerationJobResponseDto job = service.find(jobId).orElseThrow();
+            if (job.getStatus() == GenerationJobResponseDto.JobStatus.SUCCEEDED
+                    || job.getStatus() == GenerationJobResponseDto.JobStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("작업이 완료되지 않음: " + jobId);
+    }
+}
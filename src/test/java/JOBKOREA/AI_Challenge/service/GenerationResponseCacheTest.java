@@ -0,0 +1,227 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("생성 결과 캐시 테스트")
+class GenerationResponseCacheTest {
+    
+    private static final String TYPE = PromptTemplateRegistry.INTERVIEW_QUESTIONS;
+    private static final String MODEL = "gpt-3.5-turbo";
+    private static final Double TEMPERATURE = 0.7;
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PersistentResultStore resultStore = Mockito.mock(PersistentResultStore.class);
+    private final ResumeRequestDto resume = resume(
+            "Spring 기반 백엔드 개발자로 3년간 커머스 서비스를 개발했습니다",
+            "백엔드 개발자",
+            "Java, Spring Boot, MySQL");
+    
+    private GenerationResponseCache cache(boolean enabled, long maximumSize, long ttlMinutes) {
+        return new GenerationResponseCache(meterRegistry, resultStore, enabled, maximumSize, ttlMinutes);
+    }
+    
+    private String key(GenerationResponseCache cache, ResumeRequestDto resumeRequest) {
+        return cache.key(TYPE, resumeRequest, MODEL, TEMPERATURE, "v1");
+    }
+    
+    @Test
+    @DisplayName("공백과 대소문자만 다른 이력서는 같은 캐시 항목을 조회한다")
+    void key_WhitespaceAndCaseVariants_HitSameEntry() {
+        // Given
+        GenerationResponseCache cache = cache(true, 100, 60);
+        cache.put(key(cache, resume), "결과");
+        ResumeRequestDto variant = resume(
+                "  spring 기반   백엔드 개발자로 3년간\n커머스 서비스를 개발했습니다 ",
+                "백엔드  개발자",
+                "JAVA,  spring boot, mysql");
+        
+        // When
+        String cached = cache.get(key(cache, variant), String.class);
+        
+        // Then
+        Assertions.assertEquals(key(cache, resume), key(cache, variant));
+        Assertions.assertEquals("결과", cached);
+    }
+    
+    @Test
+    @DisplayName("모델, 온도, 프롬프트 버전이 다르면 다른 키를 사용한다")
+    void key_DifferentGenerationSettings_DifferentKeys() {
+        // Given
+        GenerationResponseCache cache = cache(true, 100, 60);
+        String key = key(cache, resume);
+        
+        // When & Then
+        Assertions.assertTrue(key.startsWith(TYPE + ":"));
+        Assertions.assertNotEquals(key, cache.key(TYPE, resume, "gpt-4o-mini", TEMPERATURE, "v1"));
+        Assertions.assertNotEquals(key, cache.key(TYPE, resume, MODEL, 0.2, "v1"));
+        Assertions.assertNotEquals(key, cache.key(TYPE, resume, MODEL, TEMPERATURE, "v2"));
+        Assertions.assertNotEquals(key, cache.key(PromptTemplateRegistry.LEARNING_PATH, resume, MODEL, TEMPERATURE, "v1"));
+    }
+    
+    @Test
+    @DisplayName("캐시 조회 적중/실패 횟수를 메트릭으로 기록한다")
+    void get_RecordsHitAndMissCounters() {
+        // Given
+        GenerationResponseCache cache = cache(true, 100, 60);
+        String key = key(cache, resume);
+        
+        // When - 저장 전 1회 실패, 저장 후 2회 적중
+        cache.get(key, String.class);
+        cache.put(key, "결과");
+        cache.get(key, String.class);
+        cache.get(key, String.class);
+        
+        // Then
+        Assertions.assertEquals(2, gets("hit"));
+        Assertions.assertEquals(1, gets("miss"));
+    }
+    
+    @Test
+    @DisplayName("메모리 캐시에 없으면 영구 저장소 결과를 사용하고 메모리 캐시에 다시 적재한다")
+    void get_MemoryMiss_FallsBackToResultStore() {
+        // Given
+        GenerationResponseCache cache = cache(true, 100, 60);
+        String key = key(cache, resume);
+        Mockito.when(resultStore.get(key, String.class)).thenReturn("저장된 결과");
+        
+        // When
+        String first = cache.get(key, String.class);
+        String second = cache.get(key, String.class);
+        
+        // Then - 두 번째 조회는 메모리 캐시에서 적중
+        Assertions.assertEquals("저장된 결과", first);
+        Assertions.assertEquals("저장된 결과", second);
+        Mockito.verify(resultStore, Mockito.times(1)).get(key, String.class);
+        Assertions.assertEquals(1, gets("hit"));
+    }
+    
+    @Test
+    @DisplayName("캐시를 끄면 저장하지 않고 항상 조회 실패로 처리한다")
+    void disabled_NeverStoresOrReturns() {
+        // Given
+        GenerationResponseCache cache = cache(false, 100, 60);
+        String key = key(cache, resume);
+        
+        // When
+        cache.put(key, "결과");
+        String cached = cache.get(key, String.class);
+        
+        // Then
+        Assertions.assertNull(cached);
+        Mockito.verifyNoInteractions(resultStore);
+    }
+    
+    @Test
+    @DisplayName("설정한 TTL이 지나면 항목이 만료된다")
+    void ttl_ExpiredEntry_Misses() throws InterruptedException {
+        // Given
+        GenerationResponseCache cache = cache(true, 100, 60);
+        Policy.FixedExpiration<String, Object> expiration = memoryCache(cache).policy().expireAfterWrite().orElseThrow();
+        Assertions.assertEquals(Duration.ofMinutes(60), expiration.getExpiresAfter());
+        String key = key(cache, resume);
+        cache.put(key, "결과");
+        Assertions.assertEquals("결과", cache.get(key, String.class));
+        
+        // When - 만료 시간을 줄여 TTL 경과를 재현
+        expiration.setExpiresAfter(1, TimeUnit.MILLISECONDS);
+        Thread.sleep(20);
+        
+        // Then
+        Assertions.assertNull(cache.get(key, String.class));
+    }
+    
+    @Test
+    @DisplayName("최대 개수를 넘으면 항목을 제거한다")
+    void maximumSize_ExceededEntries_Evicted() {
+        // Given
+        GenerationResponseCache cache = cache(true, 10, 60);
+        Cache<String, Object> memoryCache = memoryCache(cache);
+        Assertions.assertEquals(10, memoryCache.policy().eviction().orElseThrow().getMaximum());
+        
+        // When
+        for (int i = 0; i < 50; i++) {
+            cache.put("key-" + i, "결과-" + i);
+        }
+        memoryCache.cleanUp();
+        
+        // Then
+        Assertions.assertTrue(memoryCache.estimatedSize() <= 10, "캐시 크기: " + memoryCache.estimatedSize());
+        Assertions.assertTrue(memoryCache.stats().evictionCount() >= 40);
+    }
+    
+    @Test
+    @DisplayName("캐시 우회 요청은 캐시를 조회하지 않고 새로 생성한 결과로 캐시를 갱신한다")
+    void bypassCache_RegeneratesAndRefreshes() throws Exception {
+        // Given - 첫 번째 생성 결과가 캐시에 저장된 상태
+        GenerationResponseCache cache = cache(true, 100, 60);
+        OpenAICompletionClient completionClient = Mockito.mock(OpenAICompletionClient.class);
+        OpenAIService service = openAIService(completionClient, cache);
+        Mockito.when(completionClient.complete(Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(completion("첫 번째 질문"), completion("두 번째 질문"));
+        service.generateInterviewQuestions(resume);
+        
+        // When
+        InterviewQuestionsResponseDto cached = service.generateInterviewQuestions(resume);
+        InterviewQuestionsResponseDto bypassed = service.generateInterviewQuestions(resume, true);
+        InterviewQuestionsResponseDto refreshed = service.generateInterviewQuestions(resume);
+        
+        // Then - 우회 요청만 OpenAI를 다시 호출하고, 이후 요청은 갱신된 결과를 받음
+        Assertions.assertEquals("첫 번째 질문", cached.getQuestions().get(0).getQuestion());
+        Assertions.assertEquals("두 번째 질문", bypassed.getQuestions().get(0).getQuestion());
+        Assertions.assertEquals("두 번째 질문", refreshed.getQuestions().get(0).getQuestion());
+        Mockito.verify(completionClient, Mockito.times(2))
+                .complete(Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+    
+    private OpenAIService openAIService(OpenAICompletionClient completionClient, GenerationResponseCache cache) {
+        TokenBudgeter tokenBudgeter = Mockito.mock(TokenBudgeter.class);
+        Mockito.when(tokenBudgeter.plan(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt()))
+                .thenReturn(new TokenBudgeter.TokenBudget("prompt", 10, 1000));
+        Mockito.when(completionClient.newDeadline()).thenReturn(new OpenAICompletionClient.Deadline(System.nanoTime() + TimeUnit.SECONDS.toNanos(30)));
+        OpenAIService service = new OpenAIService(completionClient, cache,
+                Mockito.mock(SemanticResponseCache.class), Mockito.mock(QuestionBank.class), new SingleFlight(meterRegistry),
+                new GenerationResponseParser(new ObjectMapper()), new PromptTemplateRegistry("v1", "v1", "v1"), tokenBudgeter,
+                new OpenAIMetrics(meterRegistry), Mockito.mock(StructuredOutput.class));
+        ReflectionTestUtils.setField(service, "model", MODEL);
+        ReflectionTestUtils.setField(service, "maxTokens", 1000);
+        ReflectionTestUtils.setField(service, "temperature", TEMPERATURE);
+        return service;
+    }
+    
+    private static OpenAICompletionClient.Completion completion(String question) {
+        String content = "{\"questions\":[{\"question\":\"" + question + "\",\"category\":\"기술\",\"difficulty\":\"중\","
+                + "\"expectedAnswer\":\"답변\",\"tips\":\"팁\"}]}";
+        return new OpenAICompletionClient.Completion(content, content, false, 0);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Cache<String, Object> memoryCache(GenerationResponseCache cache) {
+        return (Cache<String, Object>) ReflectionTestUtils.getField(cache, "cache");
+    }
+    
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", GenerationResponseCache.CACHE_NAME).tag("result", result)
+                .functionCounter().count();
+    }
+    
+    private static ResumeRequestDto resume(String careerSummary, String jobDescription, String technicalSkills) {
+        return ResumeRequestDto.builder()
+                .careerSummary(careerSummary)
+                .jobDescription(jobDescription)
+                .technicalSkills(technicalSkills)
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.ComprehensiveResponseDto;
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.LearningPathResponseDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("GenerationResponseParser 응답 파싱 테스트")
+class GenerationResponseParserTest {
+    
+    private final GenerationResponseParser parser = new GenerationResponseParser(new ObjectMapper());
+    
+    @Test
+    @DisplayName("완전한 면접 질문 응답을 DTO로 변환한다")
+    void parseInterviewQuestions_CompleteResponse_MapsAllFields() {
+        String response = """
+                {"questions": [{"question": "질문1", "category": "기술적 역량", "difficulty": "중급", "expectedAnswer": "답변1", "tips": null, "extra": {"nested": [1, 2]}}],
+                 "analysis": "분석"}
+                """;
+        
+        GenerationResponseParser.Parsed<InterviewQuestionsResponseDto> parsed = parser.parseInterviewQuestions(response);
+        
+        Assertions.assertTrue(parsed.isComplete());
+        InterviewQuestionsResponseDto.QuestionDto question = parsed.getValue().getQuestions().get(0);
+        Assertions.assertEquals("질문1", question.getQuestion());
+        Assertions.assertEquals("정보 없음", question.getTips());
+        Assertions.assertEquals("분석", parsed.getValue().getAnalysis());
+    }
+    
+    @Test
+    @DisplayName("잘린 응답에서는 완성된 항목만 복구한다")
+    void parseLearningPath_TruncatedResponse_SalvagesCompleteSteps() {
+        String response = """
+                ```json
+                {"summary": "요약", "learningSteps": [
+                  {"step": "1단계", "description": "설명", "priority": "높음", "resources": "문서"},
+                  {"step": "2단계", "description": "중간에 끊긴
+                """;
+        
+        GenerationResponseParser.Parsed<LearningPathResponseDto> parsed = parser.parseLearningPath(response);
+        
+        Assertions.assertFalse(parsed.isComplete());
+        Assertions.assertEquals(1, parsed.getValue().getLearningSteps().size());
+        Assertions.assertEquals("요약", parsed.getValue().getSummary());
+        Assertions.assertEquals("", parsed.getValue().getEstimatedDuration());
+    }
+    
+    @Test
+    @DisplayName("완성된 항목이 하나도 없으면 예외가 발생한다")
+    void parseInterviewQuestions_NoCompleteItem_Throws() {
+        Assertions.assertThrows(RuntimeException.class,
+                () -> parser.parseInterviewQuestions("{\"questions\": [{\"question\": \"끊긴"));
+        Assertions.assertThrows(RuntimeException.class,
+                () -> parser.parseInterviewQuestions("JSON이 아닌 응답"));
+    }
+    
+    @Test
+    @DisplayName("통합 분석 응답을 면접 질문과 학습 경로 응답으로 나눈다")
+    void parseComprehensive_CompleteResponse_SplitsSections() {
+        String response = """
+                {"interviewQuestions": {"questions": [{"question": "질문1", "category": "기술적 역량", "difficulty": "중급", "expectedAnswer": "답변1", "tips": "팁1"}], "analysis": "분석"},
+                 "learningPath": {"summary": "요약", "learningSteps": [{"step": "1단계", "description": "설명", "priority": "높음", "resources": "문서"}], "estimatedDuration": "3개월"}}
+                """;
+        
+        GenerationResponseParser.Parsed<ComprehensiveResponseDto> parsed = parser.parseComprehensive(response);
+        
+        Assertions.assertTrue(parsed.isComplete());
+        Assertions.assertFalse(parsed.getValue().isPartial());
+        Assertions.assertEquals("질문1", parsed.getValue().getInterviewQuestions().getQuestions().get(0).getQuestion());
+        Assertions.assertEquals("분석", parsed.getValue().getInterviewQuestions().getAnalysis());
+        Assertions.assertEquals("1단계", parsed.getValue().getLearningPath().getLearningSteps().get(0).getStep());
+        Assertions.assertEquals("3개월", parsed.getValue().getLearningPath().getEstimatedDuration());
+    }
+    
+    @Test
+    @DisplayName("통합 분석 응답이 학습 경로 전에 잘리면 면접 질문만 담긴 부분 결과를 반환한다")
+    void parseComprehensive_TruncatedBeforeLearningPath_ReturnsPartial() {
+        String response = """
+                {"interviewQuestions": {"questions": [{"question": "질문1", "category": "기술적 역량", "difficulty": "중급", "expectedAnswer": "답변1", "tips": "팁1"}], "analysis": "분석"},
+                 "learningPath": {"summary": "요약", "learningSteps": [{"step": "1단계", "desc
+                """;
+        
+        GenerationResponseParser.Parsed<ComprehensiveResponseDto> parsed = parser.parseComprehensive(response);
+        
+        Assertions.assertFalse(parsed.isComplete());
+        Assertions.assertTrue(parsed.getValue().isPartial());
+        Assertions.assertNotNull(parsed.getValue().getInterviewQuestions());
+        Assertions.assertNull(parsed.getValue().getLearningPath());
+        Assertions.assertTrue(parsed.getValue().getFailures().containsKey(ComprehensiveService.LEARNING_PATH));
+    }
+    
+    @Test
+    @DisplayName("함수 인자를 DTO에 바인딩하고 빠진 필드는 기본값으로 채운다")
+    void bindInterviewQuestions_FunctionArguments_BindsToDto() throws Exception {
+        JsonNode arguments = new ObjectMapper().readTree("""
+                {"questions": [{"question": "질문1", "category": "기술적 역량", "difficulty": "중급", "expectedAnswer": "답변1", "tips": null}],
+                 "analysis": "분석"}
+                """);
+        
+        GenerationResponseParser.Parsed<InterviewQuestionsResponseDto> parsed = parser.bindInterviewQuestions(arguments);
+        
+        Assertions.assertTrue(parsed.isComplete());
+        Assertions.assertEquals("질문1", parsed.getValue().getQuestions().get(0).getQuestion());
+        Assertions.assertEquals("정보 없음", parsed.getValue().getQuestions().get(0).getTips());
+        Assertions.assertEquals("분석", parsed.getValue().getAnalysis());
+    }
+    
+    @Test
+    @DisplayName("함수 인자에 학습 단계가 없으면 예외가 발생한다")
+    void bindLearningPath_NoSteps_Throws() throws Exception {
+        JsonNode arguments = new ObjectMapper().readTree("{\"learningSteps\": [], \"summary\": \"요약\"}");
+        
+        Assertions.assertThrows(RuntimeException.class, () -> parser.bindLearningPath(arguments));
+    }
+    
+    @Test
+    @DisplayName("통합 분석 함수 인자에 한쪽 항목만 있으면 부분 결과를 반환한다")
+    void bindComprehensive_MissingLearningPath_ReturnsPartial() throws Exception {
+        JsonNode arguments = new ObjectMapper().readTree("""
+                {"interviewQuestions": {"questions": [{"question": "질문1", "category": "기술적 역량", "difficulty": "중급", "expectedAnswer": "답변1", "tips": "팁1"}], "analysis": "분석"}}
+                """);
+        
+        GenerationResponseParser.Parsed<ComprehensiveResponseDto> parsed = parser.bindComprehensive(arguments);
+        
+        Assertions.assertTrue(parsed.getValue().isPartial());
+        Assertions.assertEquals("질문1", parsed.getValue().getInterviewQuestions().getQuestions().get(0).getQuestion());
+        Assertions.assertNull(parsed.getValue().getLearningPath());
+        Assertions.assertTrue(parsed.getValue().getFailures().containsKey(ComprehensiveService.LEARNING_PATH));
+    }
+}
@@ -0,0 +1,79 @@
+package JOBKOREA.AI_Challenge.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("요청 헤징 정책 테스트")
+class HedgePolicyTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    @Test
+    @DisplayName("헤징이 꺼져 있거나 지연 관측값이 부족하면 헤지 요청을 보내지 않는다")
+    void delayMillis_DisabledOrTooFewSamples_NoHedge() {
+        // Given
+        HedgePolicy disabled = new HedgePolicy(meterRegistry, false, 0.95, 100, 0, 5, 100);
+        HedgePolicy enabled = new HedgePolicy(meterRegistry, true, 0.95, 100, 10, 5, 100);
+        for (int i = 0; i < 9; i++) {
+            enabled.record(PromptTemplateRegistry.INTERVIEW_QUESTIONS, TimeUnit.SECONDS.toNanos(1), OpenAIMetrics.SUCCESS, HedgePolicy.NONE);
+        }
+        
+        // When & Then
+        Assertions.assertEquals(-1L, disabled.delayMillis(PromptTemplateRegistry.INTERVIEW_QUESTIONS));
+        Assertions.assertEquals(-1L, enabled.delayMillis(PromptTemplateRegistry.INTERVIEW_QUESTIONS));
+    }
+    
+    @Test
+    @DisplayName("생성 유형별 최근 지연의 백분위를 헤지 지연 시간으로 사용하고 최소 지연 시간보다 짧게 잡지 않는다")
+    void delayMillis_UsesLatencyPercentile() {
+        // Given - 1~100초 지연 100건
+        HedgePolicy policy = new HedgePolicy(meterRegistry, true, 0.95, 100, 10, 5, 100);
+        for (int i = 1; i <= 100; i++) {
+            policy.record(PromptTemplateRegistry.INTERVIEW_QUESTIONS, TimeUnit.SECONDS.toNanos(i), OpenAIMetrics.SUCCESS, HedgePolicy.NONE);
+        }
+        for (int i = 0; i < 10; i++) {
+            policy.record(PromptTemplateRegistry.LEARNING_PATH, TimeUnit.MILLISECONDS.toNanos(10), OpenAIMetrics.SUCCESS, HedgePolicy.NONE);
+        }
+        
+        // When & Then
+        Assertions.assertEquals(95_000L, policy.delayMillis(PromptTemplateRegistry.INTERVIEW_QUESTIONS));
+        Assertions.assertEquals(100L, policy.delayMillis(PromptTemplateRegistry.LEARNING_PATH));
+    }
+    
+    @Test
+    @DisplayName("헤지 요청은 전체 호출 수의 budget-percent 이내로만 보낸다")
+    void tryAcquire_LimitedByBudget() {
+        // Given - 호출 100건에 대해 예산 25%
+        HedgePolicy policy = new HedgePolicy(meterRegistry, true, 0.95, 100, 0, 25, 100);
+        
+        // When
+        int sent = 0;
+        for (int i = 0; i < 100; i++) {
+            policy.delayMillis(PromptTemplateRegistry.INTERVIEW_QUESTIONS);
+            if (policy.tryAcquire(PromptTemplateRegistry.INTERVIEW_QUESTIONS, () -> true)) {
+                sent++;
+            }
+        }
+        
+        // Then
+        Assertions.assertEquals(25, sent);
+        Assertions.assertEquals(75, meterRegistry.get("openai.hedge.requests").tag("outcome", "budget-exhausted").counter().count());
+    }
+    
+    @Test
+    @DisplayName("요청 한도에 여유가 없으면 헤지 예산을 차감하지 않는다")
+    void tryAcquire_NoCapacity_KeepsBudget() {
+        // Given
+        HedgePolicy policy = new HedgePolicy(meterRegistry, true, 0.95, 100, 0, 100, 100);
+        policy.delayMillis(PromptTemplateRegistry.LEARNING_PATH);
+        
+        // When & Then
+        Assertions.assertFalse(policy.tryAcquire(PromptTemplateRegistry.LEARNING_PATH, () -> false));
+        Assertions.assertTrue(policy.tryAcquire(PromptTemplateRegistry.LEARNING_PATH, () -> true));
+        Assertions.assertEquals(1, meterRegistry.get("openai.hedge.requests").tag("outcome", "rate-limited").counter().count());
+    }
+}
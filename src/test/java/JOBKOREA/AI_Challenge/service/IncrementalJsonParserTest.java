@@ -0,0 +1,73 @@
+package JOBKOREA.AI_Challenge.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@DisplayName("IncrementalJsonParser 점진적 파싱 테스트")
+class IncrementalJsonParserTest {
+    
+    private static final String RESPONSE = """
+            ```json
+            {
+              "questions": [
+                {"question": "트랜잭션 전파 속성을 설명해주세요", "category": "기술적 역량", "difficulty": "중급", "expectedAnswer": "REQUIRED 등", "tips": "사례 위주"},
+                {"question": "MSA 전환 경험은?", "category": "프로젝트 경험", "difficulty": "고급", "expectedAnswer": "분리 기준", "tips": "STAR"}
+              ],
+              "analysis": "백엔드 중심"
+            }
+            ```
+            """;
+    
+    private final List<Map<String, String>> items = new ArrayList<>();
+    private final Map<String, String> values = new LinkedHashMap<>();
+    private final IncrementalJsonParser parser = new IncrementalJsonParser(new JsonFactory(), new IncrementalJsonParser.Listener() {
+        @Override
+        public void onItem(String arrayField, Map<String, String> item) {
+            items.add(item);
+        }
+        
+        @Override
+        public void onValue(String field, String value) {
+            values.put(field, value);
+        }
+    });
+    
+    @Test
+    @DisplayName("작은 조각으로 나뉜 응답에서 항목이 닫히는 즉시 전달된다")
+    void feed_SmallChunks_EmitsItemAsSoonAsClosed() throws Exception {
+        int firstItemEnd = RESPONSE.indexOf('}') + 1;
+        
+        for (int i = 0; i < firstItemEnd; i += 3) {
+            parser.feed(RESPONSE.substring(i, Math.min(i + 3, firstItemEnd)));
+        }
+        Assertions.assertEquals(1, items.size(), "첫 항목이 닫히면 바로 전달되어야 합니다");
+        Assertions.assertEquals("트랜잭션 전파 속성을 설명해주세요", items.get(0).get("question"));
+        
+        parser.feed(RESPONSE.substring(firstItemEnd));
+        parser.endOfInput();
+        
+        Assertions.assertTrue(parser.isComplete());
+        Assertions.assertEquals(2, items.size());
+        Assertions.assertEquals("백엔드 중심", values.get("analysis"));
+    }
+    
+    @Test
+    @DisplayName("잘린 응답은 완성된 항목만 전달하고 미완성 상태로 끝난다")
+    void endOfInput_TruncatedResponse_KeepsCompleteItems() throws Exception {
+        String truncated = RESPONSE.substring(0, RESPONSE.indexOf("MSA 전환"));
+        
+        parser.feed(truncated);
+        parser.endOfInput();
+        
+        Assertions.assertFalse(parser.isComplete());
+        Assertions.assertEquals(1, items.size());
+        Assertions.assertTrue(values.isEmpty());
+    }
+}
@@ -0,0 +1,96 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.config.ModelRoutingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("모델 라우팅 테스트")
+class ModelRouterTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    @Test
+    @DisplayName("라우팅이 꺼져 있으면 openai.api 설정의 기본 모델만 사용한다")
+    void route_Disabled_UsesDefaultModel() {
+        // Given
+        ModelRouter router = new ModelRouter(new ModelRoutingProperties(), meterRegistry, "gpt-3.5-turbo", 0.7);
+        
+        // When
+        List<ModelRouter.ModelRoute> routes = router.route(PromptTemplateRegistry.INTERVIEW_QUESTIONS, 5000);
+        
+        // Then
+        Assertions.assertEquals(1, routes.size());
+        Assertions.assertEquals("gpt-3.5-turbo", routes.get(0).getModel());
+        Assertions.assertEquals(1000, routes.get(0).maxTokens(1000));
+    }
+    
+    @Test
+    @DisplayName("짧은 입력은 작은 모델부터, 긴 입력과 다른 생성 유형은 조건에 맞는 모델만 선택한다")
+    void route_SelectsByPromptSizeAndEndpoint() {
+        // Given
+        ModelRouter router = router(List.of(
+                route("small", "gpt-3.5-turbo", 600, List.of(PromptTemplateRegistry.INTERVIEW_QUESTIONS)),
+                route("large", "gpt-4o-mini", 0, List.of())));
+        
+        // When & Then
+        Assertions.assertEquals(List.of("small", "large"), names(router.route(PromptTemplateRegistry.INTERVIEW_QUESTIONS, 400)));
+        Assertions.assertEquals(List.of("large"), names(router.route(PromptTemplateRegistry.INTERVIEW_QUESTIONS, 1200)));
+        Assertions.assertEquals(List.of("large"), names(router.route(PromptTemplateRegistry.LEARNING_PATH, 400)));
+    }
+    
+    @Test
+    @DisplayName("응답 지연이 임계값을 넘거나 최근 실패한 모델은 뒤로 미룬다")
+    void route_DefersSlowOrFailingModels() {
+        // Given
+        ModelRouter router = router(List.of(
+                route("primary", "gpt-4o-mini", 0, List.of()),
+                route("fallback", "gpt-3.5-turbo", 0, List.of())));
+        ModelRouter.ModelRoute primary = router.route(PromptTemplateRegistry.LEARNING_PATH, 100).get(0);
+        ModelRouter.ModelRoute fallback = router.route(PromptTemplateRegistry.LEARNING_PATH, 100).get(1);
+        
+        // When - 임계값(10초)보다 느린 성공 응답
+        router.record(primary, TimeUnit.SECONDS.toNanos(20), OpenAIMetrics.SUCCESS);
+        
+        // Then
+        Assertions.assertEquals(List.of("fallback", "primary"), names(router.route(PromptTemplateRegistry.LEARNING_PATH, 100)));
+        
+        // When - 빠른 응답이 이어져 EWMA가 임계값 아래로 내려간 뒤, 대체 모델이 429로 실패
+        for (int i = 0; i < 10; i++) {
+            router.record(primary, TimeUnit.SECONDS.toNanos(1), OpenAIMetrics.SUCCESS);
+        }
+        router.record(fallback, TimeUnit.MILLISECONDS.toNanos(50), OpenAIMetrics.RATE_LIMITED);
+        
+        // Then
+        Assertions.assertEquals(List.of("primary", "fallback"), names(router.route(PromptTemplateRegistry.LEARNING_PATH, 100)));
+        Assertions.assertTrue(ModelRouter.isFailover(OpenAIMetrics.UPSTREAM_ERROR));
+        Assertions.assertFalse(ModelRouter.isFailover(OpenAIMetrics.ERROR));
+    }
+    
+    private ModelRouter router(List<ModelRoutingProperties.Route> routes) {
+        ModelRoutingProperties properties = new ModelRoutingProperties();
+        properties.setEnabled(true);
+        properties.setLatencyThresholdMillis(10_000L);
+        properties.setEwmaAlpha(0.5);
+        properties.setCooldownSeconds(60L);
+        properties.setRoutes(routes);
+        return new ModelRouter(properties, meterRegistry, "gpt-3.5-turbo", 0.7);
+    }
+    
+    private static ModelRoutingProperties.Route route(String name, String model, int maxPromptTokens, List<String> endpoints) {
+        ModelRoutingProperties.Route route = new ModelRoutingProperties.Route();
+        route.setName(name);
+        route.setModel(model);
+        route.setMaxPromptTokens(maxPromptTokens);
+        route.setEndpoints(endpoints);
+        return route;
+    }
+    
+    private static List<String> names(List<ModelRouter.ModelRoute> routes) {
+        return routes.stream().map(ModelRouter.ModelRoute::getName).toList();
+    }
+}
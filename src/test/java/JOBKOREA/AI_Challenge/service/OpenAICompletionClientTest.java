@@ -0,0 +1,281 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.config.ModelRoutingProperties;
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theokanning.openai.client.OpenAiApi;
+import com.theokanning.openai.completion.chat.ChatCompletionChoice;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatCompletionResult;
+import com.theokanning.openai.completion.chat.ChatFunctionCall;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reactivex.Single;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("OpenAI 호출 재시도/이어쓰기 테스트")
+class OpenAICompletionClientTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OpenAiApi openAiApi = Mockito.mock(OpenAiApi.class);
+    private OpenAICompletionClient client;
+    
+    @BeforeEach
+    void setUp() {
+        client = client(new ModelRoutingProperties());
+    }
+    
+    private OpenAICompletionClient client(ModelRoutingProperties routing) {
+        return client(routing, new HedgePolicy(meterRegistry, false, 0.95, 1000, 50, 5, 1000));
+    }
+    
+    private OpenAICompletionClient client(ModelRoutingProperties routing, HedgePolicy hedgePolicy) {
+        return client(routing, hedgePolicy, new UpstreamBulkheads(meterRegistry, true, 20, 2, 100, 0.9, 60, 5),
+                new OpenAIRateLimiter(meterRegistry, true, 3500, 90_000, 2_000));
+    }
+    
+    private OpenAICompletionClient client(ModelRoutingProperties routing, HedgePolicy hedgePolicy,
+                                          UpstreamBulkheads bulkheads, OpenAIRateLimiter rateLimiter) {
+        OpenAICompletionClient client = new OpenAICompletionClient(openAiApi, new OpenAIMetrics(meterRegistry),
+                bulkheads, rateLimiter,
+                new ModelRouter(routing, meterRegistry, "gpt-3.5-turbo", 0.7),
+                hedgePolicy);
+        ReflectionTestUtils.setField(client, "maxAttempts", 3);
+        ReflectionTestUtils.setField(client, "initialBackoffMillis", 10L);
+        ReflectionTestUtils.setField(client, "maxBackoffMillis", 50L);
+        ReflectionTestUtils.setField(client, "deadlineSeconds", 10L);
+        ReflectionTestUtils.setField(client, "maxContinuations", 1);
+        ReflectionTestUtils.setField(client, "continuationMaxTokens", 500);
+        return client;
+    }
+    
+    @Test
+    @DisplayName("5xx 응답은 재시도하여 성공한 응답을 반환한다")
+    void complete_ServerError_Retries() {
+        // Given
+        Mockito.when(openAiApi.createChatCompletion(Mockito.any()))
+                .thenReturn(Single.error(httpError(503, null)))
+                .thenReturn(Single.just(result("{\"questions\": []}", "stop")));
+        
+        // When
+        OpenAICompletionClient.Completion completion =
+                client.complete(PromptTemplateRegistry.INTERVIEW_QUESTIONS, budget(), client.newDeadline());
+        
+        // Then
+        Assertions.assertEquals("{\"questions\": []}", completion.getContent());
+        Assertions.assertEquals(1, meterRegistry.get("openai.retries").counter().count());
+    }
+    
+    @Test
+    @DisplayName("400 응답은 재시도하지 않는다")
+    void complete_ClientError_DoesNotRetry() {
+        // Given
+        Mockito.when(openAiApi.createChatCompletion(Mockito.any()))
+                .thenReturn(Single.error(httpError(400, null)));
+        
+        // When & Then
+        Assertions.assertThrows(RuntimeException.class,
+                () -> client.complete(PromptTemplateRegistry.INTERVIEW_QUESTIONS, budget(), client.newDeadline()));
+        Mockito.verify(openAiApi, Mockito.times(1)).createChatCompletion(Mockito.any());
+    }
+    
+    @Test
+    @DisplayName("잘린 응답은 이전 응답을 포함한 이어쓰기 호출로 완성한다")
+    void complete_TruncatedResponse_Continues() {
+        // Given
+        Mockito.when(openAiApi.createChatCompletion(Mockito.any()))
+                .thenReturn(Single.just(result("{\"questions\": [{\"question\": \"질", "length")))
+                .thenReturn(Single.just(result("문1\"}]}", "stop")));
+        
+        // When
+        OpenAICompletionClient.Completion completion =
+                client.complete(PromptTemplateRegistry.INTERVIEW_QUESTIONS, budget(), client.newDeadline());
+        
+        // Then
+        Assertions.assertEquals("{\"questions\": [{\"question\": \"질문1\"}]}", completion.getContent());
+        Assertions.assertEquals("{\"questions\": [{\"question\": \"질", completion.getUncontinuedContent());
+        Assertions.assertFalse(completion.isTruncated());
+        
+        ArgumentCaptor<ChatCompletionRequest> requests = ArgumentCaptor.forClass(ChatCompletionRequest.class);
+        Mockito.verify(openAiApi, Mockito.times(2)).createChatCompletion(requests.capture());
+        List<ChatMessage> continuation = requests.getAllValues().get(1).getMessages();
+        Assertions.assertEquals(3, continuation.size());
+        Assertions.assertEquals("assistant", continuation.get(1).getRole());
+        Assertions.assertEquals(Integer.valueOf(500), requests.getAllValues().get(1).getMaxTokens());
+    }
+    
+    @Test
+    @DisplayName("대체 모델이 있으면 5xx 응답을 같은 모델로 재시도하지 않고 다음 모델로 넘어간다")
+    void complete_ServerErrorWithFallback_FailsOver() {
+        // Given
+        ModelRoutingProperties routing = new ModelRoutingProperties();
+        routing.setEnabled(true);
+        routing.setRoutes(List.of(route("primary", "gpt-4o-mini", 800), route("fallback", "gpt-3.5-turbo", null)));
+        client = client(routing);
+        Mockito.when(openAiApi.createChatCompletion(Mockito.any()))
+                .thenReturn(Single.error(httpError(503, null)))
+                .thenReturn(Single.just(result("{\"questions\": []}", "stop")));
+        
+        // When
+        OpenAICompletionClient.Completion completion =
+                client.complete(PromptTemplateRegistry.INTERVIEW_QUESTIONS, budget(), client.newDeadline());
+        
+        // Then
+        Assertions.assertEquals("{\"questions\": []}", completion.getContent());
+        ArgumentCaptor<ChatCompletionRequest> requests = ArgumentCaptor.forClass(ChatCompletionRequest.class);
+        Mockito.verify(openAiApi, Mockito.times(2)).createChatCompletion(requests.capture());
+        Assertions.assertEquals("gpt-4o-mini", requests.getAllValues().get(0).getModel());
+        Assertions.assertEquals(Integer.valueOf(800), requests.getAllValues().get(0).getMaxTokens());
+        Assertions.assertEquals("gpt-3.5-turbo", requests.getAllValues().get(1).getModel());
+        Assertions.assertEquals(Integer.valueOf(1000), requests.getAllValues().get(1).getMaxTokens());
+        Assertions.assertEquals(1, meterRegistry.get("openai.routing.failovers").tag("from", "primary").counter().count());
+        Assertions.assertTrue(meterRegistry.find("openai.retries").counters().isEmpty());
+    }
+    
+    @Test
+    @DisplayName("429 응답의 Retry-After 헤더 값을 밀리초로 읽는다")
+    void retryAfterMillis_ReadsHeader() {
+        Assertions.assertEquals(2_000L, OpenAICompletionClient.retryAfterMillis(
+                new RuntimeException(httpError(429, "2"))));
+        Assertions.assertEquals(0L, OpenAICompletionClient.retryAfterMillis(new RuntimeException("no header")));
+    }
+    
+    @Test
+    @DisplayName("헤지 지연 시간 안에 응답이 없으면 같은 요청을 한 번 더 보내 먼저 온 응답을 사용한다")
+    void complete_SlowPrimary_HedgeWins() {
+        // Given
+        client = client(new ModelRoutingProperties(), new HedgePolicy(meterRegistry, true, 0.95, 50, 0, 100, 100));
+        Mockito.when(openAiApi.createChatCompletion(Mockito.any()))
+                .thenReturn(Single.just(result("{\"questions\": [\"느린 응답\"]}", "stop")).delay(5, TimeUnit.SECONDS))
+                .thenReturn(Single.just(result("{\"questions\": []}", "stop")));
+        
+        // When
+        long started = System.nanoTime();
+        OpenAICompletionClient.Completion completion =
+                client.complete(PromptTemplateRegistry.INTERVIEW_QUESTIONS, budget(), client.newDeadline());
+        
+        // Then
+        Assertions.assertEquals("{\"questions\": []}", completion.getContent());
+        Assertions.assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(5));
+        Mockito.verify(openAiApi, Mockito.times(2)).createChatCompletion(Mockito.any());
+        Assertions.assertEquals(1, meterRegistry.get("openai.hedge.requests").tag("outcome", "sent").counter().count());
+        Assertions.assertEquals(1, meterRegistry.get("openai.hedge.wins").tag("winner", HedgePolicy.HEDGE).counter().count());
+    }
+    
+    @Test
+    @DisplayName("원 요청이 헤지 지연 시간 전에 실패하면 헤지 요청을 보내지 않고 바로 실패한다")
+    void complete_PrimaryFailsBeforeHedgeDelay_DoesNotHedge() {
+        // Given
+        client = client(new ModelRoutingProperties(), new HedgePolicy(meterRegistry, true, 0.95, 3000, 0, 100, 100));
+        Mockito.when(openAiApi.createChatCompletion(Mockito.any()))
+                .thenReturn(Single.error(httpError(400, null)));
+        
+        // When
+        long started = System.nanoTime();
+        Assertions.assertThrows(RuntimeException.class,
+                () -> client.complete(PromptTemplateRegistry.INTERVIEW_QUESTIONS, budget(), client.newDeadline()));
+        
+        // Then
+        Assertions.assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(2));
+        Mockito.verify(openAiApi, Mockito.times(1)).createChatCompletion(Mockito.any());
+        Assertions.assertTrue(meterRegistry.find("openai.hedge.requests").counters().isEmpty());
+    }
+    
+    @Test
+    @DisplayName("격벽 한도 초과로 거절된 호출은 RPM/TPM 용량을 차감하지 않는다")
+    void complete_BulkheadRejects_RefundsRateLimit() {
+        // Given - 한도 1인 격벽을 다른 호출이 이미 사용 중
+        UpstreamBulkheads bulkheads = new UpstreamBulkheads(meterRegistry, true, 1, 1, 1, 0.9, 60, 5);
+        OpenAIRateLimiter rateLimiter = new OpenAIRateLimiter(meterRegistry, true, 3500, 90_000, 2_000);
+        client = client(new ModelRoutingProperties(), new HedgePolicy(meterRegistry, false, 0.95, 1000, 50, 5, 1000),
+                bulkheads, rateLimiter);
+        AdaptiveConcurrencyLimiter.Permit inFlight = bulkheads.acquire(PromptTemplateRegistry.INTERVIEW_QUESTIONS);
+        
+        // When
+        Assertions.assertThrows(ServiceOverloadedException.class,
+                () -> client.complete(PromptTemplateRegistry.INTERVIEW_QUESTIONS, budget(), client.newDeadline()));
+        
+        // Then
+        Mockito.verify(openAiApi, Mockito.never()).createChatCompletion(Mockito.any());
+        Assertions.assertEquals(3500, rateLimiter.available(OpenAIRateLimiter.REQUESTS));
+        Assertions.assertEquals(90_000, rateLimiter.available(OpenAIRateLimiter.TOKENS));
+        UpstreamBulkheads.release(inFlight, null);
+    }
+    
+    private static ModelRoutingProperties.Route route(String name, String model, Integer maxTokens) {
+        ModelRoutingProperties.Route route = new ModelRoutingProperties.Route();
+        route.setName(name);
+        route.setModel(model);
+        route.setMaxTokens(maxTokens);
+        return route;
+    }
+    
+    @Test
+    @DisplayName("구조화 출력 함수가 주어지면 함수 호출을 강제하고 인자를 응답으로 반환한다")
+    void complete_StructuredOutput_ReturnsFunctionArguments() throws Exception {
+        // Given
+        StructuredOutput structuredOutput = new StructuredOutput(new ObjectMapper(), "function");
+        ChatMessage message = new ChatMessage("assistant", null);
+        message.setFunctionCall(new ChatFunctionCall("submit_interview_questions",
+                new ObjectMapper().readTree("{\"questions\": [], \"analysis\": \"분석\"}")));
+        ChatCompletionChoice choice = new ChatCompletionChoice();
+        choice.setMessage(message);
+        choice.setFinishReason("stop");
+        ChatCompletionResult result = new ChatCompletionResult();
+        result.setChoices(List.of(choice));
+        Mockito.when(openAiApi.createChatCompletion(Mockito.any())).thenReturn(Single.just(result));
+        
+        // When
+        OpenAICompletionClient.Completion completion = client.complete(PromptTemplateRegistry.INTERVIEW_QUESTIONS,
+                budget(), client.newDeadline(), structuredOutput.function(PromptTemplateRegistry.INTERVIEW_QUESTIONS));
+        
+        // Then
+        Assertions.assertEquals("분석", completion.getArguments().path("analysis").asText());
+        ArgumentCaptor<ChatCompletionRequest> request = ArgumentCaptor.forClass(ChatCompletionRequest.class);
+        Mockito.verify(openAiApi).createChatCompletion(request.capture());
+        Assertions.assertEquals(1, request.getValue().getFunctions().size());
+        Assertions.assertEquals("submit_interview_questions", request.getValue().getFunctionCall().getName());
+    }
+    
+    private static TokenBudgeter.TokenBudget budget() {
+        return new TokenBudgeter.TokenBudget("프롬프트", 100, 1000);
+    }
+    
+    private static ChatCompletionResult result(String content, String finishReason) {
+        ChatCompletionChoice choice = new ChatCompletionChoice();
+        choice.setMessage(new ChatMessage("assistant", content));
+        choice.setFinishReason(finishReason);
+        ChatCompletionResult result = new ChatCompletionResult();
+        result.setChoices(List.of(choice));
+        return result;
+    }
+    
+    private static HttpException httpError(int status, String retryAfter) {
+        okhttp3.Response.Builder raw = new okhttp3.Response.Builder()
+                .code(status)
+                .message("error")
+                .protocol(Protocol.HTTP_1_1)
+                .request(new Request.Builder().url("http://localhost/v1/chat/completions").build());
+        if (retryAfter != null) {
+            raw.header("Retry-After", retryAfter);
+        }
+        ResponseBody body = ResponseBody.create(MediaType.get("application/json"),
+                "{\"error\": {\"message\": \"error\", \"type\": \"server_error\"}}");
+        return new HttpException(Response.error(body, raw.build()));
+    }
+}
@@ -0,0 +1,118 @@
+package JOBKOREA.AI_Challenge.service;
+
+import com.theokanning.openai.OpenAiError;
+import com.theokanning.openai.OpenAiHttpException;
+import com.theokanning.openai.Usage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+
+@DisplayName("OpenAI 호출 메트릭 테스트")
+class OpenAIMetricsTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OpenAIMetrics metrics = new OpenAIMetrics(meterRegistry);
+    
+    @Test
+    @DisplayName("예외 원인에 따라 호출 결과를 분류한다")
+    void outcome_ClassifiesCauses() {
+        // Given
+        OpenAiError error = new OpenAiError(new OpenAiError.OpenAiErrorDetails("rate limit", "requests", null, null));
+        
+        // When & Then
+        Assertions.assertEquals(OpenAIMetrics.TIMEOUT,
+                OpenAIMetrics.outcome(new RuntimeException(new SocketTimeoutException("timeout"))));
+        Assertions.assertEquals(OpenAIMetrics.RATE_LIMITED,
+                OpenAIMetrics.outcome(new OpenAiHttpException(error, null, 429)));
+        Assertions.assertEquals(OpenAIMetrics.UPSTREAM_ERROR,
+                OpenAIMetrics.outcome(new OpenAiHttpException(error, null, 503)));
+        Assertions.assertEquals(OpenAIMetrics.ERROR,
+                OpenAIMetrics.outcome(new IllegalStateException("unknown")));
+    }
+    
+    @Test
+    @DisplayName("usage 의 프롬프트/출력 토큰 수를 카운터에 누적한다")
+    void recordUsage_IncrementsTokenCounters() {
+        // Given
+        Usage usage = new Usage();
+        usage.setPromptTokens(120);
+        usage.setCompletionTokens(480);
+        
+        // When
+        metrics.recordUsage("interview-questions", "gpt-3.5-turbo", usage);
+        metrics.recordUsage("interview-questions", "gpt-3.5-turbo", usage);
+        
+        // Then
+        Assertions.assertEquals(240, meterRegistry.get("openai.tokens").tag("type", "prompt").counter().count());
+        Assertions.assertEquals(960, meterRegistry.get("openai.tokens").tag("type", "completion").counter().count());
+    }
+    
+    @Test
+    @DisplayName("파싱 실패는 parse-failure 태그로 기록되고 예외는 그대로 전달된다")
+    void recordParse_Failure_TaggedAsParseFailure() {
+        // When
+        Assertions.assertThrows(RuntimeException.class, () -> metrics.recordParse("learning-path", () -> {
+            throw new RuntimeException("invalid json");
+        }));
+        
+        // Then
+        Assertions.assertEquals(1, meterRegistry.get("openai.response.parse")
+                .tag("outcome", OpenAIMetrics.PARSE_FAILURE).timer().count());
+    }
+    
+    @Test
+    @DisplayName("파싱 결과는 응답 형식(mode) 태그로 나뉘어 기록된다")
+    void recordParse_Mode_TaggedByMode() {
+        // When
+        metrics.recordParse("interview-questions", "function", () -> "ok");
+        metrics.recordParse("interview-questions", () -> "ok");
+        
+        // Then
+        Assertions.assertEquals(1, meterRegistry.get("openai.response.parse")
+                .tag("mode", "function").tag("outcome", OpenAIMetrics.SUCCESS).timer().count());
+        Assertions.assertEquals(1, meterRegistry.get("openai.response.parse")
+                .tag("mode", "text").tag("outcome", OpenAIMetrics.SUCCESS).timer().count());
+    }
+    
+    @Test
+    @DisplayName("여러 스레드에서 기록된 usage를 통합 분석 요청 단위로 합산한다")
+    void tokenTally_SumsUsageAcrossThreads() throws Exception {
+        // Given
+        Usage usage = new Usage();
+        usage.setPromptTokens(100);
+        usage.setCompletionTokens(300);
+        OpenAIMetrics.TokenTally tally = new OpenAIMetrics.TokenTally();
+        
+        // When
+        Thread other = new Thread(() -> {
+            try {
+                tally.track(() -> {
+                    metrics.recordUsage("learning-path", "gpt-3.5-turbo", usage);
+                    return null;
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        other.start();
+        tally.track(() -> {
+            metrics.recordUsage("interview-questions", "gpt-3.5-turbo", usage);
+            return null;
+        });
+        other.join();
+        // 집계 범위 밖에서 기록된 usage는 더해지지 않음
+        metrics.recordUsage("interview-questions", "gpt-3.5-turbo", usage);
+        metrics.recordComprehensive(metrics.startCall(), "parallel", OpenAIMetrics.SUCCESS, tally);
+        
+        // Then
+        Assertions.assertEquals(200, tally.getPromptTokens());
+        Assertions.assertEquals(600, tally.getCompletionTokens());
+        Assertions.assertEquals(600, meterRegistry.get("openai.comprehensive.tokens")
+                .tag("mode", "parallel").tag("type", "completion").summary().totalAmount());
+        Assertions.assertEquals(1, meterRegistry.get("openai.comprehensive")
+                .tag("mode", "parallel").timer().count());
+    }
+}
@@ -0,0 +1,95 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RPM/TPM 토큰 버킷 제한기 테스트")
+class OpenAIRateLimiterTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    @Test
+    @DisplayName("분당 요청 수를 넘으면 대기 한도 안에 채워지지 않는 요청을 거절한다")
+    void acquire_RequestsExhausted_Sheds() {
+        // Given
+        OpenAIRateLimiter limiter = new OpenAIRateLimiter(meterRegistry, true, 2, 100_000, 0);
+        limiter.acquire(100);
+        limiter.acquire(100);
+        
+        // When
+        ServiceOverloadedException exception =
+                Assertions.assertThrows(ServiceOverloadedException.class, () -> limiter.acquire(100));
+        
+        // Then
+        Assertions.assertEquals("rate-limit-requests", exception.getBulkhead());
+        Assertions.assertTrue(exception.getRetryAfterSeconds() >= 1);
+        Assertions.assertEquals(1, meterRegistry.get("openai.ratelimit.rejected").tag("bucket", "requests").counter().count());
+    }
+    
+    @Test
+    @DisplayName("프롬프트 토큰과 maxTokens 합이 남은 TPM을 넘으면 토큰 버킷 기준으로 거절한다")
+    void acquire_TokensExhausted_Sheds() {
+        // Given
+        OpenAIRateLimiter limiter = new OpenAIRateLimiter(meterRegistry, true, 100, 6_000, 0);
+        limiter.acquire(5_000);
+        
+        // When
+        ServiceOverloadedException exception =
+                Assertions.assertThrows(ServiceOverloadedException.class, () -> limiter.acquire(3_000));
+        
+        // Then
+        Assertions.assertEquals("rate-limit-tokens", exception.getBulkhead());
+    }
+    
+    @Test
+    @DisplayName("대기 한도 안에 용량이 채워지면 거절하지 않고 대기 후 통과한다")
+    void acquire_ShortWait_Queues() {
+        // Given - 분당 600,000 토큰 = 1ms당 10 토큰
+        OpenAIRateLimiter limiter = new OpenAIRateLimiter(meterRegistry, true, 100, 600_000, 1_000);
+        limiter.acquire(600_000);
+        
+        // When
+        long start = System.nanoTime();
+        limiter.acquire(1_000);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        
+        // Then
+        Assertions.assertTrue(elapsedMillis >= 50, "대기 시간: " + elapsedMillis + "ms");
+        Assertions.assertEquals(2, meterRegistry.get("openai.ratelimit.wait").timer().count());
+    }
+    
+    @Test
+    @DisplayName("tryAcquire는 기다려야 하는 경우 차감 없이 false를 반환한다")
+    void tryAcquire_NoImmediateCapacity_ReturnsFalse() {
+        // Given
+        OpenAIRateLimiter limiter = new OpenAIRateLimiter(meterRegistry, true, 100, 6_000, 2_000);
+        limiter.acquire(5_000);
+        
+        // When & Then
+        Assertions.assertFalse(limiter.tryAcquire(3_000));
+        Assertions.assertTrue(limiter.tryAcquire(500));
+        Assertions.assertEquals(0, meterRegistry.get("openai.ratelimit.rejected").tag("bucket", "tokens").counter().count());
+    }
+    
+    @Test
+    @DisplayName("refund는 OpenAI에 보내지 않은 요청의 용량을 버킷 크기 안에서 되돌린다")
+    void refund_RestoresReservedCapacity() {
+        // Given
+        OpenAIRateLimiter limiter = new OpenAIRateLimiter(meterRegistry, true, 2, 6_000, 0);
+        limiter.acquire(5_000);
+        limiter.acquire(500);
+        
+        // When
+        limiter.refund(5_000);
+        limiter.refund(500);
+        limiter.refund(500);
+        
+        // Then
+        Assertions.assertEquals(2, limiter.available(OpenAIRateLimiter.REQUESTS));
+        Assertions.assertEquals(6_000, limiter.available(OpenAIRateLimiter.TOKENS));
+        Assertions.assertDoesNotThrow(() -> limiter.acquire(5_000));
+    }
+}
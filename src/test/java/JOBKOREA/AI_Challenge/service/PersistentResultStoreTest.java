@@ -0,0 +1,166 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("결과 영구 저장소 테스트")
+class PersistentResultStoreTest {
+    
+    @TempDir
+    Path directory;
+    
+    private final List<PersistentResultStore> opened = new ArrayList<>();
+    
+    private PersistentResultStore open(DataSize maxSize, int maxEntries) throws IOException {
+        PersistentResultStore store = new PersistentResultStore(new ObjectMapper(), new SimpleMeterRegistry(), true,
+                directory, maxSize, maxEntries);
+        store.open();
+        opened.add(store);
+        return store;
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        for (PersistentResultStore store : opened) {
+            store.close();
+        }
+    }
+    
+    @Test
+    @DisplayName("저장한 결과는 재시작 후에도 조회된다")
+    void put_Reopen_ReturnsStoredResult() throws IOException {
+        // Given
+        PersistentResultStore store = open(DataSize.ofMegabytes(1), 100);
+        store.put("interview-questions:a", result("분석 A"));
+        store.put("interview-questions:b", result("분석 B"));
+        store.close();
+        
+        // When
+        PersistentResultStore reopened = open(DataSize.ofMegabytes(1), 100);
+        
+        // Then
+        Assertions.assertEquals(2, reopened.size());
+        Assertions.assertEquals("분석 A", reopened.get("interview-questions:a", InterviewQuestionsResponseDto.class).getAnalysis());
+        Assertions.assertEquals("분석 B", reopened.get("interview-questions:b", InterviewQuestionsResponseDto.class).getAnalysis());
+        Assertions.assertNull(reopened.get("interview-questions:c", InterviewQuestionsResponseDto.class));
+    }
+    
+    @Test
+    @DisplayName("같은 키로 다시 저장하면 최신 결과를 반환한다")
+    void put_SameKey_ReturnsLatest() throws IOException {
+        PersistentResultStore store = open(DataSize.ofMegabytes(1), 100);
+        
+        store.put("learning-path:a", result("이전"));
+        store.put("learning-path:a", result("최신"));
+        
+        Assertions.assertEquals(1, store.size());
+        Assertions.assertEquals("최신", store.get("learning-path:a", InterviewQuestionsResponseDto.class).getAnalysis());
+    }
+    
+    @Test
+    @DisplayName("최대 항목 수에 도달하면 압축하면서 오래된 결과부터 제거한다")
+    void put_OverMaxEntries_CompactsAndEvictsOldest() throws IOException {
+        // Given
+        PersistentResultStore store = open(DataSize.ofMegabytes(1), 8);
+        
+        // When - 8번째 저장에서 압축되어 최신 6건만 남음
+        for (int i = 0; i < 8; i++) {
+            store.put("interview-questions:" + i, result("분석 " + i));
+        }
+        
+        // Then
+        Assertions.assertEquals(6, store.size());
+        Assertions.assertNull(store.get("interview-questions:0", InterviewQuestionsResponseDto.class));
+        Assertions.assertNull(store.get("interview-questions:1", InterviewQuestionsResponseDto.class));
+        Assertions.assertEquals("분석 7", store.get("interview-questions:7", InterviewQuestionsResponseDto.class).getAnalysis());
+    }
+    
+    @Test
+    @DisplayName("로그 크기 상한을 넘지 않도록 압축한다")
+    void put_OverMaxSize_KeepsLogWithinBound() throws IOException {
+        PersistentResultStore store = open(DataSize.ofKilobytes(4), 1000);
+        
+        for (int i = 0; i < 100; i++) {
+            store.put("interview-questions:" + i, result("분석 " + i));
+        }
+        
+        Assertions.assertTrue(Files.size(directory.resolve(PersistentResultStore.LOG_FILE)) <= DataSize.ofKilobytes(4).toBytes());
+        Assertions.assertNotNull(store.get("interview-questions:99", InterviewQuestionsResponseDto.class));
+    }
+    
+    @Test
+    @DisplayName("기록 중 종료로 손상된 로그 끝과 유실된 색인은 시작 시 복구한다")
+    void open_TornTailAndMissingIndex_Recovers() throws IOException {
+        // Given
+        PersistentResultStore store = open(DataSize.ofMegabytes(1), 100);
+        store.put("interview-questions:a", result("분석 A"));
+        store.close();
+        Files.write(directory.resolve(PersistentResultStore.LOG_FILE), new byte[]{0, 0, 1, 0, 7, 7},
+                StandardOpenOption.APPEND);
+        Files.delete(directory.resolve(PersistentResultStore.INDEX_FILE));
+        
+        // When
+        PersistentResultStore reopened = open(DataSize.ofMegabytes(1), 100);
+        reopened.put("interview-questions:b", result("분석 B"));
+        
+        // Then
+        Assertions.assertEquals("분석 A", reopened.get("interview-questions:a", InterviewQuestionsResponseDto.class).getAnalysis());
+        Assertions.assertEquals("분석 B", reopened.get("interview-questions:b", InterviewQuestionsResponseDto.class).getAnalysis());
+    }
+    
+    @Test
+    @DisplayName("더 작은 최대 항목 수로 다시 열면 최신 결과만 남기고 압축한다")
+    void open_SmallerMaxEntries_EvictsOldestAndCompacts() throws IOException {
+        // Given - 최대 100건으로 60건을 저장하고, 3번 결과는 마지막에 다시 저장
+        PersistentResultStore store = open(DataSize.ofMegabytes(1), 100);
+        for (int i = 0; i < 60; i++) {
+            store.put("interview-questions:" + i, result("분석 " + i));
+        }
+        store.put("interview-questions:3", result("최신 3"));
+        store.close();
+        
+        // When - 색인 슬롯(16개)보다 많은 키가 기록된 로그를 최대 8건으로 다시 엶
+        PersistentResultStore reopened = open(DataSize.ofMegabytes(1), 8);
+        
+        // Then - 압축 목표인 최신 6건만 남음
+        Assertions.assertEquals(6, reopened.size());
+        Assertions.assertEquals("최신 3", reopened.get("interview-questions:3", InterviewQuestionsResponseDto.class).getAnalysis());
+        Assertions.assertEquals("분석 59", reopened.get("interview-questions:59", InterviewQuestionsResponseDto.class).getAnalysis());
+        Assertions.assertEquals("분석 55", reopened.get("interview-questions:55", InterviewQuestionsResponseDto.class).getAnalysis());
+        Assertions.assertNull(reopened.get("interview-questions:54", InterviewQuestionsResponseDto.class));
+        Assertions.assertNull(reopened.get("interview-questions:0", InterviewQuestionsResponseDto.class));
+        reopened.close();
+        
+        // 압축된 로그는 같은 상한으로 다시 열어도 그대로 유지됨
+        PersistentResultStore again = open(DataSize.ofMegabytes(1), 8);
+        Assertions.assertEquals(6, again.size());
+        Assertions.assertEquals("최신 3", again.get("interview-questions:3", InterviewQuestionsResponseDto.class).getAnalysis());
+    }
+    
+    private static InterviewQuestionsResponseDto result(String analysis) {
+        return InterviewQuestionsResponseDto.builder()
+                .questions(List.of(InterviewQuestionsResponseDto.QuestionDto.builder()
+                        .question("질문")
+                        .category("기술적 역량")
+                        .difficulty("중급")
+                        .expectedAnswer("답변")
+                        .tips("팁")
+                        .build()))
+                .analysis(analysis)
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("프롬프트 템플릿 테스트")
+class PromptTemplateTest {
+    
+    private final ResumeRequestDto resumeRequest = ResumeRequestDto.builder()
+            .careerSummary("3년차 백엔드 개발자")
+            .jobDescription("커머스 서비스 개발")
+            .technicalSkills("Java, Spring Boot")
+            .build();
+    
+    @Test
+    @DisplayName("변수를 치환하고 값이 없는 추가 정보는 기본값으로 채운다")
+    void render_SubstitutesVariables() {
+        PromptTemplate template = PromptTemplate.compile("test", "v1",
+                "경력: {{careerSummary}}\n기술: {{ technicalSkills }}\n추가: {{additionalInfo}}");
+        
+        Assertions.assertEquals("경력: 3년차 백엔드 개발자\n기술: Java, Spring Boot\n추가: 없음",
+                template.render(resumeRequest));
+        Assertions.assertEquals("test@v1", template.getId());
+    }
+    
+    @Test
+    @DisplayName("알 수 없는 변수가 있으면 컴파일 시점에 실패한다")
+    void compile_UnknownVariable_Throws() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> PromptTemplate.compile("test", "v1", "이름: {{name}}"));
+    }
+    
+    @Test
+    @DisplayName("배포된 모든 템플릿 버전이 로드되고 변수가 남지 않는다")
+    void registry_LoadsBundledTemplates() {
+        for (String version : new String[]{"v1", "v2"}) {
+            PromptTemplateRegistry registry = new PromptTemplateRegistry(version, version, version);
+            
+            String interviewPrompt = registry.interviewQuestions().render(resumeRequest);
+            String learningPathPrompt = registry.learningPath().render(resumeRequest);
+            String comprehensivePrompt = registry.comprehensive().render(resumeRequest);
+            
+            Assertions.assertTrue(interviewPrompt.contains("경력: 3년차 백엔드 개발자"));
+            Assertions.assertFalse(interviewPrompt.contains("{{"));
+            Assertions.assertFalse(learningPathPrompt.contains("{{"));
+            Assertions.assertFalse(comprehensivePrompt.contains("{{"));
+        }
+    }
+}
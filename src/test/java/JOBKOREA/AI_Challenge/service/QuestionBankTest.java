@@ -0,0 +1,214 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.BatchItemResultDto;
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reactivex.disposables.Disposables;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+@DisplayName("질문 뱅크 테스트")
+class QuestionBankTest {
+    
+    @TempDir
+    Path directory;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private QuestionBank questionBank;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        questionBank = bank();
+        questionBank.save(List.of(
+                bucket("backend", "mid", List.of("Java", "Spring Boot", "JPA", "MySQL"), "백엔드 중급"),
+                bucket("backend", "junior", List.of("Java", "Spring Boot", "JPA", "MySQL"), "백엔드 주니어"),
+                bucket("frontend", "mid", List.of("TypeScript", "React", "Next.js"), "프론트엔드 중급")));
+    }
+    
+    private QuestionBank bank() {
+        return new QuestionBank(objectMapper, meterRegistry, true, directory.resolve("question-bank.json"), 0.6);
+    }
+    
+    @Test
+    @DisplayName("직무, 경력 수준, 스킬이 맞는 버킷의 질문 세트를 반환한다")
+    void find_MatchingBucket_ReturnsQuestions() {
+        // Given - 스킬 표기와 순서만 다른 이력서
+        ResumeRequestDto resume = resume("3년차 백엔드 개발자", "mysql / spring boot / java / jpa");
+        
+        // When
+        InterviewQuestionsResponseDto result = questionBank.find(resume);
+        
+        // Then
+        Assertions.assertNotNull(result);
+        Assertions.assertEquals("백엔드 중급", result.getAnalysis());
+        Assertions.assertEquals(1, meterRegistry.get("openai.question-bank.lookup").tag("result", "hit").timer().count());
+    }
+    
+    @Test
+    @DisplayName("경력 수준이 다르면 해당 수준의 버킷을 사용한다")
+    void find_CareerLevel_SelectsBucket() {
+        InterviewQuestionsResponseDto result = questionBank.find(resume("신입 백엔드 개발자", "Java, Spring Boot, JPA, MySQL"));
+        
+        Assertions.assertEquals("백엔드 주니어", result.getAnalysis());
+    }
+    
+    @Test
+    @DisplayName("스킬 일치율이 기준 미만이면 실시간 생성하도록 null을 반환한다")
+    void find_InsufficientCoverage_ReturnsNull() {
+        // Given - 4개 중 2개만 겹침 (일치율 0.5)
+        ResumeRequestDto partial = resume("3년차 백엔드 개발자", "Java, Spring Boot, Kafka, Redis");
+        // 스킬은 같지만 직무가 다름
+        ResumeRequestDto otherRole = resume("3년차 프론트엔드 개발자", "Java, Spring Boot, JPA, MySQL");
+        
+        // When & Then
+        Assertions.assertNull(questionBank.find(partial));
+        Assertions.assertNull(questionBank.find(otherRole));
+        Assertions.assertEquals(2, meterRegistry.get("openai.question-bank.lookup").tag("result", "miss").timer().count());
+    }
+    
+    @Test
+    @DisplayName("저장한 뱅크 파일을 시작 시 다시 읽는다")
+    void load_SavedFile_RestoresIndex() {
+        QuestionBank reloaded = bank();
+        reloaded.load();
+        
+        InterviewQuestionsResponseDto result = reloaded.find(resume("4년차 프론트엔드 개발자", "React, TypeScript, Next.js"));
+        
+        Assertions.assertEquals("프론트엔드 중급", result.getAnalysis());
+    }
+    
+    @Test
+    @DisplayName("경력 요약에서 직무와 경력 수준을 분류한다")
+    void classify_RoleAndCareerLevel() {
+        Assertions.assertEquals("backend", QuestionBank.role("5년차 백엔드 개발자"));
+        Assertions.assertEquals("mobile", QuestionBank.role("android 앱 개발"));
+        Assertions.assertNull(QuestionBank.role("개발자"));
+        Assertions.assertEquals("junior", QuestionBank.careerLevel("2년 경력"));
+        Assertions.assertEquals("mid", QuestionBank.careerLevel("6년차"));
+        Assertions.assertEquals("senior", QuestionBank.careerLevel("10년차 시니어"));
+        Assertions.assertNull(QuestionBank.careerLevel("개발자"));
+    }
+    
+    @Test
+    @DisplayName("연도 표기는 경력 연수로, 다른 단어의 일부는 직무 키워드로 보지 않는다")
+    void classify_IgnoresYearsAndPartialWords() {
+        Assertions.assertNull(QuestionBank.careerLevel("2019년 입사 후 개발자로 근무"));
+        Assertions.assertEquals("mid", QuestionBank.careerLevel("2019년 입사, 경력5년"));
+        Assertions.assertNull(QuestionBank.role("디자인 portfolios 관리"));
+        Assertions.assertNull(QuestionBank.role("observer 패턴 적용"));
+        Assertions.assertEquals("mobile", QuestionBank.role("ios/android 앱"));
+        Assertions.assertEquals("backend", QuestionBank.role("spring 백엔드를 개발"));
+    }
+    
+    @Test
+    @DisplayName("생성에 실패한 버킷은 기존 뱅크의 같은 버킷을 유지한다")
+    void generator_PartialFailure_KeepsExistingBuckets() throws Exception {
+        // Given - 백엔드 중급은 실패, 프론트엔드 중급은 새로 생성
+        QuestionBankGenerator generator = generator(List.of(
+                failed(0),
+                succeeded(1, "새 프론트엔드 중급")));
+        
+        // When
+        generator.run(null);
+        
+        // Then
+        Assertions.assertEquals("백엔드 중급",
+                questionBank.find(resume("3년차 백엔드 개발자", "Java, Spring Boot, JPA, MySQL")).getAnalysis());
+        Assertions.assertEquals("새 프론트엔드 중급",
+                questionBank.find(resume("4년차 프론트엔드 개발자", "React, TypeScript, Next.js")).getAnalysis());
+        Assertions.assertEquals(2, questionBank.saved().size());
+    }
+    
+    @Test
+    @DisplayName("모든 버킷 생성에 실패하면 기존 뱅크 파일을 그대로 둔다")
+    void generator_AllFailed_SkipsSave() throws Exception {
+        // Given
+        QuestionBankGenerator generator = generator(List.of(
+                failed(0),
+                failed(1)));
+        
+        // When
+        generator.run(null);
+        
+        // Then
+        Assertions.assertEquals(3, questionBank.saved().size());
+        Assertions.assertEquals("백엔드 주니어",
+                questionBank.find(resume("신입 백엔드 개발자", "Java, Spring Boot, JPA, MySQL")).getAnalysis());
+    }
+    
+    private QuestionBankGenerator generator(List<BatchItemResultDto> items) {
+        BatchGenerationService batchService = Mockito.mock(BatchGenerationService.class);
+        Mockito.when(batchService.generateInterviewQuestions(Mockito.anyList(), Mockito.eq(true), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    BatchResultListener listener = invocation.getArgument(2);
+                    items.forEach(listener::onItem);
+                    long succeeded = items.stream().filter(BatchItemResultDto::isSuccess).count();
+                    listener.onComplete((int) succeeded, items.size() - (int) succeeded);
+                    return Disposables.empty();
+                });
+        QuestionBankGenerator generator = new QuestionBankGenerator(batchService, questionBank, objectMapper);
+        ReflectionTestUtils.setField(generator, "definitions", new ByteArrayResource("""
+                [
+                  {"role": "backend", "careerLevel": "mid", "skills": ["MySQL", "JPA", "Spring Boot", "Java"],
+                   "careerSummary": "4년차 백엔드 개발자", "jobDescription": "커머스 주문 서비스 개발"},
+                  {"role": "frontend", "careerLevel": "mid", "skills": ["TypeScript", "React", "Next.js"],
+                   "careerSummary": "4년차 프론트엔드 개발자", "jobDescription": "커머스 웹 개발"}
+                ]
+                """.getBytes(StandardCharsets.UTF_8)));
+        return generator;
+    }
+    
+    private static BatchItemResultDto succeeded(int index, String analysis) {
+        return BatchItemResultDto.builder()
+                .index(index)
+                .success(true)
+                .result(InterviewQuestionsResponseDto.builder()
+                        .questions(List.of())
+                        .analysis(analysis)
+                        .build())
+                .build();
+    }
+    
+    private static BatchItemResultDto failed(int index) {
+        return BatchItemResultDto.builder()
+                .index(index)
+                .success(false)
+                .error("생성 실패")
+                .build();
+    }
+    
+    private static QuestionBank.Bucket bucket(String role, String careerLevel, List<String> skills, String analysis) {
+        return QuestionBank.Bucket.builder()
+                .role(role)
+                .careerLevel(careerLevel)
+                .skills(skills)
+                .result(InterviewQuestionsResponseDto.builder()
+                        .questions(List.of())
+                        .analysis(analysis)
+                        .build())
+                .build();
+    }
+    
+    private static ResumeRequestDto resume(String careerSummary, String technicalSkills) {
+        return ResumeRequestDto.builder()
+                .careerSummary(careerSummary)
+                .jobDescription("서비스 개발")
+                .technicalSkills(technicalSkills)
+                .build();
+    }
+}
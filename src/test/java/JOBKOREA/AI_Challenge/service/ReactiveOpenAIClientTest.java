@@ -0,0 +1,176 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.config.ModelRoutingProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theokanning.openai.client.OpenAiApi;
+import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("WebClient 기반 OpenAI 호출 테스트")
+class ReactiveOpenAIClientTest {
+    
+    private static final ObjectMapper OPENAI_MAPPER = OpenAiService.defaultObjectMapper();
+    private static final ExchangeStrategies STRATEGIES = ExchangeStrategies.builder()
+            .codecs(codecs -> {
+                codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(OPENAI_MAPPER));
+                codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(OPENAI_MAPPER));
+            })
+            .build();
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Queue<ClientResponse> responses = new ArrayDeque<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private OpenAICompletionClient completionClient;
+    private ReactiveOpenAIClient client;
+    
+    @BeforeEach
+    void setUp() {
+        OpenAIMetrics metrics = new OpenAIMetrics(meterRegistry);
+        UpstreamBulkheads bulkheads = new UpstreamBulkheads(meterRegistry, true, 20, 2, 100, 0.9, 60, 5);
+        OpenAIRateLimiter rateLimiter = new OpenAIRateLimiter(meterRegistry, true, 3500, 90_000, 2_000);
+        ModelRouter modelRouter = new ModelRouter(new ModelRoutingProperties(), meterRegistry, "gpt-3.5-turbo", 0.7);
+        completionClient = new OpenAICompletionClient(Mockito.mock(OpenAiApi.class), metrics, bulkheads, rateLimiter, modelRouter,
+                new HedgePolicy(meterRegistry, false, 0.95, 1000, 50, 5, 1000));
+        ReflectionTestUtils.setField(completionClient, "initialBackoffMillis", 10L);
+        ReflectionTestUtils.setField(completionClient, "maxBackoffMillis", 50L);
+        ReflectionTestUtils.setField(completionClient, "deadlineSeconds", 10L);
+        
+        WebClient webClient = WebClient.builder()
+                .exchangeStrategies(STRATEGIES)
+                .exchangeFunction(request -> {
+                    requestCount.incrementAndGet();
+                    return Mono.just(responses.remove());
+                })
+                .build();
+        client = new ReactiveOpenAIClient(webClient, completionClient, metrics, bulkheads, rateLimiter, modelRouter);
+        ReflectionTestUtils.setField(client, "maxAttempts", 3);
+        ReflectionTestUtils.setField(client, "maxContinuations", 1);
+        ReflectionTestUtils.setField(client, "continuationMaxTokens", 500);
+    }
+    
+    @Test
+    @DisplayName("5xx 응답은 재시도하여 성공한 응답을 반환한다")
+    void complete_ServerError_Retries() throws Exception {
+        // Given
+        responses.add(error(HttpStatus.SERVICE_UNAVAILABLE));
+        responses.add(completion("{\"questions\": []}", "stop"));
+        
+        // When
+        OpenAICompletionClient.Completion completion = client
+                .complete(PromptTemplateRegistry.INTERVIEW_QUESTIONS, budget(), completionClient.newDeadline())
+                .block();
+        
+        // Then
+        Assertions.assertEquals("{\"questions\": []}", completion.getContent());
+        Assertions.assertEquals(2, requestCount.get());
+        Assertions.assertEquals(1, meterRegistry.get("openai.retries").counter().count());
+    }
+    
+    @Test
+    @DisplayName("400 응답은 재시도하지 않는다")
+    void complete_ClientError_DoesNotRetry() {
+        // Given
+        responses.add(error(HttpStatus.BAD_REQUEST));
+        
+        // When & Then
+        Mono<OpenAICompletionClient.Completion> completion =
+                client.complete(PromptTemplateRegistry.INTERVIEW_QUESTIONS, budget(), completionClient.newDeadline());
+        Assertions.assertThrows(RuntimeException.class, completion::block);
+        Assertions.assertEquals(1, requestCount.get());
+    }
+    
+    @Test
+    @DisplayName("잘린 응답은 이어쓰기 호출로 완성하고 원래 응답을 함께 보관한다")
+    void complete_TruncatedResponse_Continues() throws Exception {
+        // Given
+        responses.add(completion("{\"questions\": [{\"question\": \"질", "length"));
+        responses.add(completion("문1\"}]}", "stop"));
+        
+        // When
+        OpenAICompletionClient.Completion completion = client
+                .complete(PromptTemplateRegistry.INTERVIEW_QUESTIONS, budget(), completionClient.newDeadline())
+                .block();
+        
+        // Then
+        Assertions.assertEquals("{\"questions\": [{\"question\": \"질문1\"}]}", completion.getContent());
+        Assertions.assertEquals("{\"questions\": [{\"question\": \"질", completion.getUncontinuedContent());
+        Assertions.assertEquals(1, completion.getContinuations());
+        Assertions.assertFalse(completion.isTruncated());
+    }
+    
+    @Test
+    @DisplayName("스트리밍 응답 조각을 [DONE] 전까지 순서대로 발행한다")
+    void stream_EmitsContentDeltas() throws Exception {
+        // Given
+        String body = chunk("{\"questions\"") + chunk(": []}") + "data: [DONE]\n\n";
+        responses.add(ClientResponse.create(HttpStatus.OK, STRATEGIES)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .body(body)
+                .build());
+        
+        // When
+        List<String> deltas = client.stream(PromptTemplateRegistry.INTERVIEW_QUESTIONS, budget()).collectList().block();
+        
+        // Then
+        Assertions.assertEquals(List.of("{\"questions\"", ": []}"), deltas);
+        Assertions.assertEquals(1, meterRegistry.get("openai.call").tag("endpoint", "stream.interview-questions")
+                .tag("outcome", OpenAIMetrics.SUCCESS).timer().count());
+    }
+    
+    private static TokenBudgeter.TokenBudget budget() {
+        return new TokenBudgeter.TokenBudget("프롬프트", 100, 1000);
+    }
+    
+    private static ClientResponse completion(String content, String finishReason) throws Exception {
+        String body = OPENAI_MAPPER.writeValueAsString(Map.of(
+                "id", "chatcmpl-test",
+                "object", "chat.completion",
+                "created", 1,
+                "model", "gpt-3.5-turbo",
+                "choices", List.of(Map.of(
+                        "index", 0,
+                        "message", Map.of("role", "assistant", "content", content),
+                        "finish_reason", finishReason))));
+        return ClientResponse.create(HttpStatus.OK, STRATEGIES)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+    
+    private static ClientResponse error(HttpStatus status) {
+        return ClientResponse.create(status, STRATEGIES)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"error\": {\"message\": \"error\"}}")
+                .build();
+    }
+    
+    private static String chunk(String content) throws Exception {
+        return "data: " + OPENAI_MAPPER.writeValueAsString(Map.of(
+                "id", "chatcmpl-test",
+                "object", "chat.completion.chunk",
+                "created", 1,
+                "model", "gpt-3.5-turbo",
+                "choices", List.of(Map.of("index", 0, "delta", Map.of("content", content))))) + "\n\n";
+    }
+}
@@ -0,0 +1,102 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("유사 이력서 캐시 테스트")
+class SemanticResponseCacheTest {
+    
+    private static final String SCOPE = "interview-questions:gpt-4o-mini:0.7:v1";
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResumeRequestDto original = resume(
+            "Spring 기반 백엔드 개발자로 3년간 커머스 주문/결제 서비스를 개발했습니다",
+            "Java, JPA, MySQL, Spring Boot");
+    
+    private SemanticResponseCache cache(double threshold, int maxEntries) {
+        return new SemanticResponseCache(meterRegistry, true, threshold, 128, 32, 3, maxEntries, 60);
+    }
+    
+    @Test
+    @DisplayName("표현만 조금 다른 이력서는 저장된 결과를 재사용한다")
+    void get_NearDuplicate_ReturnsCachedResult() {
+        // Given - 어미와 기술 스킬 나열 순서만 다른 이력서
+        SemanticResponseCache cache = cache(0.75, 100);
+        cache.put(SCOPE, original, "결과");
+        ResumeRequestDto reworded = resume(
+                "Spring 기반 백엔드 개발자로 3년간 커머스 주문/결제 서비스를 개발하였습니다",
+                "Spring Boot, Java, MySQL, JPA");
+        
+        // When
+        String cached = cache.get(SCOPE, reworded, String.class);
+        
+        // Then
+        Assertions.assertEquals("결과", cached);
+        Assertions.assertEquals(1, meterRegistry.get("openai.semantic-cache.lookup").tag("result", "hit").timer().count());
+    }
+    
+    @Test
+    @DisplayName("내용이 다른 이력서나 다른 scope의 결과는 반환하지 않는다")
+    void get_DifferentResumeOrScope_Misses() {
+        // Given
+        SemanticResponseCache cache = cache(0.75, 100);
+        cache.put(SCOPE, original, "결과");
+        ResumeRequestDto different = resume("React와 TypeScript로 5년간 사내 어드민 화면을 개발한 프론트엔드 개발자",
+                "React, TypeScript, Next.js");
+        
+        // When & Then
+        Assertions.assertNull(cache.get(SCOPE, different, String.class));
+        Assertions.assertNull(cache.get("interview-questions:gpt-4o:0.7:v1", original, String.class));
+        Assertions.assertEquals(2, meterRegistry.get("openai.semantic-cache.lookup").tag("result", "miss").timer().count());
+    }
+    
+    @Test
+    @DisplayName("기술 스킬은 나열 순서와 무관하게 같은 서명을 갖는다")
+    void signature_SkillOrder_Ignored() {
+        SemanticResponseCache cache = cache(0.9, 100);
+        int[] left = cache.signature(resume("백엔드 개발자", "Java, JPA, MySQL"));
+        int[] right = cache.signature(resume("백엔드 개발자", "mysql / java / jpa"));
+        
+        Assertions.assertEquals(1.0, SemanticResponseCache.similarity(left, right));
+    }
+    
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래된 결과부터 제거한다")
+    void put_OverMaxEntries_EvictsOldest() {
+        // Given
+        SemanticResponseCache cache = cache(0.75, 1);
+        ResumeRequestDto other = resume("React와 TypeScript로 5년간 사내 어드민 화면을 개발한 프론트엔드 개발자",
+                "React, TypeScript");
+        
+        // When
+        cache.put(SCOPE, original, "첫 번째");
+        cache.put(SCOPE, other, "두 번째");
+        
+        // Then
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertNull(cache.get(SCOPE, original, String.class));
+        Assertions.assertEquals("두 번째", cache.get(SCOPE, other, String.class));
+    }
+    
+    @Test
+    @DisplayName("비활성화하면 저장하지도 조회하지도 않는다")
+    void disabled_NeitherStoresNorReturns() {
+        SemanticResponseCache cache = new SemanticResponseCache(meterRegistry, false, 0.75, 128, 32, 3, 100, 60);
+        
+        cache.put(SCOPE, original, "결과");
+        
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertNull(cache.get(SCOPE, original, String.class));
+    }
+    
+    private static ResumeRequestDto resume(String careerSummary, String technicalSkills) {
+        return ResumeRequestDto.builder()
+                .careerSummary(careerSummary)
+                .jobDescription("주문 결제 API 개발 및 운영, 대용량 트래픽 처리")
+                .technicalSkills(technicalSkills)
+                .build();
+    }
+}
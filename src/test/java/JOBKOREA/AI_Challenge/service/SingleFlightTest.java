@@ -0,0 +1,86 @@
+package JOBKOREA.AI_Challenge.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("SingleFlight 동일 요청 병합 테스트")
+class SingleFlightTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+    
+    @Test
+    @DisplayName("동시에 들어온 같은 키의 요청은 한 번만 실행된다")
+    void execute_ConcurrentSameKey_RunsTaskOnce() throws Exception {
+        // Given
+        int callers = 8;
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        
+        try {
+            // When
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute("prompt", () -> {
+                invocations.incrementAndGet();
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "result";
+            })));
+            started.await(5, TimeUnit.SECONDS);
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("prompt", () -> {
+                    invocations.incrementAndGet();
+                    return "other";
+                })));
+            }
+            // 후속 요청들이 진행 중인 요청에 합류할 때까지 대기
+            while (meterRegistry.get("openai.singleflight.coalesced").counter().count() < callers - 1) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            
+            // Then
+            for (Future<String> result : results) {
+                Assertions.assertEquals("result", result.get(5, TimeUnit.SECONDS));
+            }
+            Assertions.assertEquals(1, invocations.get(), "작업은 한 번만 실행되어야 합니다");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    @DisplayName("완료된 요청의 결과는 보관하지 않는다")
+    void execute_AfterCompletion_RunsTaskAgain() throws Exception {
+        AtomicInteger invocations = new AtomicInteger();
+        
+        singleFlight.execute("prompt", invocations::incrementAndGet);
+        singleFlight.execute("prompt", invocations::incrementAndGet);
+        
+        Assertions.assertEquals(2, invocations.get());
+    }
+    
+    @Test
+    @DisplayName("실행 중 발생한 예외는 호출자에게 그대로 전달된다")
+    void execute_TaskThrows_PropagatesException() {
+        IllegalStateException thrown = Assertions.assertThrows(IllegalStateException.class,
+                () -> singleFlight.execute("prompt", () -> {
+                    throw new IllegalStateException("실패");
+                }));
+        
+        Assertions.assertEquals("실패", thrown.getMessage());
+    }
+}
@@ -0,0 +1,162 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.config.ModelRoutingProperties;
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theokanning.openai.completion.chat.ChatCompletionChoice;
+import com.theokanning.openai.completion.chat.ChatCompletionChunk;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.processors.PublishProcessor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("스트리밍 생성 격벽 반환 테스트")
+class StreamingGenerationServiceTest {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OpenAiService openAiService = Mockito.mock(OpenAiService.class);
+    private final TokenBudgeter tokenBudgeter = Mockito.mock(TokenBudgeter.class);
+    private final PublishProcessor<ChatCompletionChunk> upstream = PublishProcessor.create();
+    private final RecordingListener listener = new RecordingListener();
+    private StreamingGenerationService streamingService;
+    
+    @BeforeEach
+    void setUp() {
+        UpstreamBulkheads bulkheads = new UpstreamBulkheads(meterRegistry, true, 10, 2, 100, 0.5, 60, 5);
+        streamingService = new StreamingGenerationService(openAiService, new ObjectMapper(),
+                Mockito.mock(PromptTemplateRegistry.class), tokenBudgeter, new OpenAIMetrics(meterRegistry), bulkheads,
+                new OpenAIRateLimiter(meterRegistry, true, 3500, 90_000, 2_000),
+                new ModelRouter(new ModelRoutingProperties(), meterRegistry, "gpt-3.5-turbo", 0.7));
+        ReflectionTestUtils.setField(streamingService, "model", "gpt-3.5-turbo");
+        ReflectionTestUtils.setField(streamingService, "maxTokens", 1000);
+        Mockito.when(tokenBudgeter.plan(Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.anyInt()))
+                .thenReturn(new TokenBudgeter.TokenBudget("프롬프트", 100, 1000));
+        Mockito.when(openAiService.streamChatCompletion(Mockito.any())).thenReturn(upstream);
+    }
+    
+    @Test
+    @DisplayName("스트림이 정상 종료되면 항목을 전달하고 격벽 권한을 반환한다")
+    void stream_Completes_ReleasesPermit() {
+        // Given
+        streamingService.streamInterviewQuestions(request(), listener);
+        Assertions.assertEquals(1, inFlight());
+        
+        // When
+        upstream.onNext(chunk("{\"questions\": [{\"question\": \"질문1\"}],"));
+        upstream.onNext(chunk(" \"analysis\": \"분석\"}"));
+        upstream.onComplete();
+        
+        // Then
+        Assertions.assertEquals(List.of("질문1"), listener.questions);
+        Assertions.assertEquals(Boolean.TRUE, listener.complete);
+        Assertions.assertEquals(0, inFlight());
+    }
+    
+    @Test
+    @DisplayName("스트림이 타임아웃으로 실패하면 격벽 권한을 반환하고 한도를 줄인다")
+    void stream_Fails_ReleasesPermitWithOutcome() {
+        // Given
+        streamingService.streamInterviewQuestions(request(), listener);
+        
+        // When
+        upstream.onError(new SocketTimeoutException("timeout"));
+        
+        // Then
+        Assertions.assertInstanceOf(SocketTimeoutException.class, listener.error);
+        Assertions.assertEquals(0, inFlight());
+        Assertions.assertEquals(5.0, meterRegistry.get("openai.concurrency.limit")
+                .tag("bulkhead", PromptTemplateRegistry.INTERVIEW_QUESTIONS).gauge().value());
+    }
+    
+    @Test
+    @DisplayName("응답 조각을 해석할 수 없으면 오류를 전달하고 격벽 권한을 반환한다")
+    void stream_MalformedChunk_ReportsErrorAndReleasesPermit() {
+        // Given
+        streamingService.streamInterviewQuestions(request(), listener);
+        
+        // When
+        upstream.onNext(chunk("{\"questions\": [}"));
+        
+        // Then
+        Assertions.assertInstanceOf(JsonProcessingException.class, listener.error);
+        Assertions.assertFalse(upstream.hasSubscribers());
+        Assertions.assertEquals(0, inFlight());
+        Assertions.assertEquals(1, meterRegistry.get("openai.call").tag("outcome", OpenAIMetrics.PARSE_FAILURE).timer().count());
+    }
+    
+    @Test
+    @DisplayName("클라이언트 연결 종료로 구독을 해제하면 격벽 권한을 반환하고 업스트림 스트림도 취소한다")
+    void stream_Disposed_ReleasesPermit() {
+        // Given
+        Disposable subscription = streamingService.streamInterviewQuestions(request(), listener);
+        upstream.onNext(chunk("{\"questions\": ["));
+        
+        // When
+        subscription.dispose();
+        
+        // Then
+        Assertions.assertFalse(upstream.hasSubscribers());
+        Assertions.assertEquals(0, inFlight());
+        Assertions.assertNull(listener.complete);
+    }
+    
+    private double inFlight() {
+        return meterRegistry.get("openai.concurrency.inflight")
+                .tag("bulkhead", PromptTemplateRegistry.INTERVIEW_QUESTIONS).gauge().value();
+    }
+    
+    private static ResumeRequestDto request() {
+        return ResumeRequestDto.builder()
+                .careerSummary("3년차 백엔드 개발자")
+                .jobDescription("커머스 서비스 개발")
+                .technicalSkills("Java, Spring Boot")
+                .build();
+    }
+    
+    private static ChatCompletionChunk chunk(String content) {
+        ChatCompletionChoice choice = new ChatCompletionChoice();
+        choice.setMessage(new ChatMessage("assistant", content));
+        ChatCompletionChunk chunk = new ChatCompletionChunk();
+        chunk.setChoices(List.of(choice));
+        return chunk;
+    }
+    
+    private static class RecordingListener implements GenerationStreamListener<InterviewQuestionsResponseDto.QuestionDto> {
+        
+        private final List<String> questions = new ArrayList<>();
+        private Boolean complete;
+        private Throwable error;
+        
+        @Override
+        public void onItem(InterviewQuestionsResponseDto.QuestionDto item) {
+            questions.add(item.getQuestion());
+        }
+        
+        @Override
+        public void onField(String name, String value) {
+        }
+        
+        @Override
+        public void onComplete(boolean complete) {
+            this.complete = complete;
+        }
+        
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.InterviewQuestionsResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+@DisplayName("StructuredOutput 구조화 출력 스키마 테스트")
+class StructuredOutputTest {
+    
+    @Test
+    @DisplayName("DTO 필드로 모든 필드가 필수인 JSON Schema를 만든다")
+    @SuppressWarnings("unchecked")
+    void schema_Dto_RequiresAllFields() {
+        // When
+        Map<String, Object> schema = StructuredOutput.schema(InterviewQuestionsResponseDto.class);
+        
+        // Then
+        Assertions.assertEquals("object", schema.get("type"));
+        Assertions.assertEquals(List.of("questions", "analysis"), schema.get("required"));
+        Assertions.assertEquals(false, schema.get("additionalProperties"));
+        Map<String, Object> questions = (Map<String, Object>) ((Map<String, Object>) schema.get("properties")).get("questions");
+        Assertions.assertEquals("array", questions.get("type"));
+        Map<String, Object> item = (Map<String, Object>) questions.get("items");
+        Assertions.assertEquals(List.of("question", "category", "difficulty", "expectedAnswer", "tips"), item.get("required"));
+    }
+    
+    @Test
+    @DisplayName("function 모드에서만 생성 유형별 함수를 반환한다")
+    void function_Mode_ReturnsFunctionOnlyInFunctionMode() {
+        // Given
+        StructuredOutput text = new StructuredOutput(new ObjectMapper(), "text");
+        StructuredOutput function = new StructuredOutput(new ObjectMapper(), "function");
+        
+        // When & Then
+        Assertions.assertNull(text.function(PromptTemplateRegistry.LEARNING_PATH));
+        StructuredOutput.OutputFunction learningPath = function.function(PromptTemplateRegistry.LEARNING_PATH);
+        Assertions.assertEquals("submit_learning_path", learningPath.getName());
+        Assertions.assertTrue(learningPath.getPromptTokens() > 0);
+        Assertions.assertNotNull(function.function(PromptTemplateRegistry.COMPREHENSIVE));
+    }
+    
+    @Test
+    @DisplayName("지원하지 않는 모드는 예외가 발생한다")
+    void outputMode_Unknown_Throws() {
+        Assertions.assertEquals(StructuredOutput.OutputMode.FUNCTION, StructuredOutput.OutputMode.from(" Function "));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StructuredOutput.OutputMode.from("json_schema"));
+    }
+}
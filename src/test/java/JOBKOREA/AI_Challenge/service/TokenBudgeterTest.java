@@ -0,0 +1,67 @@
+package JOBKOREA.AI_Challenge.service;
+
+import JOBKOREA.AI_Challenge.dto.ResumeRequestDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TokenBudgeter 토큰 예산 테스트")
+class TokenBudgeterTest {
+    
+    private static final String MODEL = "gpt-3.5-turbo";
+    
+    private final PromptTemplate template = PromptTemplate.compile(PromptTemplateRegistry.INTERVIEW_QUESTIONS, "test",
+            "경력: {{careerSummary}}\n직무: {{jobDescription}}\n기술: {{technicalSkills}}\n추가: {{additionalInfo}}");
+    
+    @Test
+    @DisplayName("공백, 중복 기술, 상투 문구를 제거한다")
+    void compact_RemovesWhitespaceDuplicatesAndBoilerplate() {
+        TokenBudgeter budgeter = new TokenBudgeter(new SimpleMeterRegistry(), true, 16385, 2500, 2600, 2200, 4800);
+        ResumeRequestDto resumeRequest = ResumeRequestDto.builder()
+                .careerSummary("안녕하세요.   3년차   백엔드 개발자입니다.\n\n감사합니다.")
+                .jobDescription("커머스 서비스 개발")
+                .technicalSkills("Java, Spring Boot, java / Spring  Boot, AWS")
+                .additionalInfo("   ")
+                .build();
+        
+        ResumeRequestDto compacted = budgeter.compact(resumeRequest);
+        
+        Assertions.assertEquals("3년차 백엔드 개발자입니다.", compacted.getCareerSummary());
+        Assertions.assertEquals("Java, Spring Boot, AWS", compacted.getTechnicalSkills());
+        Assertions.assertNull(compacted.getAdditionalInfo());
+    }
+    
+    @Test
+    @DisplayName("기술명에 포함된 '/'는 구분자로 보지 않는다")
+    void compact_SlashInsideSkillName_KeepsSkill() {
+        TokenBudgeter budgeter = new TokenBudgeter(new SimpleMeterRegistry(), true, 16385, 2500, 2600, 2200, 4800);
+        ResumeRequestDto resumeRequest = ResumeRequestDto.builder()
+                .careerSummary("5년차 인프라 엔지니어")
+                .jobDescription("배포 파이프라인 운영")
+                .technicalSkills("CI/CD, TCP/IP / PL/SQL,ci/cd, Oracle")
+                .build();
+        
+        ResumeRequestDto compacted = budgeter.compact(resumeRequest);
+        
+        Assertions.assertEquals("CI/CD, TCP/IP, PL/SQL, Oracle", compacted.getTechnicalSkills());
+    }
+    
+    @Test
+    @DisplayName("프롬프트 예산을 넘으면 필드를 잘라내고 maxTokens를 컨텍스트 창에 맞춘다")
+    void plan_OversizedInput_TrimsPromptAndClampsMaxTokens() {
+        TokenBudgeter budgeter = new TokenBudgeter(new SimpleMeterRegistry(), true, 1000, 300, 2600, 2200, 4800);
+        ResumeRequestDto resumeRequest = ResumeRequestDto.builder()
+                .careerSummary("대규모 트래픽 커머스 서비스 운영 경험이 있는 백엔드 개발자. ".repeat(20))
+                .jobDescription("주문 결제 도메인 설계와 장애 대응 자동화. ".repeat(20))
+                .technicalSkills("Java, Spring Boot, Kafka")
+                .additionalInfo("사내 기술 세미나 발표 및 오픈소스 기여 경험. ".repeat(10))
+                .build();
+        
+        TokenBudgeter.TokenBudget budget = budgeter.plan(template, resumeRequest, MODEL, 3000);
+        
+        Assertions.assertTrue(budget.getPromptTokens() <= 300, "프롬프트 토큰: " + budget.getPromptTokens());
+        Assertions.assertTrue(budget.getPrompt().contains("기술: Java, Spring Boot, Kafka"));
+        Assertions.assertEquals(1000 - budget.getPromptTokens(), budget.getMaxTokens());
+    }
+}
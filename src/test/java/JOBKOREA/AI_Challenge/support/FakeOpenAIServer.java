@@ -0,0 +1,451 @@
+package JOBKOREA.AI_Challenge.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 OpenAI chat-completions 대역 서버
+ * 지연 분포에 따라 응답을 늦춘 뒤 면접 질문/학습 경로/통합 분석 형식의 완성 응답을 반환하며, 동시에 처리 중인 요청 수의 최대값을 기록합니다.
+ * - 응답 지연: 고정, 균등, 로그정규(중앙값과 p99로 지정), 드문 꼬리 지연 (LatencyProfile)
+ * - 오류와 이상 응답: 429(Retry-After 포함), 5xx, 잘린 JSON(finish_reason=length), 아주 큰 JSON을 비율로 섞거나 enqueue로 순서대로 지정
+ * - "stream": true 요청은 SSE 조각으로 나누어 전송하고 data: [DONE]으로 종료
+ * - 응답 usage에 메시지 길이로 추정한 토큰 수를 넣고, 서버 전체 누적값을 기록
+ * openai.api.base-url 을 {@link #baseUrl()} 로 지정하여 사용합니다.
+ */
+public class FakeOpenAIServer implements AutoCloseable {
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LatencyProfile latency;
+    private final Map<Behavior, Double> ratios;
+    private final Random random;
+    private final Duration retryAfter;
+    private final int oversizedItems;
+    private final int streamChunkChars;
+    private final Queue<Behavior> script = new ConcurrentLinkedQueue<>();
+    private final Map<Behavior, AtomicInteger> behaviorCounts = new EnumMap<>(Behavior.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicLong promptTokens = new AtomicLong();
+    private final AtomicLong completionTokens = new AtomicLong();
+    
+    private FakeOpenAIServer(Builder builder) throws IOException {
+        this.latency = builder.latency;
+        this.ratios = new EnumMap<>(builder.ratios);
+        this.random = new Random(builder.seed);
+        this.retryAfter = builder.retryAfter;
+        this.oversizedItems = builder.oversizedItems;
+        this.streamChunkChars = builder.streamChunkChars;
+        for (Behavior behavior : Behavior.values()) {
+            behaviorCounts.put(behavior, new AtomicInteger());
+        }
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server.setExecutor(executor);
+        this.server.createContext("/v1/chat/completions", this::handleChatCompletion);
+    }
+    
+    public static FakeOpenAIServer start(Duration latency) throws IOException {
+        return builder().latency(LatencyProfile.fixed(latency)).start();
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+    
+    /**
+     * 다음 요청부터 순서대로 적용할 응답 유형 지정 (비율 설정보다 우선)
+     */
+    public FakeOpenAIServer enqueue(Behavior... behaviors) {
+        script.addAll(List.of(behaviors));
+        return this;
+    }
+    
+    public int peakInFlight() {
+        return peakInFlight.get();
+    }
+    
+    public int requestCount() {
+        return requestCount.get();
+    }
+    
+    public int count(Behavior behavior) {
+        return behaviorCounts.get(behavior).get();
+    }
+    
+    public long promptTokens() {
+        return promptTokens.get();
+    }
+    
+    public long completionTokens() {
+        return completionTokens.get();
+    }
+    
+    private void handleChatCompletion(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(current, Math::max);
+        requestCount.incrementAndGet();
+        try {
+            JsonNode request = MAPPER.readTree(exchange.getRequestBody());
+            Behavior behavior = nextBehavior();
+            behaviorCounts.get(behavior).incrementAndGet();
+            
+            // 한도 초과와 서버 오류는 생성 없이 바로 응답
+            if (behavior == Behavior.RATE_LIMITED) {
+                exchange.getResponseHeaders().add("retry-after-ms", String.valueOf(retryAfter.toMillis()));
+                exchange.getResponseHeaders().add("Retry-After", String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000)));
+                sendError(exchange, 429, "Rate limit reached for requests", "requests");
+                return;
+            }
+            if (behavior == Behavior.SERVER_ERROR) {
+                sendError(exchange, 500, "The server had an error while processing your request.", "server_error");
+                return;
+            }
+            
+            Generated generated = generate(request, behavior);
+            int prompt = estimateTokens(promptText(request));
+            int completion = estimateTokens(generated.content());
+            promptTokens.addAndGet(prompt);
+            completionTokens.addAndGet(completion);
+            
+            long latencyMillis = sampleLatencyMillis();
+            if (request.path("stream").asBoolean(false)) {
+                stream(exchange, generated, latencyMillis);
+            } else {
+                Thread.sleep(latencyMillis);
+                byte[] body = MAPPER.writeValueAsBytes(completion(generated.content(), generated.finishReason(), prompt, completion));
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(503, -1);
+        } catch (IOException e) {
+            // 클라이언트가 먼저 연결을 끊은 경우(타임아웃, 헤징으로 취소 등)
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+    
+    /**
+     * 응답 지연의 20%를 첫 조각까지, 나머지를 조각 사이에 나누어 전송
+     */
+    private void stream(HttpExchange exchange, Generated generated, long latencyMillis) throws IOException, InterruptedException {
+        List<String> deltas = new ArrayList<>();
+        String content = generated.content();
+        for (int i = 0; i < content.length(); i += streamChunkChars) {
+            deltas.add(content.substring(i, Math.min(content.length(), i + streamChunkChars)));
+        }
+        long firstTokenNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis) / 5;
+        long perChunkNanos = deltas.isEmpty() ? 0L : (TimeUnit.MILLISECONDS.toNanos(latencyMillis) - firstTokenNanos) / deltas.size();
+        
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            Thread.sleep(Duration.ofNanos(firstTokenNanos));
+            for (String delta : deltas) {
+                writeEvent(out, chunk(Map.of("content", delta), null));
+                Thread.sleep(Duration.ofNanos(perChunkNanos));
+            }
+            writeEvent(out, chunk(Map.of(), generated.finishReason()));
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+    }
+    
+    private static void writeEvent(OutputStream out, Map<String, Object> event) throws IOException {
+        out.write(("data: " + MAPPER.writeValueAsString(event) + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+    
+    private static void sendError(HttpExchange exchange, int status, String message, String type) throws IOException {
+        byte[] body = MAPPER.writeValueAsBytes(Map.of("error", Map.of("message", message, "type", type)));
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+    
+    private Behavior nextBehavior() {
+        Behavior scripted = script.poll();
+        if (scripted != null) {
+            return scripted;
+        }
+        double draw = random.nextDouble();
+        for (Map.Entry<Behavior, Double> ratio : ratios.entrySet()) {
+            draw -= ratio.getValue();
+            if (draw < 0) {
+                return ratio.getKey();
+            }
+        }
+        return Behavior.OK;
+    }
+    
+    private long sampleLatencyMillis() {
+        return Math.max(0L, latency.sampleMillis(random));
+    }
+    
+    /**
+     * 이어쓰기 요청(assistant 메시지 포함)에는 앞부분 이후의 나머지를 반환하여 잘린 응답을 이어 붙일 수 있게 함
+     */
+    private Generated generate(JsonNode request, Behavior behavior) throws IOException {
+        String prompt = request.path("messages").path(0).path("content").asText();
+        String full = behavior == Behavior.OVERSIZED ? oversizedContent(prompt) : content(prompt);
+        
+        for (JsonNode message : request.path("messages")) {
+            if ("assistant".equals(message.path("role").asText())) {
+                String previous = message.path("content").asText();
+                return new Generated(full.startsWith(previous) ? full.substring(previous.length()) : "", "stop");
+            }
+        }
+        if (behavior == Behavior.TRUNCATED) {
+            return new Generated(full.substring(0, full.length() / 2), "length");
+        }
+        return new Generated(full, "stop");
+    }
+    
+    static String content(String prompt) {
+        if (prompt.contains("interviewQuestions")) {
+            return "{\"interviewQuestions\": " + interviewQuestionsContent().strip()
+                    + ", \"learningPath\": " + learningPathContent().strip() + "}";
+        }
+        return prompt.contains("learningSteps") ? learningPathContent() : interviewQuestionsContent();
+    }
+    
+    private String oversizedContent(String prompt) throws IOException {
+        List<Map<String, Object>> questions = new ArrayList<>();
+        List<Map<String, Object>> steps = new ArrayList<>();
+        for (int i = 1; i <= oversizedItems; i++) {
+            questions.add(Map.of("question", "질문 " + i + ": " + "대규모 트래픽 환경에서의 설계 경험을 설명해주세요. ".repeat(4),
+                    "category", "기술적 역량", "difficulty", "고급",
+                    "expectedAnswer", "캐시, 샤딩, 비동기 처리 ".repeat(8), "tips", "구체적인 수치를 들어 설명하세요"));
+            steps.add(Map.of("step", "학습 단계 " + i, "description", "분산 시스템 설계와 운영 ".repeat(8),
+                    "priority", "중간", "resources", "공식 문서"));
+        }
+        Map<String, Object> interview = new LinkedHashMap<>();
+        interview.put("questions", questions);
+        interview.put("analysis", "매우 긴 응답입니다.");
+        Map<String, Object> learning = new LinkedHashMap<>();
+        learning.put("summary", "매우 긴 응답입니다.");
+        learning.put("learningSteps", steps);
+        learning.put("estimatedDuration", "12개월");
+        
+        if (prompt.contains("interviewQuestions")) {
+            return MAPPER.writeValueAsString(Map.of("interviewQuestions", interview, "learningPath", learning));
+        }
+        return MAPPER.writeValueAsString(prompt.contains("learningSteps") ? learning : interview);
+    }
+    
+    private static String promptText(JsonNode request) {
+        StringBuilder text = new StringBuilder();
+        for (JsonNode message : request.path("messages")) {
+            text.append(message.path("content").asText());
+        }
+        return text.toString();
+    }
+    
+    // 한글이 많은 응답 기준의 대략적인 추정 (글자 2개당 1토큰)
+    private static int estimateTokens(String text) {
+        return (text.length() + 1) / 2;
+    }
+    
+    static Map<String, Object> completion(String content, String finishReason, int promptTokens, int completionTokens) {
+        return Map.of(
+                "id", "chatcmpl-fake",
+                "object", "chat.completion",
+                "created", System.currentTimeMillis() / 1000,
+                "model", "gpt-3.5-turbo",
+                "choices", List.of(Map.of(
+                        "index", 0,
+                        "message", Map.of("role", "assistant", "content", content),
+                        "finish_reason", finishReason)),
+                "usage", Map.of(
+                        "prompt_tokens", promptTokens,
+                        "completion_tokens", completionTokens,
+                        "total_tokens", promptTokens + completionTokens));
+    }
+    
+    private static Map<String, Object> chunk(Map<String, Object> delta, String finishReason) {
+        Map<String, Object> choice = new LinkedHashMap<>();
+        choice.put("index", 0);
+        choice.put("delta", delta);
+        choice.put("finish_reason", finishReason);
+        return Map.of(
+                "id", "chatcmpl-fake",
+                "object", "chat.completion.chunk",
+                "created", System.currentTimeMillis() / 1000,
+                "model", "gpt-3.5-turbo",
+                "choices", List.of(choice));
+    }
+    
+    static String interviewQuestionsContent() {
+        return """
+            {
+              "questions": [
+                {"question": "Spring Boot에서 트랜잭션 전파 속성을 설명해주세요", "category": "기술적 역량", "difficulty": "중급", "expectedAnswer": "REQUIRED, REQUIRES_NEW 등의 차이", "tips": "실제 사용 사례를 함께 설명하세요"},
+                {"question": "MSA 전환 시 가장 어려웠던 점은 무엇인가요?", "category": "프로젝트 경험", "difficulty": "고급", "expectedAnswer": "서비스 분리 기준과 데이터 정합성", "tips": "STAR 방법론을 활용하세요"}
+              ],
+              "analysis": "백엔드 역량 중심의 질문입니다."
+            }
+            """;
+    }
+    
+    static String learningPathContent() {
+        return """
+            {
+              "summary": "백엔드 기본 역량을 갖추고 있습니다.",
+              "learningSteps": [
+                {"step": "Spring Boot 심화", "description": "트랜잭션과 JPA 성능 최적화", "priority": "높음", "resources": "공식 문서"},
+                {"step": "AWS 운영", "description": "오토스케일링과 모니터링", "priority": "중간", "resources": "AWS 공식 교육"}
+              ],
+              "estimatedDuration": "3-6개월"
+            }
+            """;
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    /**
+     * 요청별 응답 유형
+     */
+    public enum Behavior {
+        OK,
+        /** 429 + Retry-After */
+        RATE_LIMITED,
+        /** 500 */
+        SERVER_ERROR,
+        /** JSON 중간에서 끊고 finish_reason=length */
+        TRUNCATED,
+        /** 항목이 oversizedItems개인 아주 큰 JSON */
+        OVERSIZED
+    }
+    
+    /**
+     * 요청별 응답 지연 분포
+     */
+    @FunctionalInterface
+    public interface LatencyProfile {
+        
+        long sampleMillis(Random random);
+        
+        static LatencyProfile fixed(Duration latency) {
+            return random -> latency.toMillis();
+        }
+        
+        static LatencyProfile uniform(Duration min, Duration max) {
+            return random -> min.toMillis() + (long) (random.nextDouble() * (max.toMillis() - min.toMillis()));
+        }
+        
+        /**
+         * 중앙값과 p99로 정하는 로그정규 분포 - 대부분 빠르고 일부가 매우 느린 실제 생성 지연에 가까움
+         */
+        static LatencyProfile logNormal(Duration median, Duration p99) {
+            double mu = Math.log(Math.max(1, median.toMillis()));
+            double sigma = Math.max(0.0, (Math.log(Math.max(1, p99.toMillis())) - mu) / 2.326);
+            return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+        }
+        
+        /**
+         * probability 비율의 요청만 tail 지연으로 응답 (드문 장애성 지연 재현)
+         */
+        default LatencyProfile withTail(double probability, Duration tail) {
+            return random -> random.nextDouble() < probability ? tail.toMillis() : sampleMillis(random);
+        }
+        
+        default LatencyProfile cappedAt(Duration max) {
+            return random -> Math.min(max.toMillis(), sampleMillis(random));
+        }
+    }
+    
+    public static class Builder {
+        
+        private LatencyProfile latency = LatencyProfile.fixed(Duration.ZERO);
+        private final Map<Behavior, Double> ratios = new EnumMap<>(Behavior.class);
+        private long seed = 42L;
+        private Duration retryAfter = Duration.ofMillis(500);
+        private int oversizedItems = 200;
+        private int streamChunkChars = 16;
+        
+        private Builder() {
+        }
+        
+        public Builder latency(LatencyProfile latency) {
+            this.latency = latency;
+            return this;
+        }
+        
+        /**
+         * 전체 요청 중 ratio 비율을 해당 유형으로 응답 (유형별 비율 합은 1 이하)
+         */
+        public Builder inject(Behavior behavior, double ratio) {
+            ratios.put(behavior, ratio);
+            return this;
+        }
+        
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+        
+        public Builder retryAfter(Duration retryAfter) {
+            this.retryAfter = retryAfter;
+            return this;
+        }
+        
+        public Builder oversizedItems(int oversizedItems) {
+            this.oversizedItems = oversizedItems;
+            return this;
+        }
+        
+        public Builder streamChunkChars(int streamChunkChars) {
+            this.streamChunkChars = streamChunkChars;
+            return this;
+        }
+        
+        public FakeOpenAIServer start() throws IOException {
+            FakeOpenAIServer fake = new FakeOpenAIServer(this);
+            fake.server.start();
+            return fake;
+        }
+    }
+    
+    private record Generated(String content, String finishReason) {
+    }
+}
@@ -0,0 +1,106 @@
+package JOBKOREA.AI_Challenge.support;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * 고정 도착률(open-loop) 부하 생성기
+ * 응답을 기다리지 않고 정해진 간격마다 요청을 보내므로 서버가 느려져도 요청 속도가 줄지 않으며,
+ * 지연은 실제 전송 시각이 아니라 예정된 전송 시각부터 측정하여 전송이 밀린 시간까지 포함합니다(coordinated omission 방지).
+ */
+public final class OpenLoopLoadGenerator {
+    
+    // 응답을 받지 못한 요청(연결 실패, 타임아웃)의 상태 코드
+    public static final int NO_RESPONSE = -1;
+    
+    private OpenLoopLoadGenerator() {
+    }
+    
+    /**
+     * @param name     결과 출력용 이름
+     * @param rate     초당 요청 수
+     * @param requests 요청 순번별 HTTP 요청
+     */
+    public static Report run(HttpClient client, String name, double rate, Duration duration,
+                             IntFunction<HttpRequest> requests) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        int total = (int) Math.max(1, Math.round(rate * duration.toMillis() / 1000.0));
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        List<CompletableFuture<?>> pending = new ArrayList<>(total);
+        
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long scheduled = start + i * intervalNanos;
+            for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            pending.add(client.sendAsync(requests.apply(i), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies.add(System.nanoTime() - scheduled);
+                        int status = error == null ? response.statusCode() : NO_RESPONSE;
+                        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+                    }));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+        long elapsedNanos = System.nanoTime() - start;
+        
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Report(name, rate, total, statusCounts, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.95), percentileMillis(sorted, 0.99),
+                percentileMillis(sorted, 1.0));
+    }
+    
+    static long percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(0, index)]);
+    }
+    
+    /**
+     * 부하 실행 결과
+     * @param statusCounts 상태 코드별 응답 수 (NO_RESPONSE는 응답을 받지 못한 요청)
+     */
+    public record Report(String name, double rate, int sent, Map<Integer, Long> statusCounts, long elapsedMillis,
+                         long p50Millis, long p95Millis, long p99Millis, long maxMillis) {
+        
+        public long succeeded() {
+            return statusCounts.getOrDefault(200, 0L);
+        }
+        
+        public double successRatio() {
+            return sent == 0 ? 0.0 : (double) succeeded() / sent;
+        }
+        
+        public double throughput() {
+            return elapsedMillis == 0 ? 0.0 : succeeded() * 1000.0 / elapsedMillis;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("[%s] 도착률: %.1f req/s, 전송: %d, 성공: %d (%.1f%%), 처리량: %.1f req/s, 지연 p50/p95/p99/max: %d/%d/%d/%dms, 상태 코드: %s",
+                    name, rate, sent, succeeded(), successRatio() * 100, throughput(),
+                    p50Millis, p95Millis, p99Millis, maxMillis, statusCounts);
+        }
+    }
+}